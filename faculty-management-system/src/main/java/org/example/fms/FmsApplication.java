@@ -2,14 +2,21 @@ package org.example.fms;
 
 import org.apache.catalina.Context;
 import org.apache.catalina.startup.Tomcat;
+import org.example.fms.core.audit.AuditLogger;
+import org.example.fms.core.calendar.HolidayRefresher;
+import org.example.fms.core.config.FmsConfig;
 import org.example.fms.core.database.DatabaseConnectionManager;
-import org.example.fms.core.security.PasswordUtil;
+import org.example.fms.core.database.seed.PasswordHashes;
+import org.example.fms.core.server.ReadinessGate;
+import org.example.fms.core.server.RequestExecutors;
+import org.example.fms.core.server.StartupOrchestrator;
 
 import javax.swing.UIManager;
 import java.io.File;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.UUID;
 
 /**
@@ -18,41 +25,187 @@ import java.util.UUID;
  */
 public class FmsApplication {
 
+    private static final int STARTUP_THREADS = 3;
+    private static final String SUPER_ADMIN_PASSWORD = "admin";
+
     public static void main(String[] args) throws Exception {
-        // 1. Initialize Database with Massive Data (Only if empty)
-        try (Connection conn = DatabaseConnectionManager.getConnection()) {
-            // First, always make sure the schema (including the holidays table) is
-            // up-to-date
-            org.example.fms.core.database.DatabaseSeeder.initSchema(conn);
+        // Phases run as soon as what they need is done; the timeline at the end
+        // shows where startup time went
+        StartupOrchestrator startup = new StartupOrchestrator(STARTUP_THREADS);
 
-            String checkSql = "SELECT COUNT(*) FROM subjects";
-            try (PreparedStatement stmt = conn.prepareStatement(checkSql)) {
-                try (ResultSet rs = stmt.executeQuery()) {
-                    if (rs.next() && rs.getInt(1) == 0) {
-                        System.out.println("No subject data found. Initializing database with dummy data...");
-                        org.example.fms.core.database.DatabaseSeeder.seedDummyData();
-                    } else {
-                        System.out.println("Database already contains data. Skipping default seeding.");
-                        // But always re-seed holidays if they are missing (separate table)
-                        org.example.fms.core.database.DatabaseSeeder.seedHolidaysPublic(conn);
-                    }
-                }
+        // 0. Load and validate the configuration; a bad setting stops startup here
+        FmsConfig config = startup.call("config", FmsConfig::get);
+        System.out.println("Configuration profile: " + config.getProfile());
+        for (String line : config.describe()) {
+            System.out.println("  " + line);
+        }
+
+        // On JVM exit, flush queued audit records first, then release pooled
+        // database connections
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            AuditLogger.shutdown();
+            DatabaseConnectionManager.shutdown();
+        }, "fms-shutdown"));
+
+        // 1. Start the embedded Tomcat server straight away. Until the database
+        // is ready the API answers 503 "still starting up" rather than 404.
+        ReadinessGate.beginStartup();
+        Tomcat tomcat = startup.call("http-connector", () -> {
+            Tomcat server = createServer(config);
+            server.start();
+            return server;
+        });
+
+        System.out.println("---------------------------------------------------------");
+        System.out.println("Starting Faculty Management System...");
+        System.out.println("Server running at: http://localhost:" + config.getServerPort());
+        System.out.println("Super Admin Email: admin@faculty.edu");
+        System.out.println("Super Admin Password: admin");
+        System.out.println("---------------------------------------------------------");
+
+        // 2. Launch the Java Swing Desktop Client while the database is prepared
+        javax.swing.SwingUtilities.invokeLater(() -> {
+            try {
+                UIManager.setLookAndFeel("com.formdev.flatlaf.FlatLightLaf");
+            } catch (Exception ex) {
+                System.err.println("Could not initialize FlatLaf");
+            }
+            new org.example.fms.ui.LoginFrame().setVisible(true);
+        });
+
+        // 3. Bring the schema up to date (a failed migration aborts startup) and
+        // make sure the Super Admin can log in. The admin password is hashed
+        // while the migrations run, as BCrypt takes a noticeable fraction of a
+        // second and the two do not depend on each other.
+        PasswordHashes hashes = new PasswordHashes();
+        hashes.prefetch(SUPER_ADMIN_PASSWORD);
+        StartupOrchestrator.Phase schema = startup.critical("schema", () -> {
+            try (Connection conn = DatabaseConnectionManager.getConnection()) {
+                org.example.fms.core.database.DatabaseSeeder.initSchema(conn);
+            }
+        });
+        StartupOrchestrator.Phase superAdmin = startup.critical("super-admin",
+                () -> seedInitialSuperAdmin(hashes), schema);
+
+        // 4. Reference and demo data are not needed to log in, so they load in
+        // the background once the schema exists. Demo data waits for the other
+        // two, which write some of the same rows.
+        StartupOrchestrator.Phase holidays = startup.background("holidays", () -> {
+            try (Connection conn = DatabaseConnectionManager.getConnection()) {
+                org.example.fms.core.database.DatabaseSeeder.seedHolidaysPublic(conn);
             }
+        }, schema);
+        StartupOrchestrator.Phase demoData = startup.background("demo-data", FmsApplication::seedDemoDataIfEmpty,
+                superAdmin, holidays);
+        // Update the bundled holiday calendar from the API last, so it compares
+        // against the complete table
+        if (config.isHolidayRefreshEnabled()) {
+            startup.background("holiday-refresh", () -> {
+                try (Connection conn = DatabaseConnectionManager.getConnection()) {
+                    HolidayRefresher.fromConfig(config).refresh(conn);
+                }
+            }, holidays, demoData);
+        }
+
+        try {
+            startup.awaitCritical();
+        } catch (IllegalStateException e) {
+            ReadinessGate.markFailed(e.getMessage());
+            printTimeline(startup);
+            tomcat.stop();
+            tomcat.destroy();
+            throw e;
         }
+        ReadinessGate.markReady();
+        System.out.println("Ready for requests after " + startup.elapsedMillis() + " ms.");
+        startup.whenAllDone().thenRun(() -> printTimeline(startup));
+
+        tomcat.getServer().await();
+    }
+
+    private static void printTimeline(StartupOrchestrator startup) {
+        StringBuilder out = new StringBuilder("Startup timeline (ms since launch):");
+        for (String line : startup.timeline()) {
+            out.append(System.lineSeparator()).append("  ").append(line);
+        }
+        System.out.println(out);
+    }
 
-        // 2. Ensure the Super Admin account exists
-        seedInitialSuperAdmin();
+    /**
+     * Seeds the demo data on a fresh database, detected by it having no subjects.
+     */
+    private static void seedDemoDataIfEmpty() throws java.sql.SQLException {
+        boolean empty;
+        try (Connection conn = DatabaseConnectionManager.getConnection();
+                PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM subjects LIMIT 1");
+                ResultSet rs = stmt.executeQuery()) {
+            empty = !rs.next();
+        }
+        if (empty) {
+            System.out.println("No subject data found. Initializing database with dummy data...");
+            org.example.fms.core.database.DatabaseSeeder.seedDummyData();
+        } else {
+            System.out.println("Database already contains data. Skipping default seeding.");
+        }
+    }
 
-        // 3. Start Embedded Tomcat Server
+    /**
+     * Builds the embedded server: the connector tuned from the configuration,
+     * the API servlets and the filter chain. The caller starts it. Also used by
+     * the load test harness, which runs the same server against another
+     * database.
+     */
+    public static Tomcat createServer(FmsConfig config) {
         Tomcat tomcat = new Tomcat();
-        tomcat.setPort(8080);
-        tomcat.getConnector(); // Force initialization of the default connector
+        tomcat.setPort(config.getServerPort());
+        org.apache.catalina.connector.Connector connector = tomcat.getConnector(); // Force initialization of the default connector
+        connector.setProperty("maxThreads", Integer.toString(config.getMaxThreads()));
+        connector.setProperty("minSpareThreads", Integer.toString(config.getMinSpareThreads()));
+        connector.setProperty("acceptCount", Integer.toString(config.getAcceptCount()));
+        connector.setProperty("maxConnections", Integer.toString(config.getMaxConnections()));
+        connector.setProperty("connectionTimeout", Integer.toString(config.getConnectionTimeoutMillis()));
+        connector.setProperty("keepAliveTimeout", Integer.toString(config.getKeepAliveTimeoutMillis()));
+        connector.setProperty("maxKeepAliveRequests", Integer.toString(config.getMaxKeepAliveRequests()));
+        // The desktop client keeps one connection open and asks for gzip; list
+        // payloads are large and repetitive JSON, so compress them on the wire
+        connector.setProperty("compression", config.getCompression());
+        connector.setProperty("compressionMinSize", Integer.toString(config.getCompressionMinSize()));
+        connector.setProperty("compressibleMimeType", config.getCompressibleMimeTypes());
+        // Accept HTTP/2 over cleartext (h2c) so the client can multiplex requests;
+        // the HTTP/2 handler takes its compression settings from the connector
+        if (config.isHttp2Enabled()) {
+            connector.addUpgradeProtocol(new org.apache.coyote.http2.Http2Protocol());
+        }
+
+        // server.threads=virtual runs each request on its own virtual thread
+        // (Java 21+). Blocking on JDBC then no longer ties up a pool thread; the
+        // connection gate keeps database access bounded by the pool size.
+        if (config.getServerThreads() == FmsConfig.ThreadModel.VIRTUAL) {
+            java.util.concurrent.ExecutorService executor = RequestExecutors.newVirtualThreadExecutor();
+            if (executor != null) {
+                connector.getProtocolHandler().setExecutor(executor);
+                DatabaseConnectionManager.enableConcurrencyGate();
+                System.out.println("Request handling runs on virtual threads.");
+            } else {
+                System.err.println("Warning: virtual threads need Java 21 or later (running "
+                        + System.getProperty("java.version") + "); using platform threads.");
+            }
+        }
 
         // Initialize as an API-only context instead of a full webapp
         Context context = tomcat.addContext("", new File(".").getAbsolutePath());
 
+        // One JSON line per completed request, written off the request thread
+        if (config.isAccessLogEnabled()) {
+            context.getPipeline().addValve(new org.example.fms.core.server.JsonAccessLog(config.getAccessLogFile(),
+                    config.getAccessLogQueueCapacity()));
+        }
+
         // Explicitly Register Servlets
-        Tomcat.addServlet(context, "loginServlet", new org.example.fms.core.security.LoginServlet());
+        // Login verifies passwords asynchronously; the auth filter in front of it
+        // must allow async too
+        Tomcat.addServlet(context, "loginServlet", new org.example.fms.core.security.LoginServlet())
+                .setAsyncSupported(true);
         context.addServletMappingDecoded("/api/v1/auth/login", "loginServlet");
 
         Tomcat.addServlet(context, "studentProfileServlet",
@@ -66,10 +219,53 @@ public class FmsApplication {
         Tomcat.addServlet(context, "dashboardDataServlet", new org.example.fms.core.api.servlet.DashboardDataServlet());
         context.addServletMappingDecoded("/api/v1/dashboard/data", "dashboardDataServlet");
 
+        Tomcat.addServlet(context, "calendarServlet", new org.example.fms.core.api.servlet.CalendarServlet());
+        context.addServletMappingDecoded("/api/v1/calendar", "calendarServlet");
+
+        Tomcat.addServlet(context, "metricsServlet", new org.example.fms.core.api.servlet.MetricsServlet());
+        context.addServletMappingDecoded("/api/v1/admin/metrics", "metricsServlet");
+
+        // Request IDs first, so everything after (metrics, auth, servlets) can use them
+        org.apache.tomcat.util.descriptor.web.FilterDef contextFilterDef = new org.apache.tomcat.util.descriptor.web.FilterDef();
+        contextFilterDef.setFilterName("requestContextFilter");
+        contextFilterDef.setFilterClass(org.example.fms.core.server.RequestContextFilter.class.getName());
+        contextFilterDef.setAsyncSupported("true");
+        context.addFilterDef(contextFilterDef);
+
+        org.apache.tomcat.util.descriptor.web.FilterMap contextFilterMap = new org.apache.tomcat.util.descriptor.web.FilterMap();
+        contextFilterMap.setFilterName("requestContextFilter");
+        contextFilterMap.addURLPatternDecoded("/*");
+        context.addFilterMap(contextFilterMap);
+
+        // Metrics filter next, so requests the auth filter rejects are counted too
+        org.apache.tomcat.util.descriptor.web.FilterDef metricsFilterDef = new org.apache.tomcat.util.descriptor.web.FilterDef();
+        metricsFilterDef.setFilterName("metricsFilter");
+        metricsFilterDef.setFilterClass(org.example.fms.core.metrics.MetricsFilter.class.getName());
+        metricsFilterDef.setAsyncSupported("true");
+        context.addFilterDef(metricsFilterDef);
+
+        org.apache.tomcat.util.descriptor.web.FilterMap metricsFilterMap = new org.apache.tomcat.util.descriptor.web.FilterMap();
+        metricsFilterMap.setFilterName("metricsFilter");
+        metricsFilterMap.addURLPatternDecoded("/*");
+        context.addFilterMap(metricsFilterMap);
+
+        // Turn requests away with 503 until startup has prepared the database
+        org.apache.tomcat.util.descriptor.web.FilterDef readinessFilterDef = new org.apache.tomcat.util.descriptor.web.FilterDef();
+        readinessFilterDef.setFilterName("readinessFilter");
+        readinessFilterDef.setFilterClass(org.example.fms.core.server.ReadinessFilter.class.getName());
+        readinessFilterDef.setAsyncSupported("true");
+        context.addFilterDef(readinessFilterDef);
+
+        org.apache.tomcat.util.descriptor.web.FilterMap readinessFilterMap = new org.apache.tomcat.util.descriptor.web.FilterMap();
+        readinessFilterMap.setFilterName("readinessFilter");
+        readinessFilterMap.addURLPatternDecoded("/api/v1/*");
+        context.addFilterMap(readinessFilterMap);
+
         // Explicitly Register Auth Filter
         org.apache.tomcat.util.descriptor.web.FilterDef filterDef = new org.apache.tomcat.util.descriptor.web.FilterDef();
         filterDef.setFilterName("authFilter");
         filterDef.setFilterClass(org.example.fms.core.security.AuthFilter.class.getName());
+        filterDef.setAsyncSupported("true");
         context.addFilterDef(filterDef);
 
         org.apache.tomcat.util.descriptor.web.FilterMap filterMap = new org.apache.tomcat.util.descriptor.web.FilterMap();
@@ -77,32 +273,15 @@ public class FmsApplication {
         filterMap.addURLPatternDecoded("/api/v1/*"); // Protect all API endpoints
         context.addFilterMap(filterMap);
 
-        System.out.println("---------------------------------------------------------");
-        System.out.println("Starting Faculty Management System...");
-        System.out.println("Server running at: http://localhost:8080");
-        System.out.println("Super Admin Email: admin@faculty.edu");
-        System.out.println("Super Admin Password: admin");
-        System.out.println("---------------------------------------------------------");
-
-        // 4. Launch the Java Swing Desktop Client
-        javax.swing.SwingUtilities.invokeLater(() -> {
-            try {
-                UIManager.setLookAndFeel("com.formdev.flatlaf.FlatLightLaf");
-            } catch (Exception ex) {
-                System.err.println("Could not initialize FlatLaf");
-            }
-            new org.example.fms.ui.LoginFrame().setVisible(true);
-        });
-
-        tomcat.start();
-        tomcat.getServer().await();
+        return tomcat;
     }
 
     /**
      * Checks if a super admin exists, and if not, injects one to allow the user to
-     * log in immediately.
+     * log in immediately. A failure aborts startup: without the account nobody
+     * can log in.
      */
-    private static void seedInitialSuperAdmin() {
+    private static void seedInitialSuperAdmin(PasswordHashes hashes) throws SQLException {
         try (Connection conn = DatabaseConnectionManager.getConnection()) {
             String checkSql = "SELECT COUNT(*) FROM users WHERE email = 'admin@faculty.edu'";
             try (PreparedStatement checkStmt = conn.prepareStatement(checkSql)) {
@@ -117,7 +296,7 @@ public class FmsApplication {
                         try (PreparedStatement userStmt = conn.prepareStatement(insertUser)) {
                             userStmt.setString(1, userId);
                             userStmt.setString(2, "admin@faculty.edu");
-                            userStmt.setString(3, PasswordUtil.hashPassword("admin")); // Password is 'admin'
+                            userStmt.setString(3, hashes.get(SUPER_ADMIN_PASSWORD));
                             userStmt.executeUpdate();
                         }
 
@@ -132,9 +311,6 @@ public class FmsApplication {
                     }
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Warning: Could not seed admin database. Is XAMPP MySQL running?");
-            e.printStackTrace();
         }
     }
 }
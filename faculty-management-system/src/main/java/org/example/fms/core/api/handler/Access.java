@@ -0,0 +1,41 @@
+package org.example.fms.core.api.handler;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Role-based access rule for a handler, checked against the role claim the
+ * auth filter puts on the request.
+ */
+public final class Access {
+
+    private final Set<String> roles;
+    private final boolean allowListed;
+
+    private Access(boolean allowListed, String... roles) {
+        this.allowListed = allowListed;
+        this.roles = Arrays.stream(roles).map(r -> r.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+    }
+
+    /** Any authenticated caller. */
+    public static Access anyone() {
+        return new Access(false);
+    }
+
+    /** Only callers holding one of the given roles. */
+    public static Access only(String... roles) {
+        return new Access(true, roles);
+    }
+
+    /** Every authenticated caller except those holding one of the given roles. */
+    public static Access allExcept(String... roles) {
+        return new Access(false, roles);
+    }
+
+    public boolean allows(String role) {
+        boolean listed = role != null && roles.contains(role.toLowerCase(Locale.ROOT));
+        return allowListed == listed;
+    }
+}
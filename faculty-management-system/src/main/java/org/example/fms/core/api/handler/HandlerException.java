@@ -0,0 +1,25 @@
+package org.example.fms.core.api.handler;
+
+/**
+ * Rejects a request with a specific HTTP status and error code, e.g. a write
+ * the caller is not entitled to make.
+ */
+public class HandlerException extends RuntimeException {
+
+    private final int status;
+    private final String code;
+
+    public HandlerException(int status, String code, String message) {
+        super(message);
+        this.status = status;
+        this.code = code;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.fms.core.api.handler;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-handler counters, recorded without locking. Latency covers running the
+ * query and writing the rows; cache hits and 304s never reach the handler.
+ */
+public final class HandlerMetrics {
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder denied = new LongAdder();
+
+    public void record(long nanos, long rowCount) {
+        latency.recordNanos(nanos);
+        rows.add(rowCount);
+    }
+
+    public void error() {
+        errors.increment();
+    }
+
+    public void denied() {
+        denied.increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getRows() {
+        return rows.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getDenied() {
+        return denied.sum();
+    }
+
+    public Map<String, Object> summary() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("calls", latency.getCount());
+        stats.put("rows", rows.sum());
+        stats.put("errors", errors.sum());
+        stats.put("denied", denied.sum());
+        stats.put("latency", latency.summary());
+        return stats;
+    }
+}
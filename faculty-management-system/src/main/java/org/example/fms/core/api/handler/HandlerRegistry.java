@@ -0,0 +1,138 @@
+package org.example.fms.core.api.handler;
+
+import org.example.fms.core.api.handler.list.ClassStudentsHandler;
+import org.example.fms.core.api.handler.list.FacultyAssignmentsHandler;
+import org.example.fms.core.api.handler.list.FacultyClassesHandler;
+import org.example.fms.core.api.handler.list.HolidaysHandler;
+import org.example.fms.core.api.handler.list.LearningMaterialsHandler;
+import org.example.fms.core.api.handler.list.LeavesHandler;
+import org.example.fms.core.api.handler.list.LibraryHandler;
+import org.example.fms.core.api.handler.list.MyAssignmentsHandler;
+import org.example.fms.core.api.handler.list.MyAttendanceHandler;
+import org.example.fms.core.api.handler.list.MyResultsHandler;
+import org.example.fms.core.api.handler.list.MySubjectsHandler;
+import org.example.fms.core.api.handler.list.NoticesHandler;
+import org.example.fms.core.api.handler.list.StaffHandler;
+import org.example.fms.core.api.handler.list.StudentsHandler;
+import org.example.fms.core.api.handler.list.SubjectsHandler;
+import org.example.fms.core.api.handler.list.UsersHandler;
+import org.example.fms.core.api.handler.write.CreateAssignmentHandler;
+import org.example.fms.core.api.handler.write.CreateNoticeHandler;
+import org.example.fms.core.api.handler.write.CreateSubmissionHandler;
+import org.example.fms.core.api.handler.write.MarkAttendanceHandler;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Maps the {@code type} parameter of the dashboard data endpoint to its
+ * handler, with one set of metrics per handler.
+ *
+ * Registration happens before the registry is shared; afterwards it is only
+ * read, so lookups need no locking.
+ */
+public class HandlerRegistry {
+
+    private static final HandlerRegistry DEFAULT = createDefault();
+
+    private final Map<String, ListHandler> lists = new HashMap<>();
+    private final Map<String, WriteHandler> writes = new HashMap<>();
+    private final Map<String, HandlerMetrics> listMetrics = new HashMap<>();
+    private final Map<String, HandlerMetrics> writeMetrics = new HashMap<>();
+
+    /**
+     * The registry with every built-in handler, used by DashboardDataServlet.
+     */
+    public static HandlerRegistry getDefault() {
+        return DEFAULT;
+    }
+
+    private static HandlerRegistry createDefault() {
+        return new HandlerRegistry()
+                .register(new UsersHandler())
+                .register(new StudentsHandler())
+                .register(new StaffHandler())
+                .register(new SubjectsHandler())
+                .register(new HolidaysHandler())
+                .register(new LeavesHandler())
+                .register(new NoticesHandler())
+                .register(new MyAttendanceHandler())
+                .register(new MyResultsHandler())
+                .register(new MySubjectsHandler())
+                .register(new LearningMaterialsHandler())
+                .register(new LibraryHandler())
+                .register(new FacultyClassesHandler())
+                .register(new FacultyAssignmentsHandler())
+                .register(new MyAssignmentsHandler())
+                .register(new ClassStudentsHandler())
+                .register(new CreateNoticeHandler())
+                .register(new CreateAssignmentHandler())
+                .register(new CreateSubmissionHandler())
+                .register(new MarkAttendanceHandler());
+    }
+
+    public HandlerRegistry register(ListHandler handler) {
+        if (lists.putIfAbsent(handler.getType(), handler) != null) {
+            throw new IllegalStateException("Duplicate list handler for type " + handler.getType());
+        }
+        listMetrics.put(handler.getType(), new HandlerMetrics());
+        return this;
+    }
+
+    public HandlerRegistry register(WriteHandler handler) {
+        if (writes.putIfAbsent(handler.getType(), handler) != null) {
+            throw new IllegalStateException("Duplicate write handler for type " + handler.getType());
+        }
+        writeMetrics.put(handler.getType(), new HandlerMetrics());
+        return this;
+    }
+
+    /** The list handler for a type, or null if there is none. */
+    public ListHandler getList(String type) {
+        return type != null ? lists.get(type) : null;
+    }
+
+    /** The write handler for a type, or null if there is none. */
+    public WriteHandler getWrite(String type) {
+        return type != null ? writes.get(type) : null;
+    }
+
+    public HandlerMetrics metrics(ListHandler handler) {
+        return listMetrics.get(handler.getType());
+    }
+
+    public HandlerMetrics metrics(WriteHandler handler) {
+        return writeMetrics.get(handler.getType());
+    }
+
+    /**
+     * Metrics of the list handlers, by type.
+     */
+    public Map<String, HandlerMetrics> getListMetrics() {
+        return Collections.unmodifiableMap(listMetrics);
+    }
+
+    /**
+     * Metrics of the write handlers, by type.
+     */
+    public Map<String, HandlerMetrics> getWriteMetrics() {
+        return Collections.unmodifiableMap(writeMetrics);
+    }
+
+    /**
+     * Metrics for every handler, by type, for diagnostics.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        Map<String, Object> listStats = new TreeMap<>();
+        listMetrics.forEach((type, metrics) -> listStats.put(type, metrics.summary()));
+        Map<String, Object> writeStats = new TreeMap<>();
+        writeMetrics.forEach((type, metrics) -> writeStats.put(type, metrics.summary()));
+        stats.put("lists", listStats);
+        stats.put("writes", writeStats);
+        return stats;
+    }
+}
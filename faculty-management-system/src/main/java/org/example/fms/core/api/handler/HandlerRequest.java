@@ -0,0 +1,80 @@
+package org.example.fms.core.api.handler;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * What a handler may know about the request: the caller and the query
+ * parameters. Kept free of the servlet API so handlers can be exercised and
+ * benchmarked without a container.
+ */
+public final class HandlerRequest {
+
+    private final String userId;
+    private final String role;
+    private final Map<String, String> params;
+
+    public HandlerRequest(String userId, String role, Map<String, String> params) {
+        this.userId = userId;
+        this.role = role;
+        this.params = params;
+    }
+
+    /**
+     * Reads the caller from the attributes set by AuthFilter.
+     */
+    public static HandlerRequest from(HttpServletRequest req) {
+        Map<String, String> params = new HashMap<>();
+        req.getParameterMap().forEach((name, values) -> {
+            if (values.length > 0) {
+                params.put(name, values[0]);
+            }
+        });
+        return new HandlerRequest((String) req.getAttribute("userId"), (String) req.getAttribute("userRole"),
+                params);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getParameter(String name) {
+        return params.get(name);
+    }
+
+    /**
+     * Reads a required integer parameter.
+     *
+     * @throws IllegalArgumentException if it is missing or not a number
+     */
+    public int getIntParameter(String name) {
+        String value = params.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Parameter '" + name + "' is required");
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter '" + name + "' must be a number");
+        }
+    }
+
+    /**
+     * Reads a required string parameter.
+     *
+     * @throws IllegalArgumentException if it is missing
+     */
+    public String getRequiredParameter(String name) {
+        String value = params.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Parameter '" + name + "' is required");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.fms.core.api.handler;
+
+import org.example.fms.core.database.paging.KeysetQuery;
+import org.example.fms.core.util.JsonStreamWriter;
+
+/**
+ * Serves one list type of the dashboard data endpoint: which rows to read
+ * (SQL, filters and their parameters), how each row maps to JSON, who may see
+ * it and whether the result is shared by every caller.
+ *
+ * Handlers are stateless and shared across requests.
+ */
+public abstract class ListHandler implements JsonStreamWriter.RowWriter {
+
+    private final String type;
+    private final Access access;
+    private final boolean cacheable;
+    private final String[] tables;
+
+    /**
+     * @param cacheable true if the list is the same for every caller and can be
+     *                  served from ReferenceDataCache
+     * @param tables    the tables the query reads, for ETags and cache
+     *                  invalidation
+     */
+    protected ListHandler(String type, Access access, boolean cacheable, String... tables) {
+        this.type = type;
+        this.access = access;
+        this.cacheable = cacheable;
+        this.tables = tables;
+    }
+
+    /**
+     * Builds the keyset query for the caller. The paging clause is added by
+     * the servlet.
+     *
+     * @throws IllegalArgumentException if a required parameter is missing or
+     *                                  malformed
+     */
+    public abstract KeysetQuery query(HandlerRequest request);
+
+    public String getType() {
+        return type;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    public boolean isCacheable() {
+        return cacheable;
+    }
+
+    public String[] getTables() {
+        return tables;
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.fms.core.api.handler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Handles one creation type posted to the dashboard data endpoint.
+ *
+ * Handlers are stateless and shared across requests. After a successful write
+ * the servlet reports the declared tables as changed.
+ */
+public abstract class WriteHandler {
+
+    private final String type;
+    private final Access access;
+    private final String[] tables;
+
+    /**
+     * @param tables the tables the write modifies
+     */
+    protected WriteHandler(String type, Access access, String... tables) {
+        this.type = type;
+        this.access = access;
+        this.tables = tables;
+    }
+
+    /**
+     * Performs the write.
+     *
+     * @throws HandlerException to reject the request with a specific status
+     */
+    public abstract void write(Connection conn, HandlerRequest request, JsonNode body) throws SQLException;
+
+    public String getType() {
+        return type;
+    }
+
+    public Access getAccess() {
+        return access;
+    }
+
+    public String[] getTables() {
+        return tables;
+    }
+}
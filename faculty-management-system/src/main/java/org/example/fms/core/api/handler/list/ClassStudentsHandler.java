@@ -0,0 +1,40 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Students enrolled in the semester a subject is taught in, selected with the
+ * subject_id parameter. Used when marking attendance.
+ */
+public class ClassStudentsHandler extends ListHandler {
+
+    public ClassStudentsHandler() {
+        super("class_students", Access.only("faculty"), false, "students", "semesters", "course_assignments");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("s.id, s.student_id, s.full_name_en",
+                "students s " +
+                        "JOIN semesters sem ON s.program_id = sem.program_id AND s.current_semester = sem.semester_number "
+                        +
+                        "JOIN course_assignments ca ON sem.id = ca.semester_id")
+                .where("ca.subject_id = ?", request.getRequiredParameter("subject_id"))
+                .orderBy(false, "s.student_id", "ca.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id"));
+        gen.writeStringField("student_id", rs.getString("student_id"));
+        gen.writeStringField("name", rs.getString("full_name_en"));
+    }
+}
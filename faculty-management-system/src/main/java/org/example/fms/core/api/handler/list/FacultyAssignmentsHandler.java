@@ -0,0 +1,39 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Assignments the calling faculty member created, with submission counts.
+ */
+public class FacultyAssignmentsHandler extends ListHandler {
+
+    public FacultyAssignmentsHandler() {
+        super("faculty_assignments", Access.only("faculty"), false, "assignments", "subjects", "submissions");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("a.id, a.title, sub.name as subject, a.deadline, " +
+                "(SELECT COUNT(*) FROM submissions s WHERE s.assignment_id = a.id) as sub_count",
+                "assignments a JOIN subjects sub ON a.subject_id = sub.id")
+                .where("a.created_by = ?", request.getUserId())
+                .orderBy(true, "a.deadline", "a.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id"));
+        gen.writeStringField("title", rs.getString("title"));
+        gen.writeStringField("subject", rs.getString("subject"));
+        gen.writeStringField("deadline", rs.getString("deadline"));
+        gen.writeNumberField("submissions", rs.getInt("sub_count"));
+    }
+}
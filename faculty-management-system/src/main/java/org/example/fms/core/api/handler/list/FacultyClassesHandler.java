@@ -0,0 +1,39 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Subjects the calling faculty member teaches.
+ */
+public class FacultyClassesHandler extends ListHandler {
+
+    public FacultyClassesHandler() {
+        super("faculty_classes", Access.only("faculty"), false, "course_assignments", "subjects", "semesters", "staff");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("ca.subject_id, sub.name as subject_name, sem.name as semester",
+                "course_assignments ca " +
+                        "JOIN subjects sub ON ca.subject_id = sub.id " +
+                        "JOIN semesters sem ON ca.semester_id = sem.id " +
+                        "JOIN staff st ON ca.staff_id = st.id")
+                .where("st.user_id = ?", request.getUserId())
+                .orderBy(false, "ca.subject_id", "ca.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("subject_id", rs.getString("subject_id"));
+        gen.writeStringField("subject_name", rs.getString("subject_name"));
+        gen.writeStringField("semester", rs.getString("semester"));
+    }
+}
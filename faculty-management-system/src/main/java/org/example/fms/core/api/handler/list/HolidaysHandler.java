@@ -0,0 +1,51 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * Holidays of one Bikram Sambat month, selected with the year and month
+ * parameters, each with its AD date and weekday.
+ */
+public class HolidaysHandler extends ListHandler {
+
+    public HolidaysHandler() {
+        super("holidays", Access.anyone(), true, "holidays");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        int year = request.getIntParameter("year");
+        int month = request.getIntParameter("month");
+        BsCalendar.monthLength(year, month); // Rejects a month outside the calendar
+        return new KeysetQuery("bs_year, bs_month, bs_day, name, description", "holidays")
+                .where("bs_year = ?", year)
+                .where("bs_month = ?", month)
+                .orderBy(false, "bs_day", "id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        int year = rs.getInt("bs_year");
+        int month = rs.getInt("bs_month");
+        int day = rs.getInt("bs_day");
+        gen.writeNumberField("day", day);
+        // A day the calendar does not have can only come from bad data; list it without a date
+        if (day <= BsCalendar.monthLength(year, month)) {
+            LocalDate date = BsCalendar.toAd(year, month, day);
+            gen.writeStringField("ad_date", date.toString());
+            gen.writeNumberField("weekday", date.getDayOfWeek().getValue() % 7);
+        }
+        gen.writeStringField("name", rs.getString("name"));
+        gen.writeStringField("description", rs.getString("description"));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Learning materials of every subject, shared by every caller.
+ */
+public class LearningMaterialsHandler extends ListHandler {
+
+    public LearningMaterialsHandler() {
+        super("learning_materials", Access.anyone(), true, "learning_materials", "subjects");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("m.title, m.material_type, sub.name as subject",
+                "learning_materials m JOIN subjects sub ON m.subject_id = sub.id")
+                .orderBy(false, "m.created_at", "m.id")
+                .nullable("m.created_at");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("title", rs.getString("title"));
+        gen.writeStringField("type", rs.getString("material_type"));
+        gen.writeStringField("subject", rs.getString("subject"));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.example.fms.core.util.JsonStreamWriter.orEmpty;
+
+/**
+ * Leave requests of all staff, most recent first, with the dates in both AD
+ * and BS.
+ */
+public class LeavesHandler extends ListHandler {
+
+    public LeavesHandler() {
+        super("leaves", Access.allExcept("student"), false, "leave_requests", "staff");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("l.id, s.full_name_en, l.leave_type, l.start_date, l.end_date, l.status",
+                "leave_requests l JOIN staff s ON l.staff_id = s.id")
+                .orderBy(true, "l.applied_on", "l.id")
+                .nullable("l.applied_on");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id").substring(0, 5) + "...");
+        gen.writeStringField("staff_name", orEmpty(rs.getString("full_name_en")));
+        gen.writeStringField("leave_type", orEmpty(rs.getString("leave_type")));
+        gen.writeStringField("dates", rs.getString("start_date") + " to " + rs.getString("end_date"));
+        gen.writeStringField("dates_bs", BsCalendar.toBsString(rs.getObject("start_date", LocalDate.class)) + " to "
+                + BsCalendar.toBsString(rs.getObject("end_date", LocalDate.class)));
+        gen.writeStringField("status", orEmpty(rs.getString("status")));
+    }
+}
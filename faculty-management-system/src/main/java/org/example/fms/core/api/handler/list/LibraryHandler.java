@@ -0,0 +1,36 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The library catalogue, shared by every caller.
+ */
+public class LibraryHandler extends ListHandler {
+
+    public LibraryHandler() {
+        super("library", Access.anyone(), true, "library_books");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("book_id, title, author, category, available_copies", "library_books")
+                .orderBy(false, "book_id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("book_id"));
+        gen.writeStringField("title", rs.getString("title"));
+        gen.writeStringField("author", rs.getString("author"));
+        gen.writeStringField("category", rs.getString("category"));
+        gen.writeNumberField("available", rs.getInt("available_copies"));
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Assignments for the calling student's current semester, with their
+ * submission status.
+ */
+public class MyAssignmentsHandler extends ListHandler {
+
+    public MyAssignmentsHandler() {
+        super("my_assignments", Access.only("student"), false, "assignments", "subjects", "students", "semesters", "submissions");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        // The cast keeps 'pending' from being coerced into the status ENUM on
+        // databases stricter than MySQL, such as the load test's H2
+        return new KeysetQuery("a.id, a.title, sub.name as subject, a.deadline, " +
+                "COALESCE(CAST(subm.status AS CHAR(20)), 'pending') as status",
+                "assignments a " +
+                        "JOIN subjects sub ON a.subject_id = sub.id " +
+                        "JOIN students s ON sub.program_id = s.program_id AND sub.semester_id = (SELECT id FROM semesters WHERE program_id = s.program_id AND semester_number = s.current_semester LIMIT 1) "
+                        +
+                        "LEFT JOIN submissions subm ON a.id = subm.assignment_id AND s.id = subm.student_id")
+                .where("s.user_id = ?", request.getUserId())
+                .orderBy(true, "a.deadline", "a.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id"));
+        gen.writeStringField("title", rs.getString("title"));
+        gen.writeStringField("subject", rs.getString("subject"));
+        gen.writeStringField("deadline", rs.getString("deadline"));
+        gen.writeStringField("status", rs.getString("status"));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * The calling student's attendance record, latest first, dated in both AD and
+ * BS.
+ */
+public class MyAttendanceHandler extends ListHandler {
+
+    public MyAttendanceHandler() {
+        super("my_attendance", Access.only("student"), false, "student_attendance", "students");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("a.date, a.status", "student_attendance a JOIN students s ON a.student_id = s.id")
+                .where("s.user_id = ?", request.getUserId())
+                .orderBy(true, "a.date", "a.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("date", rs.getString("date"));
+        gen.writeStringField("date_bs", BsCalendar.toBsString(rs.getObject("date", LocalDate.class)));
+        gen.writeStringField("status", rs.getString("status"));
+    }
+}
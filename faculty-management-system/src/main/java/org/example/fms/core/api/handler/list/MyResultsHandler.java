@@ -0,0 +1,40 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The calling student's exam results.
+ */
+public class MyResultsHandler extends ListHandler {
+
+    public MyResultsHandler() {
+        super("my_results", Access.only("student"), false, "exam_results", "students", "subjects");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery(
+                "r.academic_year, sub.name as subject, r.marks_obtained, r.total_marks, r.grade, r.exam_type",
+                "exam_results r " +
+                        "JOIN students s ON r.student_id = s.id " +
+                        "JOIN subjects sub ON r.subject_id = sub.id")
+                .where("s.user_id = ?", request.getUserId())
+                .orderBy(true, "r.academic_year", "r.id");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("subject", rs.getString("subject"));
+        gen.writeStringField("marks", rs.getDouble("marks_obtained") + "/" + rs.getDouble("total_marks"));
+        gen.writeStringField("grade", rs.getString("grade"));
+        gen.writeStringField("type", rs.getString("exam_type"));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Subjects of the calling student's current semester.
+ */
+public class MySubjectsHandler extends ListHandler {
+
+    public MySubjectsHandler() {
+        super("my_subjects", Access.only("student"), false, "subjects", "students", "semesters");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("sub.code, sub.name, sub.type, sub.credits",
+                "subjects sub " +
+                        "JOIN students s ON sub.program_id = s.program_id AND sub.semester_id = (SELECT id FROM semesters WHERE program_id = s.program_id AND semester_number = s.current_semester LIMIT 1)")
+                .where("s.user_id = ?", request.getUserId())
+                .orderBy(false, "sub.code");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("code", rs.getString("code"));
+        gen.writeStringField("name", rs.getString("name"));
+        gen.writeStringField("type", rs.getString("type"));
+        gen.writeNumberField("credits", rs.getInt("credits"));
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.example.fms.core.util.JsonStreamWriter.orEmpty;
+
+/**
+ * Published notices, newest first.
+ */
+public class NoticesHandler extends ListHandler {
+
+    public NoticesHandler() {
+        super("notices", Access.anyone(), false, "notices");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("id, title, target_audience, DATE(published_date) as pub_date", "notices")
+                .orderBy(true, "published_date", "id")
+                .nullable("published_date");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id").substring(0, 5) + "...");
+        gen.writeStringField("title", orEmpty(rs.getString("title")));
+        gen.writeStringField("audience", orEmpty(rs.getString("target_audience")));
+        gen.writeStringField("date", orEmpty(rs.getString("pub_date")));
+    }
+}
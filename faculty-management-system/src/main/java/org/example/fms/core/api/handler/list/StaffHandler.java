@@ -0,0 +1,41 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.example.fms.core.util.JsonStreamWriter.orEmpty;
+
+/**
+ * Staff records. Faculty members only see their own profile.
+ */
+public class StaffHandler extends ListHandler {
+
+    public StaffHandler() {
+        super("staff", Access.allExcept("student"), false, "staff");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        KeysetQuery query = new KeysetQuery("staff_id, full_name_en, designation, department_id", "staff")
+                .orderBy(true, "staff_id");
+        if ("faculty".equalsIgnoreCase(request.getRole())) {
+            query.where("user_id = ?", request.getUserId());
+        }
+        return query;
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("staff_id", orEmpty(rs.getString("staff_id")));
+        gen.writeStringField("name", orEmpty(rs.getString("full_name_en")));
+        gen.writeStringField("designation", orEmpty(rs.getString("designation")));
+        gen.writeStringField("department", orEmpty(rs.getString("department_id")));
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.example.fms.core.util.JsonStreamWriter.orEmpty;
+
+/**
+ * Student directory. Students only see their own profile.
+ */
+public class StudentsHandler extends ListHandler {
+
+    public StudentsHandler() {
+        super("students", Access.anyone(), false, "students");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        KeysetQuery query = new KeysetQuery("student_id, full_name_en, gender, program_id", "students")
+                .orderBy(true, "student_id");
+        if ("student".equalsIgnoreCase(request.getRole())) {
+            query.where("user_id = ?", request.getUserId());
+        }
+        return query;
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("student_id", orEmpty(rs.getString("student_id")));
+        gen.writeStringField("name", orEmpty(rs.getString("full_name_en")));
+        gen.writeStringField("gender", orEmpty(rs.getString("gender")));
+        gen.writeStringField("program", orEmpty(rs.getString("program_id")));
+    }
+}
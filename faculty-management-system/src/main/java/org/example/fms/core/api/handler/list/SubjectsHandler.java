@@ -0,0 +1,37 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.example.fms.core.util.JsonStreamWriter.orEmpty;
+
+/**
+ * The subject catalogue, shared by every caller.
+ */
+public class SubjectsHandler extends ListHandler {
+
+    public SubjectsHandler() {
+        super("subjects", Access.anyone(), true, "subjects");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("code, name, credits, type", "subjects")
+                .orderBy(false, "code");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("code", orEmpty(rs.getString("code")));
+        gen.writeStringField("name", orEmpty(rs.getString("name")));
+        gen.writeStringField("credits", orEmpty(rs.getString("credits")));
+        gen.writeStringField("type", orEmpty(rs.getString("type")));
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.fms.core.api.handler.list;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.database.paging.KeysetQuery;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Every user account with its role, newest first.
+ */
+public class UsersHandler extends ListHandler {
+
+    public UsersHandler() {
+        super("users", Access.allExcept("student", "faculty"), false, "users", "user_roles");
+    }
+
+    @Override
+    public KeysetQuery query(HandlerRequest request) {
+        return new KeysetQuery("u.id, u.email, r.role, DATE(u.created_at) as created",
+                "users u JOIN user_roles r ON u.id = r.user_id")
+                // Leads with idx_users_created_at (created_at, id); r.id only
+                // separates the rows of a user holding several roles
+                .orderBy(true, "u.created_at", "u.id", "r.id")
+                .nullable("u.created_at");
+    }
+
+    @Override
+    public void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        gen.writeStringField("id", rs.getString("id").substring(0, 8) + "...");
+        gen.writeStringField("email", rs.getString("email"));
+        gen.writeStringField("role", rs.getString("role").toUpperCase());
+        gen.writeStringField("created_at", rs.getString("created"));
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.fms.core.api.handler.write;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.WriteHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.UUID;
+
+/**
+ * Creates an assignment for a subject the calling faculty member teaches.
+ */
+public class CreateAssignmentHandler extends WriteHandler {
+
+    public CreateAssignmentHandler() {
+        super("assignments", Access.only("faculty"), "assignments");
+    }
+
+    @Override
+    public void write(Connection conn, HandlerRequest request, JsonNode body) throws SQLException {
+        String sql = "INSERT INTO assignments (id, subject_id, title, description, deadline, created_by) VALUES (?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setString(2, body.get("subject_id").asText());
+            stmt.setString(3, body.get("title").asText());
+            stmt.setString(4, body.get("description").asText());
+            stmt.setTimestamp(5, Timestamp.valueOf(body.get("deadline").asText()));
+            stmt.setString(6, request.getUserId());
+            stmt.executeUpdate();
+        }
+    }
+}
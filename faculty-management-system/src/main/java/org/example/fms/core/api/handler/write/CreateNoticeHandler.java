@@ -0,0 +1,36 @@
+package org.example.fms.core.api.handler.write;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.WriteHandler;
+import org.example.fms.core.stats.DashboardStats;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Publishes a notice.
+ */
+public class CreateNoticeHandler extends WriteHandler {
+
+    public CreateNoticeHandler() {
+        super("notices", Access.allExcept("student"), "notices");
+    }
+
+    @Override
+    public void write(Connection conn, HandlerRequest request, JsonNode body) throws SQLException {
+        String sql = "INSERT INTO notices (id, title, content, target_audience, published_by) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setString(2, body.get("title").asText());
+            stmt.setString(3, body.get("content").asText());
+            stmt.setString(4, body.get("target_audience").asText());
+            stmt.setString(5, request.getUserId());
+            stmt.executeUpdate();
+        }
+        DashboardStats.noticeAdded();
+    }
+}
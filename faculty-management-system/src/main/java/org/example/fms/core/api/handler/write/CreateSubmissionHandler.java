@@ -0,0 +1,48 @@
+package org.example.fms.core.api.handler.write;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerException;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.WriteHandler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Records the calling student's submission for an assignment.
+ */
+public class CreateSubmissionHandler extends WriteHandler {
+
+    public CreateSubmissionHandler() {
+        super("submissions", Access.only("student"), "submissions");
+    }
+
+    @Override
+    public void write(Connection conn, HandlerRequest request, JsonNode body) throws SQLException {
+        String studentId = null;
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT id FROM students WHERE user_id = ?")) {
+            stmt.setString(1, request.getUserId());
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next())
+                    studentId = rs.getString("id");
+            }
+        }
+
+        if (studentId == null) {
+            throw new HandlerException(403, "FORBIDDEN", "Only students can submit assignments");
+        }
+
+        String sql = "INSERT INTO submissions (id, assignment_id, student_id, content_body) VALUES (?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, UUID.randomUUID().toString());
+            stmt.setString(2, body.get("assignment_id").asText());
+            stmt.setString(3, studentId);
+            stmt.setString(4, body.get("content").asText());
+            stmt.executeUpdate();
+        }
+    }
+}
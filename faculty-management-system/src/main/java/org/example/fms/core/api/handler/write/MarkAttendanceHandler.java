@@ -0,0 +1,39 @@
+package org.example.fms.core.api.handler.write;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.example.fms.core.api.handler.Access;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.WriteHandler;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Marks a day's attendance for a class in one batch. Marking the same student
+ * twice on a day updates the earlier status.
+ */
+public class MarkAttendanceHandler extends WriteHandler {
+
+    public MarkAttendanceHandler() {
+        super("mark_attendance", Access.only("faculty"), "student_attendance");
+    }
+
+    @Override
+    public void write(Connection conn, HandlerRequest request, JsonNode body) throws SQLException {
+        Date date = Date.valueOf(body.get("date").asText());
+        String sql = "INSERT INTO student_attendance (id, student_id, date, status) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (JsonNode att : body.get("attendances")) {
+                stmt.setString(1, UUID.randomUUID().toString());
+                stmt.setString(2, att.get("student_id").asText());
+                stmt.setDate(3, date);
+                stmt.setString(4, att.get("status").asText());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.fms.core.api.servlet;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.calendar.BsDate;
+import org.example.fms.core.util.ResponseUtil;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bikram Sambat calendar lookups, computed in memory:
+ * <ul>
+ * <li>{@code ?ad=2025-04-14} converts an AD date to BS;</li>
+ * <li>{@code ?year=2082&month=0&day=1} converts a BS date to AD;</li>
+ * <li>{@code ?year=2082&month=0} describes a month: its length, the weekday
+ * it starts on and its AD date range;</li>
+ * <li>no parameters describes today and the current month.</li>
+ * </ul>
+ * Months are 0-based (Baisakh = 0) and weekdays run from 0 (Sunday) to 6
+ * (Saturday). Protected by AuthFilter; open to every role.
+ */
+@WebServlet("/api/v1/calendar")
+public class CalendarServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        HandlerRequest request = HandlerRequest.from(req);
+        Map<String, Object> data;
+        try {
+            if (request.getParameter("ad") != null) {
+                data = describeDay(BsCalendar.fromAd(LocalDate.parse(request.getParameter("ad"))));
+            } else if (request.getParameter("year") != null) {
+                int year = request.getIntParameter("year");
+                int month = request.getIntParameter("month");
+                data = request.getParameter("day") != null
+                        ? describeDay(BsDate.of(year, month, request.getIntParameter("day")))
+                        : describeMonth(year, month);
+            } else {
+                BsDate today = BsCalendar.today();
+                data = describeDay(today);
+                data.put("current_month", describeMonth(today.getYear(), today.getMonth()));
+            }
+        } catch (DateTimeParseException e) {
+            ResponseUtil.sendError(resp, 400, "BAD_REQUEST", "Parameter 'ad' must be a date like 2025-04-14");
+            return;
+        } catch (IllegalArgumentException e) {
+            ResponseUtil.sendError(resp, 400, "BAD_REQUEST", e.getMessage());
+            return;
+        }
+        ResponseUtil.sendOk(resp, data);
+    }
+
+    private static Map<String, Object> describeDay(BsDate date) {
+        Map<String, Object> day = new LinkedHashMap<>();
+        day.put("year", date.getYear());
+        day.put("month", date.getMonth());
+        day.put("day", date.getDay());
+        day.put("month_name", date.getMonthName());
+        day.put("bs_date", date.toString());
+        day.put("weekday", date.getWeekday());
+        day.put("ad_date", date.toAd().toString());
+        return day;
+    }
+
+    private static Map<String, Object> describeMonth(int year, int month) {
+        int length = BsCalendar.monthLength(year, month);
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("year", year);
+        info.put("month", month);
+        info.put("month_name", BsCalendar.monthName(month));
+        info.put("days", length);
+        info.put("start_weekday", BsCalendar.startWeekday(year, month));
+        info.put("ad_start", BsCalendar.toAd(year, month, 1).toString());
+        info.put("ad_end", BsCalendar.toAd(year, month, length).toString());
+        info.put("min_year", BsCalendar.MIN_YEAR);
+        info.put("max_year", BsCalendar.MAX_YEAR);
+        return info;
+    }
+}
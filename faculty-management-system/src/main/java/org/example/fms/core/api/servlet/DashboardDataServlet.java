@@ -1,26 +1,71 @@
 package org.example.fms.core.api.servlet;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.api.handler.HandlerException;
+import org.example.fms.core.api.handler.HandlerMetrics;
+import org.example.fms.core.api.handler.HandlerRegistry;
+import org.example.fms.core.api.handler.HandlerRequest;
+import org.example.fms.core.api.handler.ListHandler;
+import org.example.fms.core.api.handler.WriteHandler;
+import org.example.fms.core.cache.CachedBody;
+import org.example.fms.core.cache.ReferenceDataCache;
 import org.example.fms.core.database.DatabaseConnectionManager;
+import org.example.fms.core.database.TableVersions;
+import org.example.fms.core.database.paging.KeysetQuery;
+import org.example.fms.core.database.paging.PageCursor;
+import org.example.fms.core.database.paging.PageRequest;
+import org.example.fms.core.database.pool.ConnectionGate;
+import org.example.fms.core.metrics.RequestMetrics;
+import org.example.fms.core.server.RequestContext;
+import org.example.fms.core.stats.DashboardStats;
+import org.example.fms.core.util.JsonStreamWriter;
 import org.example.fms.core.util.ResponseUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 
+/**
+ * Lists and creates dashboard data. The {@code type} parameter selects a
+ * handler from the {@link HandlerRegistry}; this class only deals with access
+ * checks, conditional requests, caching, paging and the response format.
+ */
 @WebServlet("/api/v1/dashboard/data")
 public class DashboardDataServlet extends HttpServlet {
 
     private final ObjectMapper mapper = new ObjectMapper();
+    private final HandlerRegistry handlers = HandlerRegistry.getDefault();
+    private final ConnectionGate.ConnectionSource connections;
+
+    public DashboardDataServlet() {
+        this(DatabaseConnectionManager::getConnection);
+    }
+
+    /** For tests: borrows connections from the given source instead of the shared pool. */
+    DashboardDataServlet(ConnectionGate.ConnectionSource connections) {
+        this.connections = connections;
+    }
+
+    /**
+     * Where a page of JSON is written: the response, or a buffer for the cache.
+     */
+    @FunctionalInterface
+    private interface PageOutput {
+        JsonGenerator open() throws IOException;
+    }
 
     @Override
     protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -31,435 +76,187 @@ public class DashboardDataServlet extends HttpServlet {
             return;
         }
 
-        ArrayNode results = mapper.createArrayNode();
+        // Served from memory; no connection needed
+        if ("stats".equals(type)) {
+            RequestMetrics.setType(req, type);
+            try {
+                resp.setContentType("application/json");
+                resp.setCharacterEncoding("UTF-8");
+                resp.getWriter().write(mapper.writeValueAsString(DashboardStats.snapshot()));
+            } catch (SQLException e) {
+                e.printStackTrace();
+                ResponseUtil.sendError(resp, 500, "DATABASE_ERROR", "Failed to fetch dashboard data");
+            }
+            return;
+        }
 
-        try (Connection conn = DatabaseConnectionManager.getConnection()) {
-            if ("users".equals(type)) {
-                String sql = "SELECT u.id, u.email, r.role, DATE(u.created_at) as created FROM users u JOIN user_roles r ON u.id = r.user_id ORDER BY u.created_at DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id").substring(0, 8) + "...");
-                            node.put("email", rs.getString("email"));
-                            node.put("role", rs.getString("role").toUpperCase());
-                            node.put("created_at", rs.getString("created"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("students".equals(type)) {
-                String role = (String) req.getAttribute("userRole");
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT student_id, full_name_en, gender, program_id FROM students";
+        ListHandler handler = handlers.getList(type);
+        if (handler == null) {
+            ResponseUtil.sendError(resp, 400, "BAD_REQUEST", "Unknown type");
+            return;
+        }
+        RequestMetrics.setType(req, type);
+        HandlerMetrics metrics = handlers.metrics(handler);
+        HandlerRequest request = HandlerRequest.from(req);
+        if (!handler.getAccess().allows(request.getRole())) {
+            metrics.denied();
+            ResponseUtil.sendForbidden(resp, "Your role cannot view " + type);
+            return;
+        }
 
-                if ("student".equalsIgnoreCase(role)) {
-                    sql += " WHERE user_id = ?";
-                }
-                sql += " ORDER BY student_id DESC";
+        PageRequest page;
+        KeysetQuery query;
+        try {
+            page = PageRequest.parse(type, req.getParameter("limit"), req.getParameter("cursor"),
+                    req.getParameter("include_total"));
+            query = handler.query(request);
+            if (page.getAfter() != null) {
+                query.checkCursor(page.getAfter());
+            }
+        } catch (IllegalArgumentException e) {
+            ResponseUtil.sendError(resp, 400, "BAD_REQUEST", e.getMessage());
+            return;
+        }
 
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    if ("student".equalsIgnoreCase(role)) {
-                        stmt.setString(1, userId);
-                    }
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("student_id",
-                                    rs.getString("student_id") != null ? rs.getString("student_id") : "");
-                            node.put("name", rs.getString("full_name_en") != null ? rs.getString("full_name_en") : "");
-                            node.put("gender", rs.getString("gender") != null ? rs.getString("gender") : "");
-                            node.put("program", rs.getString("program_id") != null ? rs.getString("program_id") : "");
-                            results.add(node);
-                        }
+        // The tag is taken before the query runs, so a concurrent write can only
+        // make it stale, never pair it with older rows
+        boolean gzip = acceptsGzip(req);
+        String etag = TableVersions.etag(handler.getTables(), type, req.getQueryString(), request.getUserId(),
+                request.getRole(), gzip ? "gzip" : "identity");
+        resp.setHeader("ETag", etag);
+        resp.setHeader("Cache-Control", "private, no-cache");
+        resp.setHeader("Vary", "Accept-Encoding, Authorization");
+        if (TableVersions.matches(req.getHeader("If-None-Match"), etag)) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        try {
+            if (handler.isCacheable()) {
+                // Same for every caller; served as pre-rendered bytes
+                CachedBody body = ReferenceDataCache.get(type, req.getQueryString(), handler.getTables(), () -> {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream(JsonStreamWriter.BUFFER_SIZE);
+                    try (Connection conn = connections.get()) {
+                        streamPage(conn, () -> JsonStreamWriter.createGenerator(buffer), handler, metrics, query,
+                                page);
                     }
+                    return buffer.toByteArray();
+                });
+                writeCached(resp, body, gzip);
+            } else {
+                try (Connection conn = connections.get()) {
+                    streamPage(conn, () -> JsonStreamWriter.open(resp, gzip), handler, metrics, query, page);
                 }
-            } else if ("staff".equals(type)) {
-                String role = (String) req.getAttribute("userRole");
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT staff_id, full_name_en, designation, department_id FROM staff";
+            }
+        } catch (Exception e) {
+            metrics.error();
+            e.printStackTrace();
+            if (!resp.isCommitted()) {
+                resp.reset(); // Drop the validator and content coding meant for a 200
+                // reset() also drops the request ID header; the error must carry the same ID as the access log
+                resp.setHeader(RequestContext.HEADER, RequestContext.idOf(req));
+                ResponseUtil.sendError(resp, 500, "DATABASE_ERROR", "Failed to fetch dashboard data");
+            }
+        }
+    }
 
-                if ("faculty".equalsIgnoreCase(role)) {
-                    sql += " WHERE user_id = ?";
-                }
-                sql += " ORDER BY staff_id DESC";
+    /**
+     * Writes a rendered reference list, in the content coding the request
+     * asked for.
+     */
+    private void writeCached(HttpServletResponse resp, CachedBody body, boolean gzip) throws IOException {
+        byte[] bytes = gzip ? body.gzip() : body.json();
+        resp.setStatus(HttpServletResponse.SC_OK);
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        if (gzip) {
+            resp.setHeader("Content-Encoding", "gzip");
+        }
+        resp.setContentLength(bytes.length);
+        resp.getOutputStream().write(bytes);
+    }
 
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    if ("faculty".equalsIgnoreCase(role)) {
-                        stmt.setString(1, userId);
-                    }
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("staff_id", rs.getString("staff_id") != null ? rs.getString("staff_id") : "");
-                            node.put("name", rs.getString("full_name_en") != null ? rs.getString("full_name_en") : "");
-                            node.put("designation",
-                                    rs.getString("designation") != null ? rs.getString("designation") : "");
-                            node.put("department",
-                                    rs.getString("department_id") != null ? rs.getString("department_id") : "");
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("subjects".equals(type)) {
-                String sql = "SELECT code, name, credits, type FROM subjects ORDER BY code";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("code", rs.getString("code") != null ? rs.getString("code") : "");
-                            node.put("name", rs.getString("name") != null ? rs.getString("name") : "");
-                            node.put("credits", rs.getString("credits") != null ? rs.getString("credits") : "");
-                            node.put("type", rs.getString("type") != null ? rs.getString("type") : "");
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("holidays".equals(type)) {
-                String year = req.getParameter("year");
-                String month = req.getParameter("month");
-                String sql = "SELECT bs_day, name, description FROM holidays WHERE bs_year = ? AND bs_month = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setInt(1, Integer.parseInt(year));
-                    stmt.setInt(2, Integer.parseInt(month));
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("day", rs.getInt("bs_day"));
-                            node.put("name", rs.getString("name"));
-                            node.put("description", rs.getString("description"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("leaves".equals(type)) {
-                String sql = "SELECT l.id, s.full_name_en, l.leave_type, l.start_date, l.end_date, l.status FROM leave_requests l JOIN staff s ON l.staff_id = s.id ORDER BY l.applied_on DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id").substring(0, 5) + "...");
-                            node.put("staff_name",
-                                    rs.getString("full_name_en") != null ? rs.getString("full_name_en") : "");
-                            node.put("leave_type",
-                                    rs.getString("leave_type") != null ? rs.getString("leave_type") : "");
-                            node.put("dates", rs.getString("start_date") + " to " + rs.getString("end_date"));
-                            node.put("status", rs.getString("status") != null ? rs.getString("status") : "");
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("notices".equals(type)) {
-                String sql = "SELECT id, title, target_audience, DATE(published_date) as pub_date FROM notices ORDER BY published_date DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id").substring(0, 5) + "...");
-                            node.put("title", rs.getString("title") != null ? rs.getString("title") : "");
-                            node.put("audience",
-                                    rs.getString("target_audience") != null ? rs.getString("target_audience") : "");
-                            node.put("date", rs.getString("pub_date") != null ? rs.getString("pub_date") : "");
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("stats".equals(type)) {
-                ObjectNode stats = mapper.createObjectNode();
-                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM students")) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        if (rs.next())
-                            stats.put("students", rs.getInt(1));
-                    }
-                }
-                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM staff")) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        if (rs.next())
-                            stats.put("staff", rs.getInt(1));
-                    }
-                }
-                try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM notices")) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        if (rs.next())
-                            stats.put("notices", rs.getInt(1));
+    /**
+     * Runs one keyset page of a list query and streams it to the output as
+     * {"items": [...], "next_cursor": "..." | null, "total": n}.
+     * The total is only computed when the client asks for it.
+     * The statement is opened forward-only with a streaming fetch size so
+     * Connector/J hands rows over one at a time instead of buffering the page.
+     */
+    private void streamPage(Connection conn, PageOutput out, ListHandler handler, HandlerMetrics metrics,
+            KeysetQuery query, PageRequest page) throws SQLException, IOException {
+        long start = System.nanoTime();
+        String nextCursor = null;
+        int rows;
+        try (PreparedStatement stmt = conn.prepareStatement(query.pageSql(page.getAfter()),
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(DatabaseConnectionManager.getStreamingFetchSize());
+            query.bindPage(stmt, page.getAfter(), page.getLimit());
+            try (ResultSet rs = stmt.executeQuery()) {
+                JsonGenerator gen = out.open();
+                gen.writeStartObject();
+                gen.writeFieldName("items");
+                rows = JsonStreamWriter.writeRows(gen, rs, page.getLimit(), handler);
+                if (rows == page.getLimit()) {
+                    List<String> lastKey = query.readKey(rs);
+                    if (rs.next()) {
+                        nextCursor = PageCursor.encode(handler.getType(), lastKey);
                     }
                 }
-                resp.setContentType("application/json");
-                resp.setCharacterEncoding("UTF-8");
-                resp.getWriter().write(mapper.writeValueAsString(stats));
-                return;
-            } else if ("my_attendance".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT a.date, a.status FROM student_attendance a " +
-                        "JOIN students s ON a.student_id = s.id " +
-                        "WHERE s.user_id = ? ORDER BY a.date DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("date", rs.getString("date"));
-                            node.put("status", rs.getString("status"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("my_results".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT r.academic_year, sub.name as subject, r.marks_obtained, r.total_marks, r.grade, r.exam_type "
-                        +
-                        "FROM exam_results r " +
-                        "JOIN students s ON r.student_id = s.id " +
-                        "JOIN subjects sub ON r.subject_id = sub.id " +
-                        "WHERE s.user_id = ? ORDER BY r.academic_year DESC";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("subject", rs.getString("subject"));
-                            node.put("marks", rs.getDouble("marks_obtained") + "/" + rs.getDouble("total_marks"));
-                            node.put("grade", rs.getString("grade"));
-                            node.put("type", rs.getString("exam_type"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("my_subjects".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT sub.code, sub.name, sub.type, sub.credits " +
-                        "FROM subjects sub " +
-                        "JOIN students s ON sub.program_id = s.program_id AND sub.semester_id = (SELECT id FROM semesters WHERE program_id = s.program_id AND semester_number = s.current_semester LIMIT 1) "
-                        +
-                        "WHERE s.user_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("code", rs.getString("code"));
-                            node.put("name", rs.getString("name"));
-                            node.put("type", rs.getString("type"));
-                            node.put("credits", rs.getInt("credits"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("learning_materials".equals(type)) {
-                String sql = "SELECT m.title, m.material_type, sub.name as subject " +
-                        "FROM learning_materials m " +
-                        "JOIN subjects sub ON m.subject_id = sub.id";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("title", rs.getString("title"));
-                            node.put("type", rs.getString("material_type"));
-                            node.put("subject", rs.getString("subject"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("library".equals(type)) {
-                String sql = "SELECT book_id, title, author, category, available_copies FROM library_books";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("book_id"));
-                            node.put("title", rs.getString("title"));
-                            node.put("author", rs.getString("author"));
-                            node.put("category", rs.getString("category"));
-                            node.put("available", rs.getInt("available_copies"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("faculty_classes".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT ca.subject_id, sub.name as subject_name, sem.name as semester " +
-                        "FROM course_assignments ca " +
-                        "JOIN subjects sub ON ca.subject_id = sub.id " +
-                        "JOIN semesters sem ON ca.semester_id = sem.id " +
-                        "JOIN staff st ON ca.staff_id = st.id " +
-                        "WHERE st.user_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("subject_id", rs.getString("subject_id"));
-                            node.put("subject_name", rs.getString("subject_name"));
-                            node.put("semester", rs.getString("semester"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("faculty_assignments".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT a.id, a.title, sub.name as subject, a.deadline, " +
-                        "(SELECT COUNT(*) FROM submissions s WHERE s.assignment_id = a.id) as sub_count " +
-                        "FROM assignments a " +
-                        "JOIN subjects sub ON a.subject_id = sub.id " +
-                        "WHERE a.created_by = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id"));
-                            node.put("title", rs.getString("title"));
-                            node.put("subject", rs.getString("subject"));
-                            node.put("deadline", rs.getString("deadline"));
-                            node.put("submissions", rs.getInt("sub_count"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("my_assignments".equals(type)) {
-                String userId = (String) req.getAttribute("userId");
-                String sql = "SELECT a.id, a.title, sub.name as subject, a.deadline, " +
-                        "COALESCE(subm.status, 'pending') as status " +
-                        "FROM assignments a " +
-                        "JOIN subjects sub ON a.subject_id = sub.id " +
-                        "JOIN students s ON sub.program_id = s.program_id AND sub.semester_id = (SELECT id FROM semesters WHERE program_id = s.program_id AND semester_number = s.current_semester LIMIT 1) "
-                        +
-                        "LEFT JOIN submissions subm ON a.id = subm.assignment_id AND s.id = subm.student_id " +
-                        "WHERE s.user_id = ?";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, userId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id"));
-                            node.put("title", rs.getString("title"));
-                            node.put("subject", rs.getString("subject"));
-                            node.put("deadline", rs.getString("deadline"));
-                            node.put("status", rs.getString("status"));
-                            results.add(node);
-                        }
-                    }
-                }
-            } else if ("class_students".equals(type)) {
-                String subId = req.getParameter("subject_id");
-                String sql = "SELECT s.id, s.student_id, s.full_name_en FROM students s " +
-                        "JOIN semesters sem ON s.program_id = sem.program_id AND s.current_semester = sem.semester_number "
-                        +
-                        "JOIN course_assignments ca ON sem.id = ca.semester_id " +
-                        "WHERE ca.subject_id = ? ORDER BY s.student_id";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, subId);
-                    try (ResultSet rs = stmt.executeQuery()) {
-                        while (rs.next()) {
-                            ObjectNode node = mapper.createObjectNode();
-                            node.put("id", rs.getString("id"));
-                            node.put("student_id", rs.getString("student_id"));
-                            node.put("name", rs.getString("full_name_en"));
-                            results.add(node);
-                        }
-                    }
+                gen.writeStringField("next_cursor", nextCursor);
+
+                if (page.isIncludeTotal()) {
+                    rs.close(); // A streaming result set must be released before the next query
+                    gen.writeNumberField("total", countRows(conn, query));
                 }
-            } else {
-                ResponseUtil.sendError(resp, 400, "BAD_REQUEST", "Unknown type");
-                return;
+                gen.writeEndObject();
+                gen.close();
             }
+        }
+        metrics.record(System.nanoTime() - start, rows);
+    }
 
-            // Write response
-            resp.setContentType("application/json");
-            resp.setCharacterEncoding("UTF-8");
-            resp.getWriter().write(mapper.writeValueAsString(results));
+    private static boolean acceptsGzip(HttpServletRequest req) {
+        String accept = req.getHeader("Accept-Encoding");
+        return accept != null && accept.toLowerCase().contains("gzip");
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            ResponseUtil.sendError(resp, 500, "DATABASE_ERROR", "Failed to fetch dashboard data");
+    private long countRows(Connection conn, KeysetQuery query) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(query.countSql())) {
+            query.bindCount(stmt);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
         }
     }
 
     @Override
     protected void doPost(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
         String type = req.getParameter("type");
+        WriteHandler handler = handlers.getWrite(type);
+        if (handler == null) {
+            ResponseUtil.sendError(resp, 400, "BAD_REQUEST", "Unsupported creation type");
+            return;
+        }
+        RequestMetrics.setType(req, type);
+        HandlerMetrics metrics = handlers.metrics(handler);
+        String role = (String) req.getAttribute("userRole");
+        if (!handler.getAccess().allows(role)) {
+            metrics.denied();
+            ResponseUtil.sendForbidden(resp, "Your role cannot create " + type);
+            return;
+        }
         String userId = (String) req.getAttribute("userId");
         if (userId == null)
             userId = "admin-uuid-001";
+        HandlerRequest request = new HandlerRequest(userId, role, Collections.emptyMap());
 
-        try (Connection conn = DatabaseConnectionManager.getConnection()) {
+        long start = System.nanoTime();
+        try (Connection conn = connections.get()) {
             JsonNode root = mapper.readTree(req.getReader());
-
-            if ("notices".equals(type)) {
-                String title = root.get("title").asText();
-                String content = root.get("content").asText();
-                String audience = root.get("target_audience").asText();
-
-                String sql = "INSERT INTO notices (id, title, content, target_audience, published_by) VALUES (?, ?, ?, ?, ?)";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, java.util.UUID.randomUUID().toString());
-                    stmt.setString(2, title);
-                    stmt.setString(3, content);
-                    stmt.setString(4, audience);
-                    stmt.setString(5, userId);
-                    stmt.executeUpdate();
-                }
-            } else if ("assignments".equals(type)) {
-                String subId = root.get("subject_id").asText();
-                String title = root.get("title").asText();
-                String desc = root.get("description").asText();
-                String deadline = root.get("deadline").asText();
-
-                String sql = "INSERT INTO assignments (id, subject_id, title, description, deadline, created_by) VALUES (?, ?, ?, ?, ?, ?)";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, java.util.UUID.randomUUID().toString());
-                    stmt.setString(2, subId);
-                    stmt.setString(3, title);
-                    stmt.setString(4, desc);
-                    stmt.setTimestamp(5, java.sql.Timestamp.valueOf(deadline));
-                    stmt.setString(6, userId);
-                    stmt.executeUpdate();
-                }
-            } else if ("submissions".equals(type)) {
-                String assId = root.get("assignment_id").asText();
-                String content = root.get("content").asText();
-
-                String studentId = null;
-                try (PreparedStatement sStmt = conn.prepareStatement("SELECT id FROM students WHERE user_id = ?")) {
-                    sStmt.setString(1, userId);
-                    try (ResultSet rs = sStmt.executeQuery()) {
-                        if (rs.next())
-                            studentId = rs.getString("id");
-                    }
-                }
-
-                if (studentId == null) {
-                    ResponseUtil.sendError(resp, 403, "FORBIDDEN", "Only students can submit assignments");
-                    return;
-                }
-
-                String sql = "INSERT INTO submissions (id, assignment_id, student_id, content_body) VALUES (?, ?, ?, ?)";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setString(1, java.util.UUID.randomUUID().toString());
-                    stmt.setString(2, assId);
-                    stmt.setString(3, studentId);
-                    stmt.setString(4, content);
-                    stmt.executeUpdate();
-                }
-            } else if ("mark_attendance".equals(type)) {
-                String date = root.get("date").asText();
-                JsonNode attendances = root.get("attendances");
-
-                String sql = "INSERT INTO student_attendance (id, student_id, date, status) VALUES (?, ?, ?, ?) ON DUPLICATE KEY UPDATE status = VALUES(status)";
-                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    for (JsonNode att : attendances) {
-                        stmt.setString(1, java.util.UUID.randomUUID().toString());
-                        stmt.setString(2, att.get("student_id").asText());
-                        stmt.setDate(3, java.sql.Date.valueOf(date));
-                        stmt.setString(4, att.get("status").asText());
-                        stmt.addBatch();
-                    }
-                    stmt.executeBatch();
-                }
-            } else {
-                ResponseUtil.sendError(resp, 400, "BAD_REQUEST", "Unsupported creation type");
-                return;
-            }
+            handler.write(conn, request, root);
+            TableVersions.bump(handler.getTables());
+            metrics.record(System.nanoTime() - start, 1);
 
             ObjectNode response = mapper.createObjectNode();
             response.put("message", type + " processed successfully");
@@ -467,7 +264,11 @@ public class DashboardDataServlet extends HttpServlet {
             resp.setContentType("application/json");
             resp.getWriter().write(mapper.writeValueAsString(response));
 
+        } catch (HandlerException e) {
+            metrics.denied();
+            ResponseUtil.sendError(resp, e.getStatus(), e.getCode(), e.getMessage());
         } catch (Exception e) {
+            metrics.error();
             e.printStackTrace();
             ResponseUtil.sendError(resp, 500, "DATABASE_ERROR", "Failed to process request");
         }
@@ -0,0 +1,31 @@
+package org.example.fms.core.api.servlet;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.metrics.MetricsExporter;
+import org.example.fms.core.metrics.PrometheusFormat;
+import org.example.fms.core.util.ResponseUtil;
+
+import java.io.IOException;
+
+/**
+ * Server metrics in the Prometheus text format.
+ * Protected by AuthFilter. Requires 'super_admin' role (enforced here).
+ */
+@WebServlet("/api/v1/admin/metrics")
+public class MetricsServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+        if (!"super_admin".equals(req.getAttribute("userRole"))) {
+            ResponseUtil.sendForbidden(resp, "Only a super admin can read server metrics.");
+            return;
+        }
+        resp.setContentType(PrometheusFormat.CONTENT_TYPE);
+        resp.setHeader("Cache-Control", "no-store");
+        resp.getWriter().write(MetricsExporter.scrape());
+    }
+}
@@ -11,12 +11,14 @@ import org.example.fms.core.api.dto.UserCreateDTO;
 import org.example.fms.core.audit.AuditLogger;
 import org.example.fms.core.database.dao.StudentDao;
 import org.example.fms.core.database.dao.UserDao;
+import org.example.fms.core.security.PasswordHasher;
 import org.example.fms.core.util.ResponseUtil;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Handle student application and enrollment processes.
@@ -83,6 +85,9 @@ public class StudentProfileServlet extends HttpServlet {
 
             ResponseUtil.sendCreated(resp, data);
 
+        } catch (RejectedExecutionException e) {
+            ResponseUtil.sendServiceUnavailable(resp, "Server is busy hashing passwords, please retry",
+                    PasswordHasher.estimatedBacklogSeconds());
         } catch (Exception e) {
             e.printStackTrace();
             ResponseUtil.sendError(resp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "INTERNAL_ERROR",
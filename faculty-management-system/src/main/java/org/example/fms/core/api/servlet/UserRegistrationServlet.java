@@ -9,12 +9,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.example.fms.core.api.dto.UserCreateDTO;
 import org.example.fms.core.audit.AuditLogger;
 import org.example.fms.core.database.dao.UserDao;
+import org.example.fms.core.security.PasswordHasher;
 import org.example.fms.core.util.ResponseUtil;
 
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Endpoint for creating new user accounts.
@@ -71,6 +73,9 @@ public class UserRegistrationServlet extends HttpServlet {
 
             ResponseUtil.sendCreated(resp, data);
 
+        } catch (RejectedExecutionException e) {
+            ResponseUtil.sendServiceUnavailable(resp, "Server is busy hashing passwords, please retry",
+                    PasswordHasher.estimatedBacklogSeconds());
         } catch (SQLException e) {
             if (e.getMessage().contains("Duplicate") || e.getMessage().contains("UNIQUE")) {
                 ResponseUtil.sendError(resp, HttpServletResponse.SC_CONFLICT, "CONFLICT",
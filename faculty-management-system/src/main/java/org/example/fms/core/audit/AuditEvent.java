@@ -0,0 +1,127 @@
+package org.example.fms.core.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * One immutable audit_logs row, captured on the request thread.
+ * Everything needed from the HTTP request is copied out up front because the
+ * row is written later by the audit writer thread.
+ */
+public class AuditEvent {
+    private final String id;
+    private final long timestampMillis;
+    private final String actorId;
+    private final String actorRole;
+    private final String action;
+    private final String module;
+    private final String resourceType;
+    private final String resourceId;
+    private final String oldValue;
+    private final String newValue;
+    private final String ipAddress;
+    private final String deviceFingerprint;
+    private final String sessionId;
+
+    public AuditEvent(String id, long timestampMillis, String actorId, String actorRole, String action,
+            String module, String resourceType, String resourceId, String oldValue, String newValue,
+            String ipAddress, String deviceFingerprint, String sessionId) {
+        this.id = id;
+        this.timestampMillis = timestampMillis;
+        this.actorId = actorId;
+        this.actorRole = actorRole;
+        this.action = action;
+        this.module = module;
+        this.resourceType = resourceType;
+        this.resourceId = resourceId;
+        this.oldValue = oldValue;
+        this.newValue = newValue;
+        this.ipAddress = ipAddress;
+        this.deviceFingerprint = deviceFingerprint;
+        this.sessionId = sessionId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public String getActorId() {
+        return actorId;
+    }
+
+    public String getActorRole() {
+        return actorRole;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getModule() {
+        return module;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+
+    public String getOldValue() {
+        return oldValue;
+    }
+
+    public String getNewValue() {
+        return newValue;
+    }
+
+    public String getIpAddress() {
+        return ipAddress;
+    }
+
+    public String getDeviceFingerprint() {
+        return deviceFingerprint;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /** Serializes the event for the local write-ahead log. */
+    public ObjectNode toJson() {
+        ObjectNode node = JsonNodeFactory.instance.objectNode();
+        node.put("id", id);
+        node.put("ts", timestampMillis);
+        node.put("actorId", actorId);
+        node.put("actorRole", actorRole);
+        node.put("action", action);
+        node.put("module", module);
+        node.put("resourceType", resourceType);
+        node.put("resourceId", resourceId);
+        node.put("oldValue", oldValue);
+        node.put("newValue", newValue);
+        node.put("ip", ipAddress);
+        node.put("device", deviceFingerprint);
+        node.put("session", sessionId);
+        return node;
+    }
+
+    public static AuditEvent fromJson(JsonNode node) {
+        return new AuditEvent(text(node, "id"), node.path("ts").asLong(), text(node, "actorId"),
+                text(node, "actorRole"), text(node, "action"), text(node, "module"), text(node, "resourceType"),
+                text(node, "resourceId"), text(node, "oldValue"), text(node, "newValue"), text(node, "ip"),
+                text(node, "device"), text(node, "session"));
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
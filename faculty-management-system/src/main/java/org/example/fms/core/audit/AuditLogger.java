@@ -1,25 +1,45 @@
 package org.example.fms.core.audit;
 
-import org.example.fms.core.database.DatabaseConnectionManager;
-
 import jakarta.servlet.http.HttpServletRequest;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
+import org.example.fms.core.config.FmsConfig;
+import org.example.fms.core.server.RequestContext;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Handles all writes to the immutable audit_logs table.
  * As per specifications, every create, update, delete, login, and logout event
  * is tracked here.
+ * Records are appended to a local write-ahead log and shipped to the
+ * database in batches by an {@link AuditWriter}, so request threads never
+ * wait on the audit INSERT. The log directory, fsync policy and what to do
+ * when the log is full are the audit.* settings of {@link FmsConfig}. If the
+ * log cannot be opened (a read-only working directory, say) each record is
+ * written to the database directly instead, on the request thread.
  */
 public class AuditLogger {
 
+    private static final int BATCH_SIZE = 200;
+    private static final long FLUSH_INTERVAL_MILLIS = 250;
+    private static final int SEGMENT_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_SEGMENTS = 64; // 512 MB of audit backlog before back-pressure
+    private static final long FSYNC_INTERVAL_MILLIS = 1_000;
+
+    // Null when the write-ahead log could not be opened
+    private static final AuditWriter WRITER = createWriter();
+    private static final AuditSink DIRECT = new JdbcAuditSink();
+
     public enum Action {
         CREATE, UPDATE, DELETE, LOGIN, LOGOUT, LOGIN_FAILED, UNLOCK, EXPORT
     }
 
     /**
-     * Logs an action to the audit_logs table.
+     * Logs an action to the audit_logs table. The record is appended to the
+     * local audit log and written to the database asynchronously in a batch.
      *
      * @param request      The current HTTP request to extract IP and Session info
      * @param actorId      The ID of the user performing the action (null if system
@@ -41,35 +61,68 @@ public class AuditLogger {
 
         String ipAddress = request != null ? request.getRemoteAddr() : "SYSTEM";
         String userAgent = request != null ? request.getHeader("User-Agent") : "SYSTEM";
-        String sessionId = request != null ? request.getSession().getId() : null;
+        // The API is stateless, so the session_id column carries the request ID
+        // instead; it matches the X-Request-Id header and the access log
+        String sessionId = request != null ? RequestContext.idOf(request) : null;
 
-        String query = "INSERT INTO audit_logs (id, actor_id, actor_role, action, module, " +
-                "resource_type, resource_id, old_value, new_value, ip_address, device_fingerprint, session_id) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-        try (Connection conn = DatabaseConnectionManager.getConnection();
-                PreparedStatement stmt = conn.prepareStatement(query)) {
+        AuditEvent event = new AuditEvent(UUID.randomUUID().toString(), System.currentTimeMillis(), actorId,
+                actorRole, action.name(), module, resourceType, resourceId, oldValueJson, newValueJson, ipAddress,
+                userAgent, sessionId);
+        if (WRITER != null) {
+            WRITER.submit(event);
+        } else {
+            writeDirect(event);
+        }
+    }
 
-            stmt.setString(1, UUID.randomUUID().toString());
-            stmt.setString(2, actorId);
-            stmt.setString(3, actorRole);
-            stmt.setString(4, action.name());
-            stmt.setString(5, module);
-            stmt.setString(6, resourceType);
-            stmt.setString(7, resourceId);
-            stmt.setString(8, oldValueJson);
-            stmt.setString(9, newValueJson);
-            stmt.setString(10, ipAddress);
-            stmt.setString(11, userAgent);
-            stmt.setString(12, sessionId);
+    /**
+     * Counters of the asynchronous audit writer (queued, written, spilled,
+     * dropped, ...).
+     */
+    public static Map<String, Object> getStats() {
+        if (WRITER == null) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("policy", "DIRECT");
+            return stats;
+        }
+        return WRITER.getStats();
+    }
 
-            stmt.executeUpdate();
+    /**
+     * Writes all pending audit records. Called once on application shutdown,
+     * before the connection pool is closed.
+     */
+    public static void shutdown() {
+        if (WRITER != null) {
+            WRITER.shutdown();
+        }
+    }
 
+    private static void writeDirect(AuditEvent event) {
+        try {
+            DIRECT.write(List.of(event));
         } catch (Exception e) {
-            // In a production system, failure to audit might require halting the main
-            // transaction.
+            // Last resort: keep the record in the server log rather than lose it
             System.err.println("Critical Error: Failed to write to audit log!");
             e.printStackTrace();
+            System.err.println("AUDIT " + event.toJson());
+        }
+    }
+
+    private static AuditWriter createWriter() {
+        Path walDir = null;
+        try {
+            FmsConfig config = FmsConfig.get();
+            walDir = config.getAuditWalDir();
+            AuditWal wal = new AuditWal(walDir, SEGMENT_SIZE, MAX_SEGMENTS, config.getAuditFsync(),
+                    FSYNC_INTERVAL_MILLIS);
+            return new AuditWriter(new JdbcAuditSink(), wal, config.getAuditOverflow(), BATCH_SIZE, FLUSH_INTERVAL_MILLIS);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Critical Error: Could not open audit log"
+                    + (walDir != null ? " in " + walDir.toAbsolutePath() : "")
+                    + "; audit records will be written to the database directly.");
+            e.printStackTrace();
+            return null;
         }
     }
 }
@@ -0,0 +1,12 @@
+package org.example.fms.core.audit;
+
+import java.util.List;
+
+/**
+ * Destination for batches of audit events. A call either stores the whole
+ * batch or throws; writing the same event twice must be harmless so failed
+ * batches can be retried.
+ */
+public interface AuditSink {
+    void write(List<AuditEvent> batch) throws Exception;
+}
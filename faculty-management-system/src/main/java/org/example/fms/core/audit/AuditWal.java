@@ -0,0 +1,411 @@
+package org.example.fms.core.audit;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Local write-ahead log for audit records.
+ *
+ * Records are appended to fixed-size, memory-mapped segment files in one
+ * directory. Each record is stored as {@code [length][crc32c][payload]}; a zero
+ * length marks the end of the written part of a segment. Appending is a memory
+ * copy, so request threads never wait on the database, and the records survive
+ * a crash of the application (and, depending on the fsync policy, of the
+ * machine).
+ *
+ * A single reader ships records onward and acknowledges positions it has
+ * stored; segments that lie entirely before the acknowledged position are
+ * deleted. Segments left over from a previous run are read first, and are
+ * never appended to again, so a record torn by a crash is never overwritten
+ * or glued to a new one.
+ */
+public class AuditWal {
+
+    /** When appended records are forced from the page cache to disk. */
+    public enum FsyncPolicy {
+        /** After every record. Survives power loss; costs a disk flush per event. */
+        ALWAYS,
+        /** Every fsyncIntervalMillis on a background thread. */
+        INTERVAL,
+        /** Left to the operating system. Survives an application crash only. */
+        NEVER
+    }
+
+    /** A read position: segment id plus byte offset within that segment. */
+    public static final class Position {
+        private final long segment;
+        private final int offset;
+
+        Position(long segment, int offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+
+        @Override
+        public String toString() {
+            return segment + ":" + offset;
+        }
+    }
+
+    private static final String SUFFIX = ".wal";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path dir;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final FsyncPolicy fsyncPolicy;
+    private final ScheduledExecutorService syncer;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition spaceFreed = lock.newCondition();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private Segment active; // guarded by lock
+    private boolean closed; // guarded by lock
+
+    private static final class Segment {
+        final long id;
+        final Path path;
+        final MappedByteBuffer buffer;
+        // End of the records written so far. Written under the WAL lock after the
+        // record bytes, so a reader that sees the new limit also sees the record.
+        volatile int limit;
+        volatile boolean sealed;
+
+        Segment(long id, Path path, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+
+    public AuditWal(Path dir, int segmentSize, int maxSegments, FsyncPolicy fsyncPolicy, long fsyncIntervalMillis)
+            throws IOException {
+        if (segmentSize <= HEADER_BYTES || maxSegments < 2) {
+            throw new IllegalArgumentException("segmentSize must exceed the record header and maxSegments must be >= 2");
+        }
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.fsyncPolicy = fsyncPolicy;
+        Files.createDirectories(dir);
+        recover();
+        long nextId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        active = createSegment(nextId, segmentSize);
+
+        if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+            syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "fms-audit-fsync");
+                t.setDaemon(true);
+                return t;
+            });
+            syncer.scheduleWithFixedDelay(this::sync, fsyncIntervalMillis, fsyncIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            syncer = null;
+        }
+    }
+
+    /**
+     * Appends one record.
+     *
+     * @param maxWaitMillis when the log is at maxSegments, how long to wait for
+     *                      the reader to free a segment; 0 to not wait
+     * @return false if the log is still full after maxWaitMillis
+     * @throws IllegalStateException if the log has been closed
+     */
+    public boolean append(byte[] payload, long maxWaitMillis) throws IOException, InterruptedException {
+        int need = HEADER_BYTES + payload.length;
+        CRC32C crc = new CRC32C();
+        crc.update(payload, 0, payload.length);
+        int checksum = (int) crc.getValue();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Audit log is closed");
+            }
+            if (active.limit + need > active.buffer.capacity()) {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                while (segments.size() >= maxSegments) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = spaceFreed.awaitNanos(remaining);
+                    if (closed) {
+                        throw new IllegalStateException("Audit log is closed");
+                    }
+                }
+                roll(need);
+            }
+            int pos = active.limit;
+            MappedByteBuffer buffer = active.buffer;
+            buffer.putInt(pos + 4, checksum);
+            buffer.put(pos + HEADER_BYTES, payload);
+            buffer.putInt(pos, payload.length);
+            if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+                buffer.force(pos, need);
+            }
+            active.limit = pos + need;
+            appended.signalAll();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Position of the oldest record still on disk. */
+    public Position start() {
+        return new Position(segments.firstKey(), 0);
+    }
+
+    /**
+     * Reads up to max payloads starting at from.
+     *
+     * @return the position just past the last payload read
+     */
+    public Position read(Position from, int max, List<byte[]> out) {
+        Map.Entry<Long, Segment> entry = segments.ceilingEntry(from.segment);
+        if (entry == null) {
+            return from;
+        }
+        Segment segment = entry.getValue();
+        int pos = segment.id == from.segment ? from.offset : 0;
+        int read = 0;
+        while (true) {
+            // Read sealed before limit: once sealed, limit no longer moves
+            boolean sealed = segment.sealed;
+            int limit = segment.limit;
+            while (read < max && pos < limit) {
+                int length = segment.buffer.getInt(pos);
+                byte[] payload = new byte[length];
+                segment.buffer.get(pos + HEADER_BYTES, payload);
+                out.add(payload);
+                pos += HEADER_BYTES + length;
+                read++;
+            }
+            if (pos < limit || !sealed) {
+                return new Position(segment.id, pos);
+            }
+            Map.Entry<Long, Segment> next = segments.higherEntry(segment.id);
+            if (next == null) {
+                return new Position(segment.id, pos);
+            }
+            segment = next.getValue();
+            pos = 0;
+            if (read == max) {
+                return new Position(segment.id, 0);
+            }
+        }
+    }
+
+    /**
+     * Waits until a record is available at the position or the timeout expires.
+     */
+    public void awaitData(Position at, long timeoutMillis) throws InterruptedException {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        lock.lock();
+        try {
+            while (remaining > 0 && !closed && !hasData(at)) {
+                remaining = appended.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean hasData(Position at) {
+        Segment current = segments.get(at.segment);
+        if (current != null) {
+            if (at.offset < current.limit) {
+                return true;
+            }
+            if (!current.sealed) {
+                return false;
+            }
+        }
+        for (Segment later : segments.tailMap(at.segment, false).values()) {
+            if (later.limit > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks every record before the position as stored, deleting segments that
+     * hold nothing else.
+     */
+    public void ack(Position upTo) {
+        lock.lock();
+        try {
+            boolean freed = false;
+            for (Segment segment : new ArrayList<>(segments.headMap(upTo.segment).values())) {
+                if (segment == active) {
+                    break;
+                }
+                segments.remove(segment.id);
+                unmap(segment.buffer);
+                try {
+                    Files.deleteIfExists(segment.path);
+                } catch (IOException e) {
+                    System.err.println("Could not delete audit log segment " + segment.path + ": " + e.getMessage());
+                }
+                freed = true;
+            }
+            if (freed) {
+                spaceFreed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Forces the active segment's records to disk. */
+    public void sync() {
+        lock.lock();
+        try {
+            if (!closed) {
+                active.buffer.force(0, active.limit);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Could not sync audit log: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Number of segment files on disk, including the one being appended to. */
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public Path getDirectory() {
+        return dir;
+    }
+
+    /**
+     * Forces outstanding records to disk and rejects further appends. Mapped
+     * buffers are left to the garbage collector because the reader may still
+     * be running.
+     */
+    public void close() {
+        if (syncer != null) {
+            syncer.shutdownNow();
+        }
+        lock.lock();
+        try {
+            if (!closed) {
+                active.buffer.force(0, active.limit);
+                closed = true;
+                appended.signalAll();
+                spaceFreed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void roll(int need) throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            active.buffer.force(0, active.limit);
+        }
+        active.sealed = true;
+        active = createSegment(active.id + 1, Math.max(segmentSize, need));
+    }
+
+    private Segment createSegment(long id, int size) throws IOException {
+        Path path = dir.resolve(String.format("%016d%s", id, SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            Segment segment = new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            segments.put(id, segment);
+            return segment;
+        }
+    }
+
+    /**
+     * Maps the segments left by a previous run and finds where their valid
+     * records end. Every recovered segment is sealed.
+     */
+    private void recover() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        for (Path path : files) {
+            String name = path.getFileName().toString();
+            long id;
+            try {
+                id = Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                Segment segment = new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+                segment.limit = validEnd(segment.buffer);
+                segment.sealed = true;
+                segments.put(id, segment);
+            }
+        }
+        if (!segments.isEmpty()) {
+            System.out.println("Recovered " + segments.size() + " audit log segment(s) from " + dir);
+        }
+    }
+
+    private static int validEnd(MappedByteBuffer buffer) {
+        int pos = 0;
+        int capacity = buffer.capacity();
+        CRC32C crc = new CRC32C();
+        while (pos + HEADER_BYTES <= capacity) {
+            int length = buffer.getInt(pos);
+            if (length <= 0 || length > capacity - pos - HEADER_BYTES) {
+                break;
+            }
+            ByteBuffer payload = buffer.slice(pos + HEADER_BYTES, length);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(pos + 4)) {
+                System.err.println("Audit log record at offset " + pos + " failed its checksum; "
+                        + "treating it as the end of the segment.");
+                break;
+            }
+            pos += HEADER_BYTES + length;
+        }
+        return pos;
+    }
+
+    /**
+     * Releases a mapping immediately instead of waiting for GC, so the segment
+     * file can be deleted on Windows. Falls back to GC if the JDK does not
+     * allow it.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Object unsafe = field.get(null);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafe, buffer);
+        } catch (Exception e) {
+            // The mapping is released when the buffer is garbage collected
+        }
+    }
+}
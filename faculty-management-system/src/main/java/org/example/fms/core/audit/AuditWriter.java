@@ -0,0 +1,323 @@
+package org.example.fms.core.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves audit writes off the request thread.
+ *
+ * submit() appends the event to the local {@link AuditWal} and returns; the
+ * record is durable before the database ever sees it. A single writer thread
+ * replays the log into the sink, flushing a batch once it holds batchSize
+ * events or the oldest event has waited flushIntervalMillis, whichever comes
+ * first. Only stored batches are acknowledged, so a database outage delays
+ * audit rows instead of losing them: they stay on disk, across restarts if
+ * need be, until the sink accepts them.
+ *
+ * A batch the database keeps rejecting for a reason a retry cannot fix (a
+ * value too long for its column, a foreign key that does not exist) would
+ * hold up every record behind it. After a few such failures the batch is
+ * split until the offending records are found; those are appended to
+ * {@value #DEAD_LETTER_FILE} in the log directory and counted, and the rest
+ * are stored.
+ */
+public class AuditWriter {
+
+    /** What submit does when the write-ahead log is at its size limit. */
+    public enum OverflowPolicy {
+        /**
+         * Wait for the writer to ship a segment; the request thread absorbs the
+         * back-pressure. An event that still finds no room after a few seconds
+         * goes to the server log instead.
+         */
+        BLOCK,
+        /** Discard the event and count it in the dropped counter. */
+        DROP
+    }
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final long RETRY_MILLIS = 5_000;
+    private static final long BLOCK_TIMEOUT_MILLIS = 5_000;
+    /** Rejections of the same batch before it is split to find the bad records. */
+    private static final int ISOLATE_AFTER_FAILURES = 3;
+    static final String DEAD_LETTER_FILE = "dead-letter.jsonl";
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final AuditSink sink;
+    private final AuditWal wal;
+    private final OverflowPolicy policy;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long retryMillis;
+    private final long blockTimeoutMillis;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong blockTimeouts = new AtomicLong();
+    private final AtomicLong quarantined = new AtomicLong();
+    private int consecutiveFailures; // writer thread only
+
+    public AuditWriter(AuditSink sink, AuditWal wal, OverflowPolicy policy, int batchSize, long flushIntervalMillis) {
+        this(sink, wal, policy, batchSize, flushIntervalMillis, RETRY_MILLIS, BLOCK_TIMEOUT_MILLIS);
+    }
+
+    AuditWriter(AuditSink sink, AuditWal wal, OverflowPolicy policy, int batchSize, long flushIntervalMillis,
+            long retryMillis, long blockTimeoutMillis) {
+        if (batchSize < 1 || flushIntervalMillis < 1) {
+            throw new IllegalArgumentException("batchSize and flushIntervalMillis must be positive");
+        }
+        this.sink = sink;
+        this.wal = wal;
+        this.policy = policy;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.retryMillis = retryMillis;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.writerThread = new Thread(this::run, "fms-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Appends an event to the write-ahead log. Never throws; how a full log is
+     * handled depends on the overflow policy.
+     */
+    public void submit(AuditEvent event) {
+        submitted.incrementAndGet();
+        try {
+            byte[] payload = mapper.writeValueAsBytes(event.toJson());
+            if (policy == OverflowPolicy.BLOCK) {
+                if (!wal.append(payload, blockTimeoutMillis)) {
+                    blockTimeouts.incrementAndGet();
+                    lost(event, "audit log still full after " + blockTimeoutMillis + " ms");
+                }
+            } else if (!wal.append(payload, 0)) {
+                if (dropped.incrementAndGet() % 1000 == 1) {
+                    System.err.println("Warning: audit log full, dropping events (" + dropped.get()
+                            + " dropped so far)");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lost(event, e);
+        } catch (IOException | RuntimeException e) {
+            lost(event, e);
+        }
+    }
+
+    /**
+     * Ships what the log still holds, waiting up to a timeout, then closes the
+     * log. Anything not shipped in time stays on disk for the next start.
+     */
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        wal.close();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("policy", policy.name());
+        stats.put("segments", wal.getSegmentCount());
+        stats.put("submitted", submitted.get());
+        stats.put("written", written.get());
+        stats.put("batches", batches.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("dropped", dropped.get());
+        stats.put("blockTimeouts", blockTimeouts.get());
+        stats.put("quarantined", quarantined.get());
+        return stats;
+    }
+
+    private void run() {
+        AuditWal.Position position = wal.start();
+        List<byte[]> payloads = new ArrayList<>(batchSize);
+        while (running || wal.hasData(position)) {
+            try {
+                payloads.clear();
+                AuditWal.Position next = wal.read(position, batchSize, payloads);
+                if (payloads.isEmpty()) {
+                    // Nothing left in the segment just finished; let it be deleted
+                    wal.ack(next);
+                    position = next;
+                    if (running) {
+                        wal.awaitData(position, flushIntervalMillis);
+                    }
+                    continue;
+                }
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                while (payloads.size() < batchSize && running) {
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (remainingMillis <= 0) {
+                        break;
+                    }
+                    wal.awaitData(next, remainingMillis);
+                    next = wal.read(next, batchSize - payloads.size(), payloads);
+                }
+
+                if (flush(payloads)) {
+                    wal.ack(next);
+                    position = next;
+                } else if (running) {
+                    pauseBeforeRetry();
+                } else {
+                    // Database still unavailable at shutdown; the log keeps the rest
+                    break;
+                }
+            } catch (InterruptedException e) {
+                // Only shutdown stops the writer; keep draining
+            } catch (RuntimeException e) {
+                System.err.println("Unexpected error in audit writer.");
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void pauseBeforeRetry() throws InterruptedException {
+        // Sleep in short steps so shutdown is not held up by the retry delay
+        long until = System.currentTimeMillis() + retryMillis;
+        while (running && System.currentTimeMillis() < until) {
+            Thread.sleep(100);
+        }
+    }
+
+    private boolean flush(List<byte[]> payloads) {
+        List<AuditEvent> batch = new ArrayList<>(payloads.size());
+        for (byte[] payload : payloads) {
+            try {
+                batch.add(AuditEvent.fromJson(mapper.readTree(payload)));
+            } catch (IOException e) {
+                // The record passed its checksum, so this is a format problem that
+                // a retry would not fix
+                System.err.println("Skipping unreadable audit record: " + e.getMessage());
+            }
+        }
+        try {
+            store(batch);
+            consecutiveFailures = 0;
+            return true;
+        } catch (Exception e) {
+            failedBatches.incrementAndGet();
+            consecutiveFailures = isPermanent(e) ? consecutiveFailures + 1 : 0;
+            if (consecutiveFailures >= ISOLATE_AFTER_FAILURES) {
+                System.err.println("Audit batch of " + batch.size() + " records rejected " + consecutiveFailures
+                        + " times (" + e.getMessage() + "); looking for the records at fault.");
+                boolean settled = isolate(batch, e);
+                if (settled) {
+                    consecutiveFailures = 0;
+                }
+                return settled;
+            }
+            System.err.println("Critical Error: Failed to write " + batch.size()
+                    + " audit records; they stay in " + wal.getDirectory() + " and will be retried.");
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    private void store(List<AuditEvent> batch) throws Exception {
+        sink.write(batch);
+        written.addAndGet(batch.size());
+        batches.incrementAndGet();
+    }
+
+    /**
+     * Splits a batch the database rejected in halves until every part is
+     * either stored or a single record the database refuses, which is
+     * quarantined. Stops early, leaving the batch to be retried whole, if the
+     * database becomes unavailable meanwhile; the records already stored are
+     * then written again, harmlessly.
+     *
+     * @return whether every record was stored or quarantined
+     */
+    private boolean isolate(List<AuditEvent> batch, Exception cause) {
+        if (batch.size() == 1) {
+            quarantine(batch.get(0), cause);
+            return true;
+        }
+        int half = batch.size() / 2;
+        for (List<AuditEvent> part : List.of(batch.subList(0, half), batch.subList(half, batch.size()))) {
+            try {
+                store(part);
+            } catch (Exception e) {
+                if (!isPermanent(e)) {
+                    return false;
+                }
+                if (!isolate(part, e)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void quarantine(AuditEvent event, Exception cause) {
+        quarantined.incrementAndGet();
+        Path file = wal.getDirectory().resolve(DEAD_LETTER_FILE);
+        System.err.println("Audit record " + event.getId() + " rejected by the database (" + cause.getMessage()
+                + "); moved to " + file);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            out.write(mapper.writeValueAsString(event.toJson().put("error", String.valueOf(cause.getMessage()))));
+            out.write(System.lineSeparator());
+        } catch (IOException e) {
+            lost(event, e);
+        }
+    }
+
+    /**
+     * Whether the database refused the data itself (SQL states 22 and 23:
+     * data exceptions and constraint violations), so that sending it again
+     * can never succeed. Connection problems and timeouts are not.
+     */
+    static boolean isPermanent(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLDataException || t instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+            if (t instanceof SQLException) {
+                String state = ((SQLException) t).getSQLState();
+                if (state != null && (state.startsWith("22") || state.startsWith("23"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void lost(AuditEvent event, Exception cause) {
+        // Last resort: keep the record in the server log rather than lose it
+        System.err.println("Critical Error: Failed to write to audit log!");
+        cause.printStackTrace();
+        System.err.println("AUDIT " + event.toJson());
+    }
+
+    private void lost(AuditEvent event, String reason) {
+        System.err.println("Critical Error: Failed to write to audit log: " + reason);
+        System.err.println("AUDIT " + event.toJson());
+    }
+}
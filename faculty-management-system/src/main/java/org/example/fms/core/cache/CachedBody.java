@@ -0,0 +1,44 @@
+package org.example.fms.core.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A pre-serialized UTF-8 JSON response body, with its gzip encoding built
+ * once on first demand. Both arrays are shared between requests and must not
+ * be modified.
+ */
+public final class CachedBody {
+
+    private final byte[] json;
+    private volatile byte[] gzip;
+
+    public CachedBody(byte[] json) {
+        this.json = json;
+    }
+
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * The body gzip-encoded. Two threads may race to build it on first use;
+     * both produce the same bytes, so the extra work is harmless.
+     */
+    public byte[] gzip() {
+        byte[] encoded = gzip;
+        if (encoded == null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+            try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+                zip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // Cannot happen with an in-memory stream
+            }
+            encoded = out.toByteArray();
+            gzip = encoded;
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.fms.core.cache;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+
+/**
+ * A read-through cache bounded by entry count (least recently used entries go
+ * first) and by age.
+ *
+ * On a miss the caller's loader runs outside the lock; concurrent requests for
+ * the same key wait for that one load instead of each running their own
+ * query. Invalidated entries are removed at once, including loads still in
+ * flight, so the next request after a write always loads fresh data.
+ *
+ * @param <K> key type; needs equals/hashCode
+ * @param <V> value type; should be immutable, since every hit shares it
+ */
+public class ReadThroughCache<K, V> {
+
+    /**
+     * Produces the value for a missing key, typically by running a query.
+     */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load() throws SQLException, IOException;
+    }
+
+    private static final class Entry<V> {
+        final CompletableFuture<V> value = new CompletableFuture<>();
+        volatile long loadedAt;
+    }
+
+    private final String name;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public ReadThroughCache(String name, int maxEntries, long ttlMillis) {
+        if (maxEntries < 1 || ttlMillis < 1) {
+            throw new IllegalArgumentException("maxEntries and ttlMillis must be positive");
+        }
+        this.name = name;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value for the key, loading it first if it is missing
+     * or expired. A failed load is not cached.
+     */
+    public V get(K key, Loader<V> loader) throws SQLException, IOException {
+        Entry<V> entry;
+        boolean owner = false;
+        synchronized (this) {
+            entry = entries.get(key);
+            if (entry != null && entry.value.isDone() && System.nanoTime() - entry.loadedAt > ttlNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry<>();
+                entries.put(key, entry);
+                owner = true;
+                misses++;
+            } else {
+                hits++;
+            }
+        }
+
+        if (owner) {
+            try {
+                V value = loader.load();
+                entry.loadedAt = System.nanoTime();
+                entry.value.complete(value);
+                return value;
+            } catch (SQLException | IOException | RuntimeException e) {
+                synchronized (this) {
+                    entries.remove(key, entry);
+                }
+                entry.value.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return await(entry);
+    }
+
+    /**
+     * Drops the entries whose key matches.
+     */
+    public synchronized void invalidate(Predicate<K> matching) {
+        Iterator<K> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (matching.test(keys.next())) {
+                keys.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", entries.size());
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("invalidations", invalidations);
+        return stats;
+    }
+
+    private V await(Entry<V> entry) throws SQLException, IOException {
+        try {
+            return entry.value.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+}
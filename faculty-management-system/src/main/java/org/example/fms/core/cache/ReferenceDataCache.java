@@ -0,0 +1,88 @@
+package org.example.fms.core.cache;
+
+import org.example.fms.core.config.FmsConfig;
+import org.example.fms.core.database.TableVersions;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Server-side cache of rendered reference lists (subjects, holidays, library,
+ * learning materials): data that changes a few times per semester but is read
+ * on nearly every dashboard visit.
+ *
+ * Entries hold the finished JSON bytes per list type and query, so a hit costs
+ * neither a database round trip nor serialization. Entries are dropped when
+ * {@link TableVersions#bump} reports a write to any table they read, and in
+ * any case after a few minutes, which bounds staleness from writes made
+ * outside this server.
+ */
+public class ReferenceDataCache {
+
+    private static final ReadThroughCache<Key, CachedBody> CACHE = new ReadThroughCache<>("reference-data",
+            FmsConfig.get().getReferenceCacheMaxEntries(), FmsConfig.get().getReferenceCacheTtlMillis());
+
+    static {
+        TableVersions.addListener(ReferenceDataCache::invalidate);
+    }
+
+    private static final class Key {
+        final String type;
+        final String params;
+        final String[] tables;
+
+        Key(String type, String params, String[] tables) {
+            this.type = type;
+            this.params = params != null ? params : "";
+            this.tables = tables;
+        }
+
+        boolean reads(String table) {
+            return Arrays.asList(tables).contains(table);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type.equals(other.type) && params.equals(other.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, params);
+        }
+    }
+
+    /**
+     * Returns the rendered list for a type and query, rendering it with the
+     * loader on a miss.
+     *
+     * @param tables the tables the list reads; a write to any of them drops the
+     *               entry
+     */
+    public static CachedBody get(String type, String params, String[] tables,
+            ReadThroughCache.Loader<byte[]> loader) throws SQLException, IOException {
+        return CACHE.get(new Key(type, params, tables), () -> new CachedBody(loader.load()));
+    }
+
+    /**
+     * Drops every entry that reads the given table.
+     */
+    public static void invalidate(String table) {
+        CACHE.invalidate(key -> key.reads(table));
+    }
+
+    public static void invalidateAll() {
+        CACHE.invalidateAll();
+    }
+
+    public static Map<String, Object> getStats() {
+        return CACHE.getStats();
+    }
+}
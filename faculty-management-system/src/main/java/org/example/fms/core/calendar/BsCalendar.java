@@ -0,0 +1,273 @@
+package org.example.fms.core.calendar;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * The Bikram Sambat calendar for BS {@value #MIN_YEAR}-{@value #MAX_YEAR}.
+ *
+ * BS month lengths follow no formula, so they come from a table. At class
+ * load the table is turned into the day offset of every month from
+ * {@value #MIN_YEAR} Baisakh 1, which makes converting either way, the
+ * weekday and the month length a lookup rather than a walk over the years
+ * before. Months are 0-based (Baisakh = 0), like everywhere else in the
+ * application; weekdays are 0 for Sunday to 6 for Saturday, the weekly
+ * holiday.
+ */
+public final class BsCalendar {
+
+    public static final int MIN_YEAR = 2000;
+    public static final int MAX_YEAR = 2090;
+
+    /** Weekday number of Saturday. */
+    public static final int SATURDAY = 6;
+
+    private static final String[] MONTH_NAMES = { "Baisakh", "Jestha", "Ashadh", "Shrawan", "Bhadra", "Ashwin",
+            "Kartik", "Mangsir", "Poush", "Magh", "Falgun", "Chaitra" };
+
+    private static final ZoneId NEPAL = ZoneId.of("Asia/Kathmandu");
+
+    /** {@value #MIN_YEAR} Baisakh 1. */
+    private static final LocalDate FIRST_DAY = LocalDate.of(1943, 4, 14);
+
+    private static final int[][] MONTH_LENGTHS = {
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2000
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2001
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2002
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2003
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2004
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2005
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2006
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2007
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 29, 31 }, // 2008
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2009
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2010
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2011
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 30, 30 }, // 2012
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2013
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2014
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2015
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 30, 30 }, // 2016
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2017
+            { 31, 32, 31, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2018
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2019
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2020
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2021
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2022
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2023
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2024
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2025
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2026
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2027
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2028
+            { 31, 31, 32, 31, 32, 30, 30, 29, 30, 29, 30, 30 }, // 2029
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2030
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2031
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2032
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2033
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2034
+            { 30, 32, 31, 32, 31, 31, 29, 30, 30, 29, 29, 31 }, // 2035
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2036
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2037
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2038
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 30, 30 }, // 2039
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2040
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2041
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2042
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 30, 30 }, // 2043
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2044
+            { 31, 32, 31, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2045
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2046
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2047
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2048
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2049
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2050
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2051
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2052
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2053
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2054
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2055
+            { 31, 31, 32, 31, 32, 30, 30, 29, 30, 29, 30, 30 }, // 2056
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2057
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2058
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2059
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2060
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2061
+            { 30, 32, 31, 32, 31, 31, 29, 30, 29, 30, 29, 31 }, // 2062
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2063
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2064
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2065
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 29, 31 }, // 2066
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2067
+            { 31, 31, 32, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2068
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2069
+            { 31, 31, 31, 32, 31, 31, 29, 30, 30, 29, 30, 30 }, // 2070
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2071
+            { 31, 32, 31, 32, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2072
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 31 }, // 2073
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2074
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2075
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2076
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2077
+            { 31, 31, 31, 32, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2078
+            { 31, 31, 32, 31, 31, 31, 30, 29, 30, 29, 30, 30 }, // 2079
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2080
+            { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 31 }, // 2081
+            { 31, 31, 32, 31, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2082
+            { 31, 31, 32, 31, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2083
+            { 31, 31, 32, 31, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2084
+            { 31, 32, 31, 32, 30, 31, 30, 30, 29, 30, 30, 30 }, // 2085
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2086
+            { 31, 31, 32, 31, 31, 31, 30, 30, 29, 30, 30, 30 }, // 2087
+            { 30, 31, 32, 32, 30, 31, 30, 30, 29, 30, 30, 30 }, // 2088
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2089
+            { 30, 32, 31, 32, 31, 30, 30, 30, 29, 30, 30, 30 }  // 2090
+    };
+
+    /**
+     * Days from {@link #FIRST_DAY} to the first of each month, indexed by
+     * {@code (year - MIN_YEAR) * 12 + month}, with one more entry for the day
+     * after the last supported month.
+     */
+    private static final int[] MONTH_OFFSETS = new int[MONTH_LENGTHS.length * 12 + 1];
+
+    /** Average month length; a day offset divided by it lands within a month of the answer. */
+    private static final double MEAN_MONTH_DAYS = 365.25 / 12;
+
+    static {
+        for (int i = 0; i < MONTH_OFFSETS.length - 1; i++) {
+            MONTH_OFFSETS[i + 1] = MONTH_OFFSETS[i] + MONTH_LENGTHS[i / 12][i % 12];
+        }
+    }
+
+    private BsCalendar() {
+    }
+
+    public static boolean isSupported(int year) {
+        return year >= MIN_YEAR && year <= MAX_YEAR;
+    }
+
+    /**
+     * Whether the AD date falls within the supported BS years.
+     */
+    public static boolean isSupported(LocalDate date) {
+        long offset = date.toEpochDay() - FIRST_DAY.toEpochDay();
+        return offset >= 0 && offset < MONTH_OFFSETS[MONTH_OFFSETS.length - 1];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the month is out of range
+     */
+    public static String monthName(int month) {
+        checkMonth(month);
+        return MONTH_NAMES[month];
+    }
+
+    public static int monthLength(int year, int month) {
+        int index = monthIndex(year, month);
+        return MONTH_OFFSETS[index + 1] - MONTH_OFFSETS[index];
+    }
+
+    public static int yearLength(int year) {
+        int index = monthIndex(year, 0);
+        return MONTH_OFFSETS[index + 12] - MONTH_OFFSETS[index];
+    }
+
+    /**
+     * @throws IllegalArgumentException if the date does not exist or is out of
+     *                                  range
+     */
+    public static LocalDate toAd(int year, int month, int day) {
+        return FIRST_DAY.plusDays(dayOffset(year, month, day));
+    }
+
+    public static LocalDate toAd(BsDate date) {
+        return toAd(date.getYear(), date.getMonth(), date.getDay());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the date falls outside the supported
+     *                                  years
+     */
+    public static BsDate fromAd(LocalDate date) {
+        if (!isSupported(date)) {
+            throw new IllegalArgumentException(date + " is outside the supported calendar (" + getFirstAdDate()
+                    + " to " + getLastAdDate() + ")");
+        }
+        int days = (int) (date.toEpochDay() - FIRST_DAY.toEpochDay());
+        // Real month starts drift at most a few days from the average, so this
+        // moves by a month or so at most
+        int index = Math.min((int) (days / MEAN_MONTH_DAYS), MONTH_OFFSETS.length - 2);
+        while (MONTH_OFFSETS[index] > days) {
+            index--;
+        }
+        while (MONTH_OFFSETS[index + 1] <= days) {
+            index++;
+        }
+        return new BsDate(MIN_YEAR + index / 12, index % 12, days - MONTH_OFFSETS[index] + 1);
+    }
+
+    /**
+     * The BS date of an AD date as text, or null if there is none: no date,
+     * or one outside the supported years. For lists that show both.
+     */
+    public static String toBsString(LocalDate date) {
+        return date != null && isSupported(date) ? fromAd(date).toString() : null;
+    }
+
+    /**
+     * Today's date in Nepal.
+     */
+    public static BsDate today() {
+        return fromAd(LocalDate.now(NEPAL));
+    }
+
+    /**
+     * @return 0 for Sunday to 6 for Saturday
+     */
+    public static int weekday(int year, int month, int day) {
+        return toAd(year, month, day).getDayOfWeek().getValue() % 7;
+    }
+
+    /**
+     * The weekday of the first of the month, 0 for Sunday to 6 for Saturday.
+     */
+    public static int startWeekday(int year, int month) {
+        return weekday(year, month, 1);
+    }
+
+    /** The AD date of {@value #MIN_YEAR} Baisakh 1. */
+    public static LocalDate getFirstAdDate() {
+        return FIRST_DAY;
+    }
+
+    /** The AD date of the last day of {@value #MAX_YEAR} Chaitra. */
+    public static LocalDate getLastAdDate() {
+        return FIRST_DAY.plusDays(MONTH_OFFSETS[MONTH_OFFSETS.length - 1] - 1);
+    }
+
+    private static long dayOffset(int year, int month, int day) {
+        int index = monthIndex(year, month);
+        int length = MONTH_OFFSETS[index + 1] - MONTH_OFFSETS[index];
+        if (day < 1 || day > length) {
+            throw new IllegalArgumentException(MONTH_NAMES[month] + " " + year + " has " + length
+                    + " days, not " + day);
+        }
+        return MONTH_OFFSETS[index] + day - 1;
+    }
+
+    private static int monthIndex(int year, int month) {
+        if (!isSupported(year)) {
+            throw new IllegalArgumentException("BS year " + year + " is outside the supported range " + MIN_YEAR
+                    + "-" + MAX_YEAR);
+        }
+        checkMonth(month);
+        return (year - MIN_YEAR) * 12 + month;
+    }
+
+    private static void checkMonth(int month) {
+        if (month < 0 || month > 11) {
+            throw new IllegalArgumentException("Month must be 0 (Baisakh) to 11 (Chaitra), not " + month);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.fms.core.calendar;
+
+import java.time.LocalDate;
+
+/**
+ * A day on the Bikram Sambat calendar, as produced by {@link BsCalendar}.
+ * Months are 0-based (Baisakh = 0).
+ */
+public final class BsDate {
+
+    private final int year;
+    private final int month;
+    private final int day;
+
+    BsDate(int year, int month, int day) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+    }
+
+    /**
+     * @throws IllegalArgumentException if there is no such day in the
+     *                                  supported years
+     */
+    public static BsDate of(int year, int month, int day) {
+        BsCalendar.toAd(year, month, day);
+        return new BsDate(year, month, day);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public String getMonthName() {
+        return BsCalendar.monthName(month);
+    }
+
+    /**
+     * @return 0 for Sunday to 6 for Saturday
+     */
+    public int getWeekday() {
+        return BsCalendar.weekday(year, month, day);
+    }
+
+    public LocalDate toAd() {
+        return BsCalendar.toAd(year, month, day);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BsDate)) {
+            return false;
+        }
+        BsDate other = (BsDate) o;
+        return year == other.year && month == other.month && day == other.day;
+    }
+
+    @Override
+    public int hashCode() {
+        return (year * 12 + month) * 32 + day;
+    }
+
+    /**
+     * The date as it is written in Nepal, with a 1-based month: 2082-01-01
+     * is Baisakh 1.
+     */
+    @Override
+    public String toString() {
+        return String.format("%04d-%02d-%02d", year, month + 1, day);
+    }
+}
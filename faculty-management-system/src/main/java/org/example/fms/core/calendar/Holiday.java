@@ -0,0 +1,82 @@
+package org.example.fms.core.calendar;
+
+import java.util.Objects;
+
+/**
+ * One holiday or festival on the Bikram Sambat calendar, as stored in the
+ * holidays table. Months are 0-based (Baisakh = 0), as the calendar UI
+ * expects.
+ */
+public final class Holiday {
+
+    private final int year;
+    private final int month;
+    private final int day;
+    private final String name;
+    private final String description;
+    private final boolean publicHoliday;
+
+    public Holiday(int year, int month, int day, String name, String description, boolean publicHoliday) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.name = name;
+        this.description = description != null ? description : name;
+        this.publicHoliday = publicHoliday;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isPublicHoliday() {
+        return publicHoliday;
+    }
+
+    /**
+     * Identifies the event within its month: a day can hold several events.
+     */
+    String key() {
+        return day + "|" + name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Holiday)) {
+            return false;
+        }
+        Holiday other = (Holiday) o;
+        return year == other.year && month == other.month && day == other.day
+                && publicHoliday == other.publicHoliday && name.equals(other.name)
+                && description.equals(other.description);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(year, month, day, name, description, publicHoliday);
+    }
+
+    @Override
+    public String toString() {
+        return year + "-" + (month + 1) + "-" + day + " " + name + (publicHoliday ? " (public)" : "");
+    }
+}
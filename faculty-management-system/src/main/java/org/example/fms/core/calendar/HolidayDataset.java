@@ -0,0 +1,109 @@
+package org.example.fms.core.calendar;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.fms.core.database.TableVersions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The holiday calendar shipped with the application, so a fresh install has
+ * holidays without network access.
+ *
+ * {@value #RESOURCE} holds one array per event:
+ * {@code [year, month, day, name, description, public]}, with 0-based months
+ * and a null description meaning "same as the name". {@link HolidayRefresher}
+ * can bring the table up to date from the calendar API afterwards.
+ */
+public class HolidayDataset {
+
+    static final String RESOURCE = "holidays/bs-holidays.json";
+
+    static final String INSERT_SQL = "INSERT INTO holidays (id, bs_year, bs_month, bs_day, name, description, "
+            + "is_public_holiday) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static volatile List<Holiday> holidays;
+
+    /**
+     * The bundled holidays, parsed once.
+     */
+    public static List<Holiday> get() {
+        List<Holiday> loaded = holidays;
+        if (loaded == null) {
+            loaded = Collections.unmodifiableList(load());
+            holidays = loaded;
+        }
+        return loaded;
+    }
+
+    /**
+     * Inserts the bundled holidays in one batch if the table is empty.
+     *
+     * @return the number of holidays inserted
+     */
+    public static int seedIfEmpty(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT 1 FROM holidays LIMIT 1");
+                ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                return 0;
+            }
+        }
+
+        List<Holiday> bundled = get();
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+            for (Holiday holiday : bundled) {
+                bind(stmt, holiday);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        TableVersions.bump("holidays");
+        return bundled.size();
+    }
+
+    static void bind(PreparedStatement stmt, Holiday holiday) throws SQLException {
+        stmt.setString(1, UUID.randomUUID().toString());
+        stmt.setInt(2, holiday.getYear());
+        stmt.setInt(3, holiday.getMonth());
+        stmt.setInt(4, holiday.getDay());
+        stmt.setString(5, holiday.getName());
+        stmt.setString(6, holiday.getDescription());
+        stmt.setBoolean(7, holiday.isPublicHoliday());
+    }
+
+    private static List<Holiday> load() {
+        try (InputStream in = HolidayDataset.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " is missing from the classpath");
+            }
+            JsonNode rows = new ObjectMapper().readTree(in).path("holidays");
+            List<Holiday> result = new ArrayList<>(rows.size());
+            for (JsonNode row : rows) {
+                result.add(new Holiday(row.get(0).asInt(), row.get(1).asInt(), row.get(2).asInt(),
+                        row.get(3).asText(), row.get(4).isNull() ? null : row.get(4).asText(),
+                        row.get(5).asBoolean()));
+            }
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package org.example.fms.core.calendar;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.fms.core.config.FmsConfig;
+import org.example.fms.core.database.TableVersions;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Brings the holidays table up to date from the Nepali calendar API.
+ *
+ * Months are fetched concurrently, at most {@code parallelism} at a time, from
+ * {@code <baseUrl>/<BS year>/<month 1-12>}; point the base URL at a local stub
+ * to run without the public API. Each month that arrives is compared with the
+ * stored rows and only the differences are written, in one transaction per
+ * month; a month that arrives without any events loses its stored ones. A
+ * month that cannot be fetched keeps what it had, so one failure never
+ * empties the calendar.
+ */
+public class HolidayRefresher {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String baseUrl;
+    private final int parallelism;
+    private final Duration timeout;
+    private final int fromYear;
+    private final int toYear;
+    private final HttpClient client;
+
+    public HolidayRefresher(String baseUrl, int parallelism, long timeoutMillis, int fromYear, int toYear) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.parallelism = parallelism;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public static HolidayRefresher fromConfig(FmsConfig config) {
+        return new HolidayRefresher(config.getHolidayRefreshBaseUrl(), config.getHolidayRefreshParallelism(),
+                config.getHolidayRefreshTimeoutMillis(), config.getHolidayRefreshFromYear(),
+                config.getHolidayRefreshToYear());
+    }
+
+    /**
+     * Fetches every month in the configured years and applies the changes.
+     */
+    public Summary refresh(Connection conn) throws SQLException, InterruptedException {
+        long start = System.nanoTime();
+        Summary summary = new Summary();
+        System.out.println("Refreshing holidays " + fromYear + "-" + toYear + " BS from " + baseUrl + "...");
+        summary.failed = fetch((year, month, holidays) -> {
+            summary.months++;
+            apply(conn, year, month, holidays, summary);
+        });
+        if (summary.getChanges() > 0) {
+            TableVersions.bump("holidays");
+        }
+        System.out.printf("Holiday refresh: %s in %d ms%n", summary, (System.nanoTime() - start) / 1_000_000);
+        return summary;
+    }
+
+    /** Receives each month as it arrives, on the thread that called {@link #fetch}. */
+    interface MonthListener {
+        void fetched(int year, int month, List<Holiday> holidays) throws SQLException;
+    }
+
+    /** A month as the API returned it; holidays may be empty. */
+    private static final class FetchedMonth {
+        final int year;
+        final int month;
+        final List<Holiday> holidays;
+
+        FetchedMonth(int year, int month, List<Holiday> holidays) {
+            this.year = year;
+            this.month = month;
+            this.holidays = holidays;
+        }
+    }
+
+    /**
+     * Fetches all months with bounded parallelism, handing each successful
+     * one, including months without events, to the listener as soon as it
+     * arrives.
+     *
+     * @return how many months could not be fetched
+     */
+    int fetch(MonthListener listener) throws SQLException, InterruptedException {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread t = new Thread(r, "fms-holiday-fetch-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            CompletionService<FetchedMonth> completion = new ExecutorCompletionService<>(executor);
+            int submitted = 0;
+            for (int year = fromYear; year <= toYear; year++) {
+                for (int month = 0; month < 12; month++) {
+                    int y = year;
+                    int m = month;
+                    completion.submit(() -> new FetchedMonth(y, m, fetchMonth(y, m)));
+                    submitted++;
+                }
+            }
+
+            int failed = 0;
+            for (int i = 0; i < submitted; i++) {
+                try {
+                    FetchedMonth fetched = completion.take().get();
+                    listener.fetched(fetched.year, fetched.month, fetched.holidays);
+                } catch (ExecutionException e) {
+                    System.out.println("  " + e.getCause().getMessage());
+                    failed++;
+                }
+            }
+            return failed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param month 0-based
+     * @throws IOException if the month could not be fetched or parsed
+     */
+    List<Holiday> fetchMonth(int year, int month) throws IOException, InterruptedException {
+        String url = baseUrl + "/" + year + "/" + (month + 1);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new IOException("Failed to fetch " + year + "/" + (month + 1) + ": " + e, e);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("API returned status " + response.statusCode() + " for " + year + "/"
+                    + (month + 1));
+        }
+        JsonNode root = MAPPER.readTree(response.body());
+        if (!root.path("days").isArray()) {
+            // Not an empty month: applying it would delete the month's holidays
+            throw new IOException("API returned no days for " + year + "/" + (month + 1));
+        }
+        return parseMonth(year, month, root);
+    }
+
+    /**
+     * Reads the API's month format: {@code {"days": [{"f": "<festival>",
+     * "h": <public holiday>}, ...]}}, one entry per day from day 1. Days that
+     * are neither public holidays nor festivals are skipped, as are any past
+     * the end of the month where {@link BsCalendar} knows its length.
+     */
+    static List<Holiday> parseMonth(int year, int month, JsonNode root) {
+        List<Holiday> holidays = new ArrayList<>();
+        JsonNode days = root.path("days");
+        int length = BsCalendar.isSupported(year) ? Math.min(days.size(), BsCalendar.monthLength(year, month))
+                : days.size();
+        for (int idx = 0; idx < length; idx++) {
+            JsonNode day = days.get(idx);
+            boolean isPublic = day.path("h").asBoolean(false);
+            String festival = day.path("f").asText("").trim();
+            if (isPublic || !festival.isEmpty()) {
+                holidays.add(new Holiday(year, month, idx + 1, festival.isEmpty() ? "Holiday" : festival,
+                        "Nepali Calendar event on " + BsCalendar.monthName(month) + " " + (idx + 1) + ", " + year + " BS.",
+                        isPublic));
+            }
+        }
+        return holidays;
+    }
+
+    private void apply(Connection conn, int year, int month, List<Holiday> fetched, Summary summary)
+            throws SQLException {
+        Map<String, Holiday> stored = new LinkedHashMap<>();
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT id, bs_day, name, description, "
+                + "is_public_holiday FROM holidays WHERE bs_year = ? AND bs_month = ?")) {
+            stmt.setInt(1, year);
+            stmt.setInt(2, month);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    stored.put(rs.getString("id"), new Holiday(year, month, rs.getInt("bs_day"), rs.getString("name"),
+                            rs.getString("description"), rs.getBoolean("is_public_holiday")));
+                }
+            }
+        }
+
+        Changes changes = diff(stored, fetched);
+        if (changes.isEmpty()) {
+            return;
+        }
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (PreparedStatement stmt = conn.prepareStatement("DELETE FROM holidays WHERE id = ?")) {
+                for (String id : changes.deletes) {
+                    stmt.setString(1, id);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE holidays SET description = ?, is_public_holiday = ? WHERE id = ?")) {
+                for (Map.Entry<String, Holiday> update : changes.updates.entrySet()) {
+                    stmt.setString(1, update.getValue().getDescription());
+                    stmt.setBoolean(2, update.getValue().isPublicHoliday());
+                    stmt.setString(3, update.getKey());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(HolidayDataset.INSERT_SQL)) {
+                for (Holiday holiday : changes.inserts) {
+                    HolidayDataset.bind(stmt, holiday);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+        summary.inserted += changes.inserts.size();
+        summary.updated += changes.updates.size();
+        summary.deleted += changes.deletes.size();
+    }
+
+    /**
+     * What it takes to turn a month's stored rows into the fetched ones.
+     * Events are matched by day and name; the fetched month is authoritative.
+     *
+     * @param stored the month's rows by id
+     */
+    static Changes diff(Map<String, Holiday> stored, List<Holiday> fetched) {
+        Map<String, Holiday> wanted = new LinkedHashMap<>();
+        for (Holiday holiday : fetched) {
+            wanted.putIfAbsent(holiday.key(), holiday);
+        }
+
+        Changes changes = new Changes();
+        for (Map.Entry<String, Holiday> row : stored.entrySet()) {
+            Holiday target = wanted.remove(row.getValue().key());
+            if (target == null) {
+                // Gone from the source, or a second copy of an event already matched
+                changes.deletes.add(row.getKey());
+            } else if (!target.equals(row.getValue())) {
+                changes.updates.put(row.getKey(), target);
+            }
+        }
+        changes.inserts.addAll(wanted.values());
+        return changes;
+    }
+
+    static final class Changes {
+        final List<Holiday> inserts = new ArrayList<>();
+        final Map<String, Holiday> updates = new LinkedHashMap<>();
+        final List<String> deletes = new ArrayList<>();
+
+        boolean isEmpty() {
+            return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+        }
+    }
+
+    /**
+     * Outcome of one refresh.
+     */
+    public static final class Summary {
+        private int months;
+        private int failed;
+        private int inserted;
+        private int updated;
+        private int deleted;
+
+        public int getMonths() {
+            return months;
+        }
+
+        public int getFailed() {
+            return failed;
+        }
+
+        public int getChanges() {
+            return inserted + updated + deleted;
+        }
+
+        @Override
+        public String toString() {
+            return months + " months fetched (" + failed + " failed), " + inserted + " added, " + updated
+                    + " updated, " + deleted + " removed";
+        }
+    }
+}
@@ -0,0 +1,495 @@
+package org.example.fms.core.config;
+
+import org.example.fms.core.audit.AuditWal;
+import org.example.fms.core.audit.AuditWriter;
+import org.example.fms.core.database.pool.PoolConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Server settings, read once at startup and validated as a whole.
+ *
+ * {@code fms.properties} on the classpath lists every key with its default.
+ * A named profile ({@code fms-<profile>.properties}), an optional external
+ * file, environment variables and system properties are layered on top, in
+ * that order; see that file for the naming rules. Unknown keys and values
+ * that do not parse are reported together, so a bad deployment fails at
+ * startup instead of on the first request that reads the setting.
+ */
+public class FmsConfig {
+
+    public static final String DEFAULT_PROFILE = "dev";
+
+    private static final String DEFAULTS_RESOURCE = "fms.properties";
+    private static final String PASSWORD_KEY = "db.password";
+
+    /** How servlet requests are run. */
+    public enum ThreadModel {
+        PLATFORM,
+        VIRTUAL
+    }
+
+    private static volatile FmsConfig instance;
+
+    private final String profile;
+    private final Map<String, String> values;
+    private final Map<String, String> origins;
+    private final List<String> errors = new ArrayList<>();
+
+    private final int serverPort;
+    private final ThreadModel serverThreads;
+    private final int maxThreads;
+    private final int minSpareThreads;
+    private final int acceptCount;
+    private final int maxConnections;
+    private final int connectionTimeoutMillis;
+    private final int keepAliveTimeoutMillis;
+    private final int maxKeepAliveRequests;
+    private final boolean http2;
+    private final String compression;
+    private final int compressionMinSize;
+    private final String compressibleMimeTypes;
+
+    private final PoolConfig poolConfig = new PoolConfig();
+
+    private final int referenceCacheMaxEntries;
+    private final long referenceCacheTtlMillis;
+    private final int claimsCacheMaxEntries;
+
+    private final long jwtExpirationMillis;
+
+    private final AuditWriter.OverflowPolicy auditOverflow;
+    private final AuditWal.FsyncPolicy auditFsync;
+    private final Path auditWalDir;
+
+    private final boolean accessLogEnabled;
+    private final Path accessLogFile;
+    private final int accessLogQueueCapacity;
+
+    private final boolean holidayRefreshEnabled;
+    private final String holidayRefreshBaseUrl;
+    private final int holidayRefreshParallelism;
+    private final long holidayRefreshTimeoutMillis;
+    private final int holidayRefreshFromYear;
+    private final int holidayRefreshToYear;
+
+    /**
+     * The configuration of this process, loaded on first use from the
+     * classpath, FMS_* environment variables and fms.* system properties.
+     *
+     * @throws IllegalStateException listing every invalid setting
+     */
+    public static FmsConfig get() {
+        FmsConfig config = instance;
+        if (config == null) {
+            synchronized (FmsConfig.class) {
+                config = instance;
+                if (config == null) {
+                    config = load(System.getenv(), System.getProperties());
+                    instance = config;
+                }
+            }
+        }
+        return config;
+    }
+
+    /**
+     * Resolves the layered configuration from the given environment and
+     * system properties.
+     *
+     * @throws IllegalStateException listing every invalid setting
+     */
+    static FmsConfig load(Map<String, String> env, Properties system) {
+        List<String> problems = new ArrayList<>();
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> origins = new LinkedHashMap<>();
+
+        Properties defaults = readResource(DEFAULTS_RESOURCE);
+        if (defaults == null) {
+            throw new IllegalStateException(DEFAULTS_RESOURCE + " is missing from the classpath");
+        }
+        for (String key : new TreeSet<>(defaults.stringPropertyNames())) {
+            values.put(key, defaults.getProperty(key).trim());
+            origins.put(key, DEFAULTS_RESOURCE);
+        }
+
+        String profile = firstNonBlank(system.getProperty("fms.profile"), env.get("FMS_PROFILE"), DEFAULT_PROFILE)
+                .toLowerCase();
+        String profileResource = "fms-" + profile + ".properties";
+        Properties profileValues = readResource(profileResource);
+        if (profileValues == null) {
+            problems.add("Unknown profile '" + profile + "' (no " + profileResource + " on the classpath)");
+        } else {
+            overlay(values, origins, profileValues, profileResource, problems);
+        }
+
+        String external = firstNonBlank(system.getProperty("fms.config"), env.get("FMS_CONFIG"), null);
+        if (external != null) {
+            Path path = Paths.get(external);
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                Properties file = new Properties();
+                file.load(reader);
+                overlay(values, origins, file, path.toString(), problems);
+            } catch (IOException e) {
+                problems.add("Could not read config file " + path.toAbsolutePath() + ": " + e.getMessage());
+            }
+        }
+
+        for (String key : values.keySet()) {
+            String envName = "FMS_" + key.toUpperCase().replace('.', '_');
+            String value = env.get(envName);
+            if (value != null) {
+                values.put(key, value.trim());
+                origins.put(key, "environment " + envName);
+            }
+            String propertyName = "fms." + key;
+            value = system.getProperty(propertyName);
+            if (value != null) {
+                values.put(key, value.trim());
+                origins.put(key, "system property " + propertyName);
+            }
+        }
+
+        FmsConfig config = new FmsConfig(profile, values, origins);
+        problems.addAll(config.errors);
+        if (!problems.isEmpty()) {
+            StringBuilder message = new StringBuilder("Invalid configuration (profile ").append(profile).append("):");
+            for (String problem : problems) {
+                message.append("\n  - ").append(problem);
+            }
+            throw new IllegalStateException(message.toString());
+        }
+        return config;
+    }
+
+    private FmsConfig(String profile, Map<String, String> values, Map<String, String> origins) {
+        this.profile = profile;
+        this.values = Collections.unmodifiableMap(values);
+        this.origins = origins;
+
+        serverPort = intValue("server.port", 1, 65535);
+        serverThreads = enumValue("server.threads", ThreadModel.class, ThreadModel.PLATFORM);
+        maxThreads = intValue("server.maxThreads", 1, 10_000);
+        minSpareThreads = intValue("server.minSpareThreads", 0, maxThreads);
+        acceptCount = intValue("server.acceptCount", 1, 100_000);
+        maxConnections = intValue("server.maxConnections", -1, 1_000_000);
+        connectionTimeoutMillis = intValue("server.connectionTimeoutMillis", 1, Integer.MAX_VALUE);
+        keepAliveTimeoutMillis = intValue("server.keepAliveTimeoutMillis", -1, Integer.MAX_VALUE);
+        maxKeepAliveRequests = intValue("server.maxKeepAliveRequests", -1, Integer.MAX_VALUE);
+        http2 = booleanValue("server.http2");
+        compression = oneOf("server.compression", "on", "off", "force");
+        compressionMinSize = intValue("server.compressionMinSize", 0, Integer.MAX_VALUE);
+        compressibleMimeTypes = string("server.compressibleMimeTypes");
+
+        poolConfig.setJdbcUrl(string("db.url"));
+        poolConfig.setUsername(string("db.user"));
+        poolConfig.setPassword(string(PASSWORD_KEY));
+        poolConfig.setMinIdle(intValue("pool.minIdle", 0, 1_000));
+        poolConfig.setMaxSize(intValue("pool.maxSize", 1, 1_000));
+        poolConfig.setAcquireTimeoutMillis(longValue("pool.acquireTimeoutMillis", 0));
+        poolConfig.setIdleTimeoutMillis(longValue("pool.idleTimeoutMillis", 0));
+        poolConfig.setValidationTimeoutSeconds(intValue("pool.validationTimeoutSeconds", 0, 3_600));
+        poolConfig.setValidationBypassMillis(longValue("pool.validationBypassMillis", 0));
+        poolConfig.setLeakDetectionThresholdMillis(longValue("pool.leakDetectionThresholdMillis", 0));
+        try {
+            poolConfig.validate();
+        } catch (IllegalArgumentException e) {
+            errors.add(e.getMessage());
+        }
+
+        referenceCacheMaxEntries = intValue("cache.referenceData.maxEntries", 1, 1_000_000);
+        referenceCacheTtlMillis = longValue("cache.referenceData.ttlMillis", 1);
+        claimsCacheMaxEntries = intValue("cache.verifiedClaims.maxEntries", 1, 10_000_000);
+
+        jwtExpirationMillis = longValue("jwt.expirationMillis", 60_000);
+
+        auditOverflow = enumValue("audit.overflow", AuditWriter.OverflowPolicy.class,
+                AuditWriter.OverflowPolicy.BLOCK);
+        auditFsync = enumValue("audit.fsync", AuditWal.FsyncPolicy.class, AuditWal.FsyncPolicy.INTERVAL);
+        auditWalDir = Paths.get(string("audit.walDir"));
+
+        accessLogEnabled = booleanValue("accessLog.enabled");
+        accessLogFile = Paths.get(string("accessLog.file"));
+        accessLogQueueCapacity = intValue("accessLog.queueCapacity", 1, 1_000_000);
+
+        holidayRefreshEnabled = booleanValue("holidays.refresh.enabled");
+        holidayRefreshBaseUrl = string("holidays.refresh.baseUrl");
+        if (!holidayRefreshBaseUrl.startsWith("http://") && !holidayRefreshBaseUrl.startsWith("https://")) {
+            errors.add(label("holidays.refresh.baseUrl") + " must be an http:// or https:// URL");
+        }
+        holidayRefreshParallelism = intValue("holidays.refresh.parallelism", 1, 64);
+        holidayRefreshTimeoutMillis = longValue("holidays.refresh.timeoutMillis", 1);
+        holidayRefreshFromYear = intValue("holidays.refresh.fromYear", 1970, 2200);
+        holidayRefreshToYear = intValue("holidays.refresh.toYear", holidayRefreshFromYear, 2200);
+    }
+
+    public String getProfile() {
+        return profile;
+    }
+
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    public ThreadModel getServerThreads() {
+        return serverThreads;
+    }
+
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    public int getMinSpareThreads() {
+        return minSpareThreads;
+    }
+
+    public int getAcceptCount() {
+        return acceptCount;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public int getKeepAliveTimeoutMillis() {
+        return keepAliveTimeoutMillis;
+    }
+
+    public int getMaxKeepAliveRequests() {
+        return maxKeepAliveRequests;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2;
+    }
+
+    public String getCompression() {
+        return compression;
+    }
+
+    public int getCompressionMinSize() {
+        return compressionMinSize;
+    }
+
+    public String getCompressibleMimeTypes() {
+        return compressibleMimeTypes;
+    }
+
+    /**
+     * A new, already validated pool configuration. Each call returns a fresh
+     * copy, so callers may adjust it without affecting others.
+     */
+    public PoolConfig newPoolConfig() {
+        PoolConfig copy = new PoolConfig();
+        copy.setJdbcUrl(poolConfig.getJdbcUrl());
+        copy.setUsername(poolConfig.getUsername());
+        copy.setPassword(poolConfig.getPassword());
+        copy.setMinIdle(poolConfig.getMinIdle());
+        copy.setMaxSize(poolConfig.getMaxSize());
+        copy.setAcquireTimeoutMillis(poolConfig.getAcquireTimeoutMillis());
+        copy.setIdleTimeoutMillis(poolConfig.getIdleTimeoutMillis());
+        copy.setValidationTimeoutSeconds(poolConfig.getValidationTimeoutSeconds());
+        copy.setValidationBypassMillis(poolConfig.getValidationBypassMillis());
+        copy.setLeakDetectionThresholdMillis(poolConfig.getLeakDetectionThresholdMillis());
+        return copy;
+    }
+
+    public int getReferenceCacheMaxEntries() {
+        return referenceCacheMaxEntries;
+    }
+
+    public long getReferenceCacheTtlMillis() {
+        return referenceCacheTtlMillis;
+    }
+
+    public int getClaimsCacheMaxEntries() {
+        return claimsCacheMaxEntries;
+    }
+
+    public long getJwtExpirationMillis() {
+        return jwtExpirationMillis;
+    }
+
+    public AuditWriter.OverflowPolicy getAuditOverflow() {
+        return auditOverflow;
+    }
+
+    public AuditWal.FsyncPolicy getAuditFsync() {
+        return auditFsync;
+    }
+
+    public Path getAuditWalDir() {
+        return auditWalDir;
+    }
+
+    public boolean isAccessLogEnabled() {
+        return accessLogEnabled;
+    }
+
+    public Path getAccessLogFile() {
+        return accessLogFile;
+    }
+
+    public int getAccessLogQueueCapacity() {
+        return accessLogQueueCapacity;
+    }
+
+    public boolean isHolidayRefreshEnabled() {
+        return holidayRefreshEnabled;
+    }
+
+    public String getHolidayRefreshBaseUrl() {
+        return holidayRefreshBaseUrl;
+    }
+
+    public int getHolidayRefreshParallelism() {
+        return holidayRefreshParallelism;
+    }
+
+    public long getHolidayRefreshTimeoutMillis() {
+        return holidayRefreshTimeoutMillis;
+    }
+
+    public int getHolidayRefreshFromYear() {
+        return holidayRefreshFromYear;
+    }
+
+    public int getHolidayRefreshToYear() {
+        return holidayRefreshToYear;
+    }
+
+    /**
+     * Every setting with the layer it came from, for the startup log. The
+     * database password is masked.
+     */
+    public List<String> describe() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getKey().equals(PASSWORD_KEY) && !entry.getValue().isEmpty() ? "****"
+                    : entry.getValue();
+            lines.add(entry.getKey() + "=" + value + "  (" + origins.get(entry.getKey()) + ")");
+        }
+        return lines;
+    }
+
+    private String string(String key) {
+        return values.get(key);
+    }
+
+    private int intValue(String key, int min, int max) {
+        String value = values.get(key);
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed < min || parsed > max) {
+                errors.add(label(key) + " must be between " + min + " and " + max);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            errors.add(label(key) + " is not a whole number");
+            return min;
+        }
+    }
+
+    private long longValue(String key, long min) {
+        String value = values.get(key);
+        try {
+            long parsed = Long.parseLong(value);
+            if (parsed < min) {
+                errors.add(label(key) + " must be at least " + min);
+            }
+            return parsed;
+        } catch (NumberFormatException e) {
+            errors.add(label(key) + " is not a whole number");
+            return min;
+        }
+    }
+
+    private boolean booleanValue(String key) {
+        String value = values.get(key);
+        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+            errors.add(label(key) + " must be true or false");
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    private String oneOf(String key, String... allowed) {
+        String value = values.get(key).toLowerCase();
+        if (!Arrays.asList(allowed).contains(value)) {
+            errors.add(label(key) + " must be one of " + String.join(", ", allowed));
+        }
+        return value;
+    }
+
+    private <E extends Enum<E>> E enumValue(String key, Class<E> type, E fallback) {
+        String value = values.get(key);
+        try {
+            return Enum.valueOf(type, value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            List<String> names = new ArrayList<>();
+            for (E constant : type.getEnumConstants()) {
+                names.add(constant.name().toLowerCase());
+            }
+            errors.add(label(key) + " must be one of " + String.join(", ", names));
+            return fallback;
+        }
+    }
+
+    private String label(String key) {
+        String shown = key.equals(PASSWORD_KEY) ? "****" : values.get(key);
+        return key + "='" + shown + "' (from " + origins.get(key) + ")";
+    }
+
+    private static void overlay(Map<String, String> values, Map<String, String> origins, Properties layer,
+            String origin, List<String> problems) {
+        for (String key : new TreeSet<>(layer.stringPropertyNames())) {
+            if (!values.containsKey(key)) {
+                problems.add("Unknown setting '" + key + "' in " + origin);
+                continue;
+            }
+            values.put(key, layer.getProperty(key).trim());
+            origins.put(key, origin);
+        }
+    }
+
+    private static Properties readResource(String name) {
+        try (InputStream in = FmsConfig.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                return null;
+            }
+            Properties properties = new Properties();
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            return properties;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read " + name, e);
+        }
+    }
+
+    private static String firstNonBlank(String first, String second, String fallback) {
+        if (first != null && !first.trim().isEmpty()) {
+            return first.trim();
+        }
+        if (second != null && !second.trim().isEmpty()) {
+            return second.trim();
+        }
+        return fallback;
+    }
+}
@@ -1,19 +1,33 @@
 package org.example.fms.core.database;
 
+import org.example.fms.core.config.FmsConfig;
+import org.example.fms.core.database.pool.ConnectionGate;
+import org.example.fms.core.database.pool.ConnectionPool;
+import org.example.fms.core.database.pool.PoolConfig;
+import org.example.fms.core.database.pool.PoolMetrics;
+import org.example.fms.core.server.RequestContext;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Map;
 
 /**
  * Manages the connection to the MySQL database.
- * Follows the Singleton pattern to ensure a single connection pool or
- * configuration.
+ * Follows the Singleton pattern: every caller borrows from one shared,
+ * bounded connection pool instead of opening a new socket per request.
  */
 public class DatabaseConnectionManager {
 
-    private static final String URL = "jdbc:mysql://localhost:3306/mbmc_fms";
-    private static final String USER = "root"; // XAMPP default username
-    private static final String PASSWORD = ""; // XAMPP default password is empty
+    // URL, credentials and pool sizing come from the db.* and pool.* settings
+    private static final PoolConfig CONFIG = FmsConfig.get().newPoolConfig();
+    private static final ConnectionPool POOL;
+    private static volatile ConnectionGate gate; // Only set when requests run on virtual threads
+
+    // Connector/J streams rows one at a time only for this magic fetch size;
+    // other drivers reject negative sizes and take the value as a batch hint
+    private static final int STREAMING_FETCH_SIZE = CONFIG.getJdbcUrl().startsWith("jdbc:mysql:")
+            ? Integer.MIN_VALUE
+            : 100;
 
     static {
         try {
@@ -22,15 +36,67 @@ public class DatabaseConnectionManager {
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Failed to load MySQL JDBC driver", e);
         }
+
+        POOL = new ConnectionPool(CONFIG);
+        POOL.setStatementListener(RequestContext::recordStatement);
     }
 
     /**
-     * Retrieves a connection to the database.
-     * 
+     * Retrieves a pooled connection to the database. Closing the returned
+     * connection hands it back to the pool.
+     *
      * @return Connection object
-     * @throws SQLException if a database access error occurs
+     * @throws SQLException if a database access error occurs or the pool stays
+     *                      exhausted past the acquire timeout
      */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        long start = System.nanoTime();
+        try {
+            ConnectionGate current = gate;
+            return current != null ? current.acquire(POOL::getConnection) : POOL.getConnection();
+        } finally {
+            RequestContext.recordDbWait(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * The fetch size that makes a forward-only, read-only statement stream its
+     * rows instead of buffering the whole result on the configured driver.
+     */
+    public static int getStreamingFetchSize() {
+        return STREAMING_FETCH_SIZE;
+    }
+
+    /**
+     * Lets at most one caller per pooled connection through to the pool at a
+     * time. Enable this when request handling runs on virtual threads, where
+     * the container no longer bounds how many callers can wait.
+     */
+    public static synchronized void enableConcurrencyGate() {
+        if (gate == null) {
+            gate = new ConnectionGate(CONFIG.getMaxSize(), CONFIG.getAcquireTimeoutMillis());
+        }
+    }
+
+    /**
+     * Gate usage and wait times, or null if the gate is not enabled.
+     */
+    public static Map<String, Object> getGateStats() {
+        ConnectionGate current = gate;
+        return current != null ? current.getStats() : null;
+    }
+
+    /**
+     * Returns a snapshot of pool usage (active/idle/waiters, acquire latency).
+     */
+    public static PoolMetrics getPoolMetrics() {
+        return POOL.getMetrics();
+    }
+
+    /**
+     * Closes all pooled connections. Called once on application shutdown.
+     */
+    public static void shutdown() {
+        POOL.shutdown();
     }
 }
@@ -0,0 +1,110 @@
+package org.example.fms.core.database;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-memory change counters, one per table, used to build validators
+ * (ETags) for list responses without querying the database.
+ *
+ * Every code path that writes a table calls {@link #bump} after the write
+ * commits. Readers must take the tag before running their query: a write that
+ * lands in between then only makes the tag stale, never the cached body.
+ * The counters start over on every server start, so an epoch is mixed into
+ * each tag. Writes made outside this server (e.g. from the mysql client) are
+ * not seen until the next restart.
+ *
+ * The same call is the invalidation hook for server-side caches, which
+ * register a listener to hear about changed tables.
+ */
+public class TableVersions {
+
+    private static final String EPOCH = Long.toString(System.currentTimeMillis(), 36);
+    private static final ConcurrentHashMap<String, AtomicLong> VERSIONS = new ConcurrentHashMap<>();
+    private static final List<Consumer<String>> LISTENERS = new CopyOnWriteArrayList<>();
+
+    /**
+     * Records that the given tables changed and notifies the listeners.
+     */
+    public static void bump(String... tables) {
+        for (String table : tables) {
+            // Caches are cleared before the version moves, so a reader that sees
+            // the new version can no longer find an entry loaded before the write
+            for (Consumer<String> listener : LISTENERS) {
+                listener.accept(table);
+            }
+            VERSIONS.computeIfAbsent(table, t -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Registers a callback run with the table name on every {@link #bump}.
+     */
+    public static void addListener(Consumer<String> listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static long version(String table) {
+        AtomicLong version = VERSIONS.get(table);
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * Builds a strong, quoted ETag from the current versions of the tables a
+     * response reads and the parts that select the representation (query
+     * string, caller identity, content coding...).
+     */
+    public static String etag(String[] tables, String... parts) {
+        MessageDigest digest = sha256();
+        update(digest, EPOCH);
+        for (String table : tables) {
+            update(digest, table);
+            update(digest, Long.toString(version(table)));
+        }
+        for (String part : parts) {
+            update(digest, part != null ? part : "");
+        }
+        byte[] hash = digest.digest();
+        return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header value matches the given tag. Uses the weak
+     * comparison RFC 9110 prescribes for If-None-Match.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
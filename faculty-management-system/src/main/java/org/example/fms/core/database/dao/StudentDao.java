@@ -2,6 +2,8 @@ package org.example.fms.core.database.dao;
 
 import org.example.fms.core.api.dto.StudentProfileDTO;
 import org.example.fms.core.database.DatabaseConnectionManager;
+import org.example.fms.core.database.TableVersions;
+import org.example.fms.core.stats.DashboardStats;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -51,6 +53,8 @@ public class StudentDao {
             // Officer role.
 
             stmt.executeUpdate();
+            TableVersions.bump("students");
+            DashboardStats.studentAdded();
             return studentId;
         }
     }
@@ -2,7 +2,8 @@ package org.example.fms.core.database.dao;
 
 import org.example.fms.core.api.dto.UserCreateDTO;
 import org.example.fms.core.database.DatabaseConnectionManager;
-import org.example.fms.core.security.PasswordUtil;
+import org.example.fms.core.database.TableVersions;
+import org.example.fms.core.security.PasswordHasher;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -26,6 +27,9 @@ public class UserDao {
         String insertUserSql = "INSERT INTO users (id, email, password_hash) VALUES (?, ?, ?)";
         String insertRoleSql = "INSERT INTO user_roles (id, user_id, role) VALUES (?, ?, ?)";
 
+        // Hash before borrowing a connection so it is not held for the BCrypt work
+        String passwordHash = PasswordHasher.hashPassword(dto.getPlainPassword());
+
         Connection conn = null;
         try {
             conn = DatabaseConnectionManager.getConnection();
@@ -37,7 +41,7 @@ public class UserDao {
                 // Insert into users
                 userStmt.setString(1, userId);
                 userStmt.setString(2, dto.getEmail());
-                userStmt.setString(3, PasswordUtil.hashPassword(dto.getPlainPassword()));
+                userStmt.setString(3, passwordHash);
                 userStmt.executeUpdate();
 
                 // Insert into user_roles
@@ -47,6 +51,7 @@ public class UserDao {
                 roleStmt.executeUpdate();
 
                 conn.commit(); // Commit transaction
+                TableVersions.bump("users", "user_roles");
                 return userId;
 
             } catch (SQLException e) {
@@ -0,0 +1,70 @@
+package org.example.fms.core.database.migration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One versioned migration script, named {@code V<version>__<description>.sql}.
+ */
+public class Migration {
+
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    private final int version;
+    private final String description;
+    private final String script;
+    private final String checksum;
+    private final List<String> statements;
+
+    public Migration(String script, String sql) {
+        Matcher m = FILE_NAME.matcher(script);
+        if (!m.matches()) {
+            throw new MigrationException("Migration script name must look like V1__description.sql: " + script);
+        }
+        this.version = Integer.parseInt(m.group(1));
+        this.description = m.group(2).replace('_', ' ');
+        this.script = script;
+        this.checksum = checksum(sql);
+        this.statements = SqlScriptParser.split(sql);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getScript() {
+        return script;
+    }
+
+    /** SHA-256 of the script with line endings normalized, as lowercase hex. */
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    static String checksum(String sql) {
+        // Normalize line endings so a Windows checkout does not look like an edit
+        String normalized = sql.replace("\r\n", "\n");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.fms.core.database.migration;
+
+/**
+ * Thrown when the schema cannot be brought up to date. Startup must not
+ * continue past this: the application would run against a schema it does not
+ * expect.
+ */
+public class MigrationException extends RuntimeException {
+
+    public MigrationException(String message) {
+        super(message);
+    }
+
+    public MigrationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
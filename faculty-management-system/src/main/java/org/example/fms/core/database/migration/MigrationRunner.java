@@ -0,0 +1,191 @@
+package org.example.fms.core.database.migration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Brings the database schema up to date by applying the versioned scripts
+ * under {@code db/migration} that have not been applied yet.
+ *
+ * Scripts are listed, in order, in {@code db/migration/migrations.idx}. Every
+ * applied script is recorded in {@code schema_migrations} together with a
+ * checksum; editing a script after it has been applied is reported as an error
+ * instead of being silently ignored. Each migration runs in its own
+ * transaction with its version row, and any failure aborts the run.
+ */
+public class MigrationRunner {
+
+    private static final String LOCATION = "/db/migration/";
+    private static final String INDEX = LOCATION + "migrations.idx";
+
+    // MySQL commits DDL implicitly, so a migration that failed half way may
+    // already have created some of its keys. Re-running it must not trip over
+    // those: ER_DUP_KEYNAME is the only error treated as "already applied".
+    private static final int ER_DUP_KEYNAME = 1061;
+
+    private static final String CREATE_HISTORY = "CREATE TABLE IF NOT EXISTS schema_migrations ("
+            + "version INT PRIMARY KEY, "
+            + "description VARCHAR(255) NOT NULL, "
+            + "script VARCHAR(255) NOT NULL, "
+            + "checksum CHAR(64) NOT NULL, "
+            + "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, "
+            + "execution_ms BIGINT NOT NULL)";
+
+    private final Connection conn;
+
+    public MigrationRunner(Connection conn) {
+        this.conn = conn;
+    }
+
+    /**
+     * Applies all pending migrations.
+     *
+     * @return the number of migrations applied
+     * @throws MigrationException if a script is missing, was changed after being
+     *                            applied, or fails to run
+     */
+    public int migrate() {
+        List<Migration> migrations = loadMigrations();
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_HISTORY);
+            }
+            Map<Integer, String> applied = appliedChecksums();
+
+            int latest = 0;
+            for (Migration migration : migrations) {
+                latest = Math.max(latest, migration.getVersion());
+            }
+            for (Integer version : applied.keySet()) {
+                if (version > latest) {
+                    System.err.println("Warning: database has migration V" + version
+                            + " which this build does not know about. Is an older build running?");
+                }
+            }
+
+            int count = 0;
+            for (Migration migration : migrations) {
+                String checksum = applied.get(migration.getVersion());
+                if (checksum == null) {
+                    apply(migration);
+                    count++;
+                } else if (!checksum.equals(migration.getChecksum())) {
+                    throw new MigrationException("Migration " + migration.getScript()
+                            + " was modified after it was applied. Add a new migration instead of editing it.");
+                }
+            }
+            if (count == 0) {
+                System.out.println("Database schema is up to date (V" + latest + ").");
+            }
+            return count;
+        } catch (SQLException e) {
+            throw new MigrationException("Could not read migration history", e);
+        }
+    }
+
+    private void apply(Migration migration) {
+        System.out.println("Applying migration " + migration.getScript() + "...");
+        long start = System.nanoTime();
+        boolean autoCommit = true;
+        try {
+            autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : migration.getStatements()) {
+                    execute(stmt, migration, sql);
+                }
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            String insert = "INSERT INTO schema_migrations (version, description, script, checksum, execution_ms) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+            try (PreparedStatement stmt = conn.prepareStatement(insert)) {
+                stmt.setInt(1, migration.getVersion());
+                stmt.setString(2, migration.getDescription());
+                stmt.setString(3, migration.getScript());
+                stmt.setString(4, migration.getChecksum());
+                stmt.setLong(5, elapsedMillis);
+                stmt.executeUpdate();
+            }
+            conn.commit();
+            System.out.println("Applied " + migration.getScript() + " in " + elapsedMillis + " ms.");
+        } catch (SQLException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw new MigrationException("Migration " + migration.getScript() + " failed: " + e.getMessage(), e);
+        } finally {
+            try {
+                conn.setAutoCommit(autoCommit);
+            } catch (SQLException e) {
+                System.err.println("Could not restore auto-commit after migration: " + e.getMessage());
+            }
+        }
+    }
+
+    private void execute(Statement stmt, Migration migration, String sql) throws SQLException {
+        try {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            if (e.getErrorCode() != ER_DUP_KEYNAME) {
+                throw e;
+            }
+            System.out.println("Migration " + migration.getScript() + ": key already exists, skipping. "
+                    + e.getMessage());
+        }
+    }
+
+    private Map<Integer, String> appliedChecksums() throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_migrations")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Reads the migration index and every script it lists, in order.
+     */
+    static List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        int previous = 0;
+        for (String line : readResource(INDEX).split("\n")) {
+            String script = line.trim();
+            if (script.isEmpty() || script.startsWith("#")) {
+                continue;
+            }
+            Migration migration = new Migration(script, readResource(LOCATION + script));
+            if (migration.getVersion() <= previous) {
+                throw new MigrationException("Migrations must be listed in increasing version order: " + script);
+            }
+            previous = migration.getVersion();
+            migrations.add(migration);
+        }
+        return migrations;
+    }
+
+    private static String readResource(String resource) {
+        try (InputStream is = MigrationRunner.class.getResourceAsStream(resource)) {
+            if (is == null) {
+                throw new MigrationException("Migration resource not found: " + resource);
+            }
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MigrationException("Could not read migration resource " + resource, e);
+        }
+    }
+}
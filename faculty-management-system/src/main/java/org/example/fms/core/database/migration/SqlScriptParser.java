@@ -0,0 +1,73 @@
+package org.example.fms.core.database.migration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a SQL script into individual statements on top-level semicolons.
+ * Semicolons inside quoted strings, quoted identifiers and comments are left
+ * alone, and comments are stripped from the returned statements.
+ */
+public class SqlScriptParser {
+
+    public static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int length = script.length();
+        int i = 0;
+        while (i < length) {
+            char c = script.charAt(i);
+            char next = i + 1 < length ? script.charAt(i + 1) : '\0';
+
+            if (c == '-' && next == '-') {
+                // Line comment: skip to end of line
+                while (i < length && script.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '#') {
+                while (i < length && script.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && next == '*') {
+                int end = script.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                current.append(' ');
+            } else if (c == '\'' || c == '"' || c == '`') {
+                int start = i++;
+                while (i < length) {
+                    char q = script.charAt(i);
+                    if (q == '\\' && c != '`') {
+                        i += 2;
+                    } else if (q == c) {
+                        // A doubled quote is an escaped quote, not the end of the literal
+                        if (i + 1 < length && script.charAt(i + 1) == c) {
+                            i += 2;
+                        } else {
+                            i++;
+                            break;
+                        }
+                    } else {
+                        i++;
+                    }
+                }
+                current.append(script, start, Math.min(i, length));
+            } else if (c == ';') {
+                addStatement(statements, current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String sql = current.toString().trim();
+        if (!sql.isEmpty()) {
+            statements.add(sql);
+        }
+        current.setLength(0);
+    }
+}
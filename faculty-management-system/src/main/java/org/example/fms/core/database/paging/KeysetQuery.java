@@ -0,0 +1,230 @@
+package org.example.fms.core.database.paging;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds keyset ("seek") paginated SQL for list endpoints.
+ *
+ * Instead of OFFSET, each page continues strictly after the sort key of the
+ * last row already returned, so the database can seek straight to the next
+ * page using the ORDER BY index and page latency stays flat as tables grow.
+ * The last key column must be unique (usually the primary key) so that rows
+ * sharing the leading sort values are never skipped or repeated.
+ *
+ * Key columns that can hold NULL must be declared {@link #nullable}; the seek
+ * predicate then places NULL before every value, as MySQL sorts it, so rows
+ * with a NULL key are neither skipped nor break the cursor.
+ */
+public class KeysetQuery {
+
+    private static final String KEY_ALIAS = "_k";
+
+    private final String select;
+    private final String from;
+    private final List<String> conditions = new ArrayList<>();
+    private final List<Object> conditionParams = new ArrayList<>();
+    private String[] keyColumns = new String[0];
+    private final Set<String> nullableColumns = new HashSet<>();
+    private boolean descending;
+
+    /**
+     * @param select the select list, without the SELECT keyword
+     * @param from   the FROM clause including joins, without the FROM keyword
+     */
+    public KeysetQuery(String select, String from) {
+        this.select = select;
+        this.from = from;
+    }
+
+    /**
+     * Adds a filter condition. All conditions are AND-ed together.
+     */
+    public KeysetQuery where(String condition, Object... params) {
+        conditions.add(condition);
+        for (Object param : params) {
+            conditionParams.add(param);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the sort key. All columns sort in the same direction.
+     */
+    public KeysetQuery orderBy(boolean descending, String... keyColumns) {
+        if (keyColumns.length == 0) {
+            throw new IllegalArgumentException("At least one key column is required");
+        }
+        this.descending = descending;
+        this.keyColumns = keyColumns;
+        return this;
+    }
+
+    /**
+     * Declares key columns that may be NULL.
+     */
+    public KeysetQuery nullable(String... columns) {
+        for (String column : columns) {
+            if (!Arrays.asList(keyColumns).contains(column)) {
+                throw new IllegalArgumentException(column + " is not a key column");
+            }
+            nullableColumns.add(column);
+        }
+        return this;
+    }
+
+    public int getKeySize() {
+        return keyColumns.length;
+    }
+
+    /**
+     * SQL for one page. Fetches limit + 1 rows so the caller can tell whether
+     * another page exists without a separate query.
+     *
+     * @param after the key of the last row of the previous page, or null for the
+     *              first page
+     */
+    public String pageSql(List<String> after) {
+        StringBuilder sql = new StringBuilder("SELECT ").append(select);
+        for (int i = 0; i < keyColumns.length; i++) {
+            sql.append(", ").append(keyColumns[i]).append(" AS ").append(KEY_ALIAS).append(i);
+        }
+        sql.append(" FROM ").append(from);
+
+        List<String> clauses = new ArrayList<>(conditions);
+        if (after != null) {
+            clauses.add(seekPredicate(after, new ArrayList<>()));
+        }
+        appendWhere(sql, clauses);
+
+        sql.append(" ORDER BY ");
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(keyColumns[i]).append(descending ? " DESC" : " ASC");
+        }
+        sql.append(" LIMIT ?");
+        return sql.toString();
+    }
+
+    /**
+     * Binds filter values, the seek key and the row limit, in that order.
+     */
+    public void bindPage(PreparedStatement stmt, List<String> after, int limit) throws SQLException {
+        int index = bindConditions(stmt);
+        if (after != null) {
+            List<String> seekParams = new ArrayList<>();
+            seekPredicate(after, seekParams);
+            for (String value : seekParams) {
+                stmt.setString(index++, value);
+            }
+        }
+        stmt.setInt(index, limit + 1);
+    }
+
+    /**
+     * Checks that a decoded cursor fits this query's sort key.
+     *
+     * @throws IllegalArgumentException if it has the wrong number of values or
+     *                                  a NULL for a column that cannot be NULL
+     */
+    public void checkCursor(List<String> after) {
+        if (after.size() != keyColumns.length) {
+            throw new IllegalArgumentException("Cursor does not match this list's sort key");
+        }
+        for (int i = 0; i < keyColumns.length; i++) {
+            if (after.get(i) == null && !nullableColumns.contains(keyColumns[i])) {
+                throw new IllegalArgumentException("Cursor does not match this list's sort key");
+            }
+        }
+    }
+
+    public String countSql() {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM ").append(from);
+        appendWhere(sql, conditions);
+        return sql.toString();
+    }
+
+    public void bindCount(PreparedStatement stmt) throws SQLException {
+        bindConditions(stmt);
+    }
+
+    /**
+     * Reads the sort key of the row the result set is positioned on. Values
+     * of nullable columns may be null.
+     */
+    public List<String> readKey(ResultSet rs) throws SQLException {
+        List<String> key = new ArrayList<>(keyColumns.length);
+        for (int i = 0; i < keyColumns.length; i++) {
+            key.add(rs.getString(KEY_ALIAS + i));
+        }
+        return key;
+    }
+
+    /**
+     * Expanded form of (k0, k1, ...) > (?, ?, ...): for each position i,
+     * k0..k(i-1) are equal and ki is past the cursor. Collects the values to
+     * bind, in order, into params.
+     */
+    private String seekPredicate(List<String> after, List<String> params) {
+        checkCursor(after);
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < keyColumns.length; i++) {
+            String past = pastCursor(keyColumns[i], after.get(i));
+            if (past == null) {
+                continue; // Nothing sorts past a NULL here
+            }
+            StringBuilder term = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                if (after.get(j) == null) {
+                    term.append(keyColumns[j]).append(" IS NULL AND ");
+                } else {
+                    term.append(keyColumns[j]).append(" = ? AND ");
+                    params.add(after.get(j));
+                }
+            }
+            term.append(past).append(")");
+            if (after.get(i) != null) {
+                params.add(after.get(i));
+            }
+            terms.add(term.toString());
+        }
+        // A descending key whose cursor is NULL throughout: nothing comes after it
+        return terms.isEmpty() ? "1 = 0" : "(" + String.join(" OR ", terms) + ")";
+    }
+
+    /**
+     * Condition for column sorting after value, NULL sorting first; null if
+     * no value does.
+     */
+    private String pastCursor(String column, String value) {
+        if (value == null) {
+            return descending ? null : column + " IS NOT NULL";
+        }
+        if (descending && nullableColumns.contains(column)) {
+            return "(" + column + " < ? OR " + column + " IS NULL)";
+        }
+        return column + (descending ? " < ?" : " > ?");
+    }
+
+    private int bindConditions(PreparedStatement stmt) throws SQLException {
+        int index = 1;
+        for (Object param : conditionParams) {
+            stmt.setObject(index++, param);
+        }
+        return index;
+    }
+
+    private static void appendWhere(StringBuilder sql, List<String> clauses) {
+        for (int i = 0; i < clauses.size(); i++) {
+            sql.append(i == 0 ? " WHERE " : " AND ").append(clauses.get(i));
+        }
+    }
+}
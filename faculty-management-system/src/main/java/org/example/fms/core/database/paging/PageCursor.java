@@ -0,0 +1,57 @@
+package org.example.fms.core.database.paging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes and decodes the opaque next-page cursors handed to clients.
+ * A cursor carries the list type it was issued for and the sort key of the
+ * last row returned; clients must treat it as an opaque string.
+ */
+public class PageCursor {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    public static String encode(String type, List<String> key) {
+        ObjectNode node = mapper.createObjectNode();
+        node.put("t", type);
+        ArrayNode values = node.putArray("k");
+        key.forEach(values::add);
+        try {
+            byte[] json = mapper.writeValueAsBytes(node);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode page cursor", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed or was issued
+     *                                  for a different list type
+     */
+    public static List<String> decode(String type, String cursor) {
+        JsonNode node;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            node = mapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        if (node == null || !type.equals(node.path("t").asText()) || !node.path("k").isArray()) {
+            throw new IllegalArgumentException("Cursor was not issued for this list");
+        }
+        List<String> key = new ArrayList<>();
+        for (JsonNode value : node.get("k")) {
+            // A NULL sort key; KeysetQuery rejects it unless the column is nullable
+            key.add(value.isNull() ? null : value.asText());
+        }
+        return key;
+    }
+}
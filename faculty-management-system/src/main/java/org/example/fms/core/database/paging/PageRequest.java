@@ -0,0 +1,63 @@
+package org.example.fms.core.database.paging;
+
+import java.util.List;
+
+/**
+ * Validated paging parameters for one list request.
+ */
+public class PageRequest {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    /** Hard server-side cap; larger client requests are clamped to this. */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final int limit;
+    private final List<String> after;
+    private final boolean includeTotal;
+
+    private PageRequest(int limit, List<String> after, boolean includeTotal) {
+        this.limit = limit;
+        this.after = after;
+        this.includeTotal = includeTotal;
+    }
+
+    /**
+     * Parses raw request parameters.
+     *
+     * @param type         the list type the cursor must belong to
+     * @param limit        requested page size, or null for the default
+     * @param cursor       opaque cursor from a previous page, or null for the
+     *                     first page
+     * @param includeTotal "true" to also compute the total row count
+     * @throws IllegalArgumentException if limit or cursor are invalid
+     */
+    public static PageRequest parse(String type, String limit, String cursor, String includeTotal) {
+        int size = DEFAULT_PAGE_SIZE;
+        if (limit != null && !limit.isEmpty()) {
+            try {
+                size = Integer.parseInt(limit);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("limit must be a number");
+            }
+            if (size < 1) {
+                throw new IllegalArgumentException("limit must be positive");
+            }
+            size = Math.min(size, MAX_PAGE_SIZE);
+        }
+        List<String> after = cursor == null || cursor.isEmpty() ? null : PageCursor.decode(type, cursor);
+        return new PageRequest(size, after, "true".equalsIgnoreCase(includeTotal));
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /** Sort key to continue after, or null for the first page. */
+    public List<String> getAfter() {
+        return after;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.fms.core.database.pool;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps how many threads use the database at once, ahead of the pool.
+ *
+ * With platform threads, Tomcat's maxThreads already bounds how many requests
+ * can wait for a connection. With virtual threads nothing does, and thousands
+ * of callers would cycle through the pool's lock on every release. The gate's
+ * fair semaphore holds one permit per pooled connection, so at most that many
+ * threads ever reach the pool and the rest park cheaply in FIFO order. The
+ * permit is returned when the borrowed connection is closed.
+ */
+public class ConnectionGate {
+
+    /** Borrows a connection once a permit has been taken. */
+    @FunctionalInterface
+    public interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    private final Semaphore permits;
+    private final int capacity;
+    private final long timeoutMillis;
+    private final LatencyHistogram waitLatency = new LatencyHistogram();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    public ConnectionGate(int capacity, long timeoutMillis) {
+        this.capacity = capacity;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * Waits for a permit, then borrows from the source. Closing the returned
+     * connection closes the borrowed one and gives the permit back.
+     *
+     * @throws SQLTimeoutException if no permit became free within the timeout
+     */
+    public Connection acquire(ConnectionSource source) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                timeouts.incrementAndGet();
+                throw new SQLTimeoutException("Timed out after " + timeoutMillis
+                        + "ms waiting for database access (" + capacity + " in use)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for database access", e);
+        }
+        waitLatency.recordNanos(System.nanoTime() - start);
+
+        Connection conn;
+        try {
+            conn = source.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(ConnectionGate.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new PermitHandle(conn));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("capacity", capacity);
+        stats.put("inUse", capacity - permits.availablePermits());
+        stats.put("waiting", permits.getQueueLength());
+        stats.put("timeouts", timeouts.get());
+        stats.put("wait", waitLatency.summary());
+        return stats;
+    }
+
+    private final class PermitHandle implements InvocationHandler {
+        private final Connection delegate;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        PermitHandle(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (released.compareAndSet(false, true)) {
+                        try {
+                            delegate.close();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    if (released.get()) {
+                        return true;
+                    }
+                    break;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(delegate, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,627 @@
+package org.example.fms.core.database.pool;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.sql.Wrapper;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded JDBC connection pool.
+ *
+ * Callers receive a proxy whose close() hands the physical connection back to
+ * the pool, so existing try-with-resources code keeps working unchanged.
+ * Idle connections are kept in LIFO order so the warmest socket is reused
+ * first and the coldest ones age out through idle eviction.
+ * Statements created from a pooled connection are wrapped as well, to time
+ * every execute call and count the rows it changed.
+ */
+public class ConnectionPool {
+
+    /**
+     * Opens physical connections. Defaults to DriverManager; replaceable so the
+     * pool can run against any JDBC source.
+     */
+    public interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Told about every statement execute call, on the calling thread.
+     */
+    @FunctionalInterface
+    public interface StatementListener {
+        void executed(long nanos);
+    }
+
+    private final PoolConfig config;
+    private final ConnectionFactory factory;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+    private final ArrayDeque<PooledEntry> idle = new ArrayDeque<>(); // guarded by lock
+    private int totalConnections; // guarded by lock, includes connections being opened
+    private int waiters; // guarded by lock
+    private volatile boolean shutdown;
+
+    private final Set<PooledEntry> borrowed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LatencyHistogram executeLatency = new LatencyHistogram();
+    private final LongAdder rowsAffected = new LongAdder();
+    private volatile StatementListener statementListener;
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong destroyed = new AtomicLong();
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong validationFailures = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+
+    public ConnectionPool(PoolConfig config) {
+        this(config, () -> DriverManager.getConnection(config.getJdbcUrl(), config.getUsername(),
+                config.getPassword()));
+    }
+
+    public ConnectionPool(PoolConfig config, ConnectionFactory factory) {
+        config.validate();
+        this.config = config;
+        this.factory = factory;
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fms-pool-housekeeper");
+            t.setDaemon(true);
+            return t;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep, 0, config.getHousekeepingIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the configured acquire timeout when the
+     * pool is exhausted.
+     *
+     * @return a pooled connection; closing it returns it to the pool
+     * @throws SQLTimeoutException if no connection became available in time
+     * @throws SQLException        if a new physical connection could not be opened
+     */
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getAcquireTimeoutMillis());
+
+        while (true) {
+            PooledEntry entry = null;
+            boolean mustCreate = false;
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (shutdown) {
+                        throw new SQLException("Connection pool has been shut down");
+                    }
+                    entry = idle.pollFirst();
+                    if (entry != null) {
+                        break;
+                    }
+                    if (totalConnections < config.getMaxSize()) {
+                        totalConnections++; // Reserve the slot before opening outside the lock
+                        mustCreate = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeouts.incrementAndGet();
+                        throw new SQLTimeoutException("Timed out after " + config.getAcquireTimeoutMillis()
+                                + "ms waiting for a database connection (active=" + borrowed.size() + ", max="
+                                + config.getMaxSize() + ")");
+                    }
+                    waiters++;
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a database connection", e);
+                    } finally {
+                        waiters--;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (mustCreate) {
+                entry = openEntry();
+            } else if (!isAlive(entry)) {
+                validationFailures.incrementAndGet();
+                destroy(entry);
+                continue;
+            }
+
+            entry.borrowedAtMillis = System.currentTimeMillis();
+            entry.borrowSite = config.getLeakDetectionThresholdMillis() > 0
+                    ? new Throwable("Connection borrowed by " + Thread.currentThread().getName())
+                    : null;
+            entry.leakReported = false;
+            borrowed.add(entry);
+
+            acquired.incrementAndGet();
+            acquireLatency.recordNanos(System.nanoTime() - start);
+            return entry.newHandle();
+        }
+    }
+
+    /**
+     * Registers the callback run after each statement execute call, replacing
+     * any previous one.
+     */
+    public void setStatementListener(StatementListener listener) {
+        this.statementListener = listener;
+    }
+
+    /**
+     * Returns a snapshot of the current pool state and counters.
+     */
+    public PoolMetrics getMetrics() {
+        int total;
+        int idleCount;
+        int waiting;
+        lock.lock();
+        try {
+            total = totalConnections;
+            idleCount = idle.size();
+            waiting = waiters;
+        } finally {
+            lock.unlock();
+        }
+        return new PoolMetrics(total, borrowed.size(), idleCount, waiting, config.getMaxSize(), created.get(),
+                destroyed.get(), acquired.get(), timeouts.get(), validationFailures.get(), leaksDetected.get(),
+                acquireLatency.summary(), acquireLatency.cumulativeBuckets(), executeLatency.summary(),
+                executeLatency.cumulativeBuckets(), rowsAffected.sum());
+    }
+
+    /**
+     * Closes idle connections and stops the housekeeper. Connections still in use
+     * are closed as they are returned.
+     */
+    public void shutdown() {
+        List<PooledEntry> toClose;
+        lock.lock();
+        try {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        housekeeper.shutdownNow();
+        toClose.forEach(this::destroy);
+    }
+
+    private PooledEntry openEntry() throws SQLException {
+        try {
+            PooledEntry entry = new PooledEntry(factory.open());
+            created.incrementAndGet();
+            return entry;
+        } catch (SQLException | RuntimeException e) {
+            releaseSlot();
+            throw e;
+        }
+    }
+
+    private boolean isAlive(PooledEntry entry) {
+        long idleFor = System.nanoTime() - entry.lastReturnedNanos;
+        if (idleFor < TimeUnit.MILLISECONDS.toNanos(config.getValidationBypassMillis())) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(config.getValidationTimeoutSeconds());
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledEntry entry) {
+        if (!borrowed.remove(entry)) {
+            return;
+        }
+        if (shutdown || entry.broken || !resetState(entry)) {
+            destroy(entry);
+            return;
+        }
+        entry.lastReturnedNanos = System.nanoTime();
+        entry.borrowSite = null;
+        lock.lock();
+        try {
+            idle.addFirst(entry);
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts a connection back into the state a fresh DriverManager connection would
+     * have, so one caller's transaction settings never leak into the next.
+     */
+    private boolean resetState(PooledEntry entry) {
+        try {
+            Connection c = entry.physical;
+            if (c.isClosed()) {
+                return false;
+            }
+            if (!c.getAutoCommit()) {
+                c.rollback();
+                c.setAutoCommit(true);
+            }
+            if (c.isReadOnly()) {
+                c.setReadOnly(false);
+            }
+            c.clearWarnings();
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void destroy(PooledEntry entry) {
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            // Already broken; nothing more to do
+        }
+        destroyed.incrementAndGet();
+        releaseSlot();
+    }
+
+    private void releaseSlot() {
+        lock.lock();
+        try {
+            totalConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void housekeep() {
+        try {
+            detectLeaks();
+            evictIdle();
+            fillToMinIdle();
+        } catch (Throwable t) {
+            System.err.println("Connection pool housekeeping failed: " + t.getMessage());
+        }
+    }
+
+    private void detectLeaks() {
+        long threshold = config.getLeakDetectionThresholdMillis();
+        if (threshold <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (PooledEntry entry : borrowed) {
+            if (!entry.leakReported && now - entry.borrowedAtMillis > threshold) {
+                entry.leakReported = true;
+                leaksDetected.incrementAndGet();
+                System.err.println("Possible connection leak: connection held for " + (now - entry.borrowedAtMillis)
+                        + "ms without being closed. Borrowed at:");
+                if (entry.borrowSite != null) {
+                    entry.borrowSite.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleTimeoutMillis());
+        if (idleTimeoutNanos <= 0) {
+            return;
+        }
+        List<PooledEntry> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            // Oldest idle connections sit at the tail
+            Iterator<PooledEntry> it = idle.descendingIterator();
+            while (it.hasNext() && totalConnections - evicted.size() > config.getMinIdle()) {
+                PooledEntry entry = it.next();
+                if (now - entry.lastReturnedNanos > idleTimeoutNanos) {
+                    it.remove();
+                    evicted.add(entry);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(this::destroy);
+    }
+
+    private void fillToMinIdle() {
+        while (!shutdown) {
+            lock.lock();
+            try {
+                if (idle.size() >= config.getMinIdle() || totalConnections >= config.getMaxSize()) {
+                    return;
+                }
+                totalConnections++;
+            } finally {
+                lock.unlock();
+            }
+            PooledEntry entry;
+            try {
+                entry = openEntry();
+            } catch (SQLException | RuntimeException e) {
+                // Database is unreachable; try again on the next cycle
+                return;
+            }
+            entry.lastReturnedNanos = System.nanoTime();
+            lock.lock();
+            try {
+                idle.addLast(entry);
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A physical connection and its pool bookkeeping.
+     */
+    private final class PooledEntry {
+        final Connection physical;
+        volatile long lastReturnedNanos = System.nanoTime();
+        volatile long borrowedAtMillis;
+        volatile Throwable borrowSite;
+        volatile boolean leakReported;
+        volatile boolean broken;
+
+        PooledEntry(Connection physical) {
+            this.physical = physical;
+        }
+
+        Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                    new Class<?>[] { Connection.class }, new Handle(this));
+        }
+    }
+
+    /**
+     * Per-borrow proxy handler. A fresh handle is issued on every borrow so a
+     * stale reference kept after close() cannot touch the next borrower's
+     * session.
+     */
+    private final class Handle implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean closed;
+
+        Handle(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + (closed ? ", closed]" : "]");
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            if (isWrapperCall(method)) {
+                return wrapperCall(proxy, entry.physical, method, args);
+            }
+            try {
+                Object result = method.invoke(entry.physical, args);
+                if (result instanceof Statement && method.getReturnType().isInterface()) {
+                    return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] { method.getReturnType() },
+                            new TimedStatement((Statement) result, (Connection) proxy));
+                }
+                if (result instanceof DatabaseMetaData) {
+                    return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] { DatabaseMetaData.class }, new Child(result, proxy));
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        entry.broken = true; // Connection-level failure, do not reuse
+                    }
+                }
+                throw cause;
+            }
+        }
+    }
+
+    /**
+     * Times the execute calls of a statement borrowed through a {@link Handle}.
+     * Only the call itself is measured; reading a streamed result set afterwards
+     * is not. getConnection() answers the borrowed handle and result sets are
+     * wrapped, so the physical connection is never reachable from a statement.
+     */
+    private final class TimedStatement implements InvocationHandler {
+        private final Statement delegate;
+        private final Connection handle;
+
+        TimedStatement(Statement delegate, Connection handle) {
+            this.delegate = delegate;
+            this.handle = handle;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return handle;
+                default:
+                    break;
+            }
+            if (isWrapperCall(method)) {
+                return wrapperCall(proxy, delegate, method, args);
+            }
+            boolean execute = method.getName().startsWith("execute");
+            long start = execute ? System.nanoTime() : 0;
+            try {
+                Object result = method.invoke(delegate, args);
+                if (execute) {
+                    countRows(result);
+                }
+                if (result instanceof ResultSet) {
+                    return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] { ResultSet.class }, new Child(result, proxy));
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                if (execute) {
+                    long elapsed = System.nanoTime() - start;
+                    executeLatency.recordNanos(elapsed);
+                    StatementListener listener = statementListener;
+                    if (listener != null) {
+                        listener.executed(elapsed);
+                    }
+                }
+            }
+        }
+
+        private void countRows(Object result) {
+            if (result instanceof Integer || result instanceof Long) {
+                rowsAffected.add(rows(((Number) result).longValue()));
+            } else if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rowsAffected.add(rows(count));
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rowsAffected.add(rows(count));
+                }
+            }
+        }
+
+        private long rows(long count) {
+            // Rewritten batches report SUCCESS_NO_INFO rather than a count; take
+            // it as one row, as ChunkedBatchWriter does, so batched writes still show
+            return count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+        }
+    }
+
+    /**
+     * A result set or database metadata object of a borrowed connection.
+     * ResultSet.getStatement() and DatabaseMetaData.getConnection() answer the
+     * pool's proxies; result sets made by metadata calls have no statement.
+     */
+    private static final class Child implements InvocationHandler {
+        private final Object delegate;
+        private final Object owner; // Statement or connection proxy; null for metadata result sets
+
+        Child(Object delegate, Object owner) {
+            this.delegate = delegate;
+            this.owner = owner;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getStatement":
+                case "getConnection":
+                    return owner;
+                default:
+                    break;
+            }
+            if (isWrapperCall(method)) {
+                return wrapperCall(proxy, delegate, method, args);
+            }
+            try {
+                Object result = method.invoke(delegate, args);
+                if (result instanceof ResultSet) {
+                    return Proxy.newProxyInstance(ConnectionPool.class.getClassLoader(),
+                            new Class<?>[] { ResultSet.class }, new Child(result, null));
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private static boolean isWrapperCall(Method method) {
+        return method.getParameterCount() == 1 && method.getParameterTypes()[0] == Class.class
+                && (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor"));
+    }
+
+    /**
+     * unwrap and isWrapperFor for a pool proxy: the proxy answers for its own
+     * interfaces, and the driver's connection, statements and result sets are
+     * never handed out, since closing them would bypass the pool. Other vendor
+     * interfaces are looked up on the driver object.
+     */
+    private static Object wrapperCall(Object proxy, Object delegate, Method method, Object[] args)
+            throws SQLException {
+        Class<?> iface = (Class<?>) args[0];
+        boolean unwrap = method.getName().equals("unwrap");
+        if (iface.isInstance(proxy)) {
+            return unwrap ? proxy : Boolean.TRUE;
+        }
+        boolean physical = Connection.class.isAssignableFrom(iface) || Statement.class.isAssignableFrom(iface)
+                || ResultSet.class.isAssignableFrom(iface);
+        Wrapper wrapper = (Wrapper) delegate;
+        if (!unwrap) {
+            return !physical && wrapper.isWrapperFor(iface);
+        }
+        if (physical) {
+            throw new SQLException("A pooled " + iface.getSimpleName() + " cannot be unwrapped to the driver's");
+        }
+        return wrapper.unwrap(iface);
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.fms.core.database.pool;
+
+/**
+ * Tuning knobs for {@link ConnectionPool}.
+ * Defaults are sized for a single XAMPP MySQL instance serving the desktop
+ * clients of one campus.
+ */
+public class PoolConfig {
+    private String jdbcUrl;
+    private String username;
+    private String password;
+
+    private int minIdle = 2;
+    private int maxSize = 10;
+    private long acquireTimeoutMillis = 5_000;
+    private long idleTimeoutMillis = 600_000; // 10 minutes
+    private int validationTimeoutSeconds = 2;
+    private long validationBypassMillis = 500; // Skip the ping for connections returned moments ago
+    private long leakDetectionThresholdMillis = 30_000; // 0 disables leak detection
+    private long housekeepingIntervalMillis = 5_000;
+
+    public String getJdbcUrl() {
+        return jdbcUrl;
+    }
+
+    public void setJdbcUrl(String jdbcUrl) {
+        this.jdbcUrl = jdbcUrl;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public void setIdleTimeoutMillis(long idleTimeoutMillis) {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    public int getValidationTimeoutSeconds() {
+        return validationTimeoutSeconds;
+    }
+
+    public void setValidationTimeoutSeconds(int validationTimeoutSeconds) {
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    public long getValidationBypassMillis() {
+        return validationBypassMillis;
+    }
+
+    public void setValidationBypassMillis(long validationBypassMillis) {
+        this.validationBypassMillis = validationBypassMillis;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public void setLeakDetectionThresholdMillis(long leakDetectionThresholdMillis) {
+        this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+    }
+
+    public long getHousekeepingIntervalMillis() {
+        return housekeepingIntervalMillis;
+    }
+
+    public void setHousekeepingIntervalMillis(long housekeepingIntervalMillis) {
+        this.housekeepingIntervalMillis = housekeepingIntervalMillis;
+    }
+
+    /**
+     * Rejects configurations the pool cannot honour.
+     *
+     * @throws IllegalArgumentException describing the first invalid setting
+     */
+    public void validate() {
+        if (jdbcUrl == null || jdbcUrl.isEmpty()) {
+            throw new IllegalArgumentException("Pool JDBC URL is required");
+        }
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool maxSize must be at least 1");
+        }
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("Pool minIdle must be between 0 and maxSize");
+        }
+        if (acquireTimeoutMillis < 0 || idleTimeoutMillis < 0 || leakDetectionThresholdMillis < 0) {
+            throw new IllegalArgumentException("Pool timeouts must not be negative");
+        }
+        if (housekeepingIntervalMillis < 100) {
+            throw new IllegalArgumentException("Pool housekeeping interval must be at least 100ms");
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.fms.core.database.pool;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Point-in-time snapshot of {@link ConnectionPool} state and counters.
+ */
+public class PoolMetrics {
+    private final int total;
+    private final int active;
+    private final int idle;
+    private final int waiters;
+    private final int maxSize;
+    private final long created;
+    private final long destroyed;
+    private final long acquired;
+    private final long timeouts;
+    private final long validationFailures;
+    private final long leaksDetected;
+    private final Map<String, Object> acquireLatency;
+    private final Map<String, Long> acquireLatencyBuckets;
+    private final Map<String, Object> executeLatency;
+    private final Map<String, Long> executeLatencyBuckets;
+    private final long rowsAffected;
+
+    PoolMetrics(int total, int active, int idle, int waiters, int maxSize, long created, long destroyed,
+            long acquired, long timeouts, long validationFailures, long leaksDetected,
+            Map<String, Object> acquireLatency, Map<String, Long> acquireLatencyBuckets,
+            Map<String, Object> executeLatency, Map<String, Long> executeLatencyBuckets, long rowsAffected) {
+        this.total = total;
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.maxSize = maxSize;
+        this.created = created;
+        this.destroyed = destroyed;
+        this.acquired = acquired;
+        this.timeouts = timeouts;
+        this.validationFailures = validationFailures;
+        this.leaksDetected = leaksDetected;
+        this.acquireLatency = acquireLatency;
+        this.acquireLatencyBuckets = acquireLatencyBuckets;
+        this.executeLatency = executeLatency;
+        this.executeLatencyBuckets = executeLatencyBuckets;
+        this.rowsAffected = rowsAffected;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getWaiters() {
+        return waiters;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getCreated() {
+        return created;
+    }
+
+    public long getDestroyed() {
+        return destroyed;
+    }
+
+    public long getAcquired() {
+        return acquired;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getValidationFailures() {
+        return validationFailures;
+    }
+
+    public long getLeaksDetected() {
+        return leaksDetected;
+    }
+
+    /** Count, mean and percentiles of the time spent inside getConnection(). */
+    public Map<String, Object> getAcquireLatency() {
+        return acquireLatency;
+    }
+
+    /** Cumulative acquire latency buckets keyed by upper bound in microseconds. */
+    public Map<String, Long> getAcquireLatencyBuckets() {
+        return acquireLatencyBuckets;
+    }
+
+    /** Count, mean and percentiles of statement execute calls. */
+    public Map<String, Object> getExecuteLatency() {
+        return executeLatency;
+    }
+
+    /** Cumulative execute latency buckets keyed by upper bound in microseconds. */
+    public Map<String, Long> getExecuteLatencyBuckets() {
+        return executeLatencyBuckets;
+    }
+
+    /** Update counts summed over every execute call. */
+    public long getRowsAffected() {
+        return rowsAffected;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("total", total);
+        map.put("active", active);
+        map.put("idle", idle);
+        map.put("waiters", waiters);
+        map.put("maxSize", maxSize);
+        map.put("created", created);
+        map.put("destroyed", destroyed);
+        map.put("acquired", acquired);
+        map.put("timeouts", timeouts);
+        map.put("validationFailures", validationFailures);
+        map.put("leaksDetected", leaksDetected);
+        map.put("acquireLatency", acquireLatency);
+        map.put("executeLatency", executeLatency);
+        map.put("rowsAffected", rowsAffected);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMetrics" + toMap();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.fms.core.database.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes related rows for several tables as JDBC batches in chunked
+ * transactions.
+ *
+ * Statements are registered parents first. Callers bind and
+ * {@code addBatch()} one row on each statement that needs it, then call
+ * {@link #endRow()}; every {@code chunkRows} rows the batches are executed in
+ * registration order and committed. A failed chunk is rolled back and the
+ * chunks before it stay written.
+ *
+ * With rewriteBatchedStatements on the MySQL URL, Connector/J sends each batch
+ * as multi-row INSERTs rather than one round trip per row.
+ */
+public class ChunkedBatchWriter implements AutoCloseable {
+
+    private final Connection conn;
+    private final int chunkRows;
+    private final boolean autoCommit;
+    private final List<PreparedStatement> statements = new ArrayList<>();
+    private int pending;
+    private long rows;
+    private long statementRows;
+
+    public ChunkedBatchWriter(Connection conn, int chunkRows) throws SQLException {
+        this.conn = conn;
+        this.chunkRows = Math.max(1, chunkRows);
+        this.autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+    }
+
+    /**
+     * Prepares a statement that is executed with each chunk, after the ones
+     * registered before it.
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement stmt = conn.prepareStatement(sql);
+        statements.add(stmt);
+        return stmt;
+    }
+
+    /**
+     * Marks the end of one logical row, whose parts have been added to the
+     * statements' batches.
+     */
+    public void endRow() throws SQLException {
+        pending++;
+        if (pending == chunkRows) {
+            flush();
+        }
+    }
+
+    /**
+     * Executes and commits whatever is batched.
+     */
+    public void flush() throws SQLException {
+        if (pending == 0) {
+            return;
+        }
+        try {
+            for (PreparedStatement stmt : statements) {
+                for (int count : stmt.executeBatch()) {
+                    // Rewritten batches report SUCCESS_NO_INFO rather than a count
+                    statementRows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        }
+        rows += pending;
+        pending = 0;
+    }
+
+    /**
+     * Logical rows committed so far.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Table rows committed so far, over all statements.
+     */
+    public long getStatementRows() {
+        return statementRows;
+    }
+
+    /**
+     * Closes the statements and restores auto-commit. Rows not yet flushed
+     * are discarded.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (PreparedStatement stmt : statements) {
+                stmt.close();
+            }
+            if (pending > 0) {
+                conn.rollback();
+            }
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.example.fms.core.database.seed;
+
+import java.time.LocalDate;
+
+/**
+ * Size and shape of the data {@link SyntheticDataGenerator} produces.
+ * Defaults give a few thousand students and a year of attendance; the
+ * 8,000-student campus with several years of history is
+ * {@code --sections=5 --students-per-section=50 --attendance-years=4}.
+ */
+public class GeneratorSettings {
+    public static final int SEMESTERS = 8;
+
+    private int programs = 4;
+    private int sectionsPerSemester = 2;
+    private int studentsPerSection = 40;
+    private int subjectsPerSemester = 5;
+    private int subjectsPerFaculty = 3;
+    private int attendanceYears = 1;
+    private int resultsPerTerm = 3;
+    private int assignmentsPerSubject = 2;
+    private int submissionsPerAssignment = 30;
+    private long seed = 42;
+    private LocalDate until; // Last day of history; today if unset
+    private int rowsPerStatement = 500;
+
+    public int getPrograms() {
+        return programs;
+    }
+
+    public void setPrograms(int programs) {
+        this.programs = programs;
+    }
+
+    public int getSectionsPerSemester() {
+        return sectionsPerSemester;
+    }
+
+    public void setSectionsPerSemester(int sectionsPerSemester) {
+        this.sectionsPerSemester = sectionsPerSemester;
+    }
+
+    public int getStudentsPerSection() {
+        return studentsPerSection;
+    }
+
+    public void setStudentsPerSection(int studentsPerSection) {
+        this.studentsPerSection = studentsPerSection;
+    }
+
+    public int getSubjectsPerSemester() {
+        return subjectsPerSemester;
+    }
+
+    public void setSubjectsPerSemester(int subjectsPerSemester) {
+        this.subjectsPerSemester = subjectsPerSemester;
+    }
+
+    public int getSubjectsPerFaculty() {
+        return subjectsPerFaculty;
+    }
+
+    public void setSubjectsPerFaculty(int subjectsPerFaculty) {
+        this.subjectsPerFaculty = subjectsPerFaculty;
+    }
+
+    public int getAttendanceYears() {
+        return attendanceYears;
+    }
+
+    public void setAttendanceYears(int attendanceYears) {
+        this.attendanceYears = attendanceYears;
+    }
+
+    public int getResultsPerTerm() {
+        return resultsPerTerm;
+    }
+
+    public void setResultsPerTerm(int resultsPerTerm) {
+        this.resultsPerTerm = resultsPerTerm;
+    }
+
+    public int getAssignmentsPerSubject() {
+        return assignmentsPerSubject;
+    }
+
+    public void setAssignmentsPerSubject(int assignmentsPerSubject) {
+        this.assignmentsPerSubject = assignmentsPerSubject;
+    }
+
+    public int getSubmissionsPerAssignment() {
+        return submissionsPerAssignment;
+    }
+
+    public void setSubmissionsPerAssignment(int submissionsPerAssignment) {
+        this.submissionsPerAssignment = submissionsPerAssignment;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public LocalDate getUntil() {
+        return until != null ? until : LocalDate.now();
+    }
+
+    public void setUntil(LocalDate until) {
+        this.until = until;
+    }
+
+    public int getRowsPerStatement() {
+        return rowsPerStatement;
+    }
+
+    public void setRowsPerStatement(int rowsPerStatement) {
+        this.rowsPerStatement = rowsPerStatement;
+    }
+
+    public int getStudentsPerSemester() {
+        return sectionsPerSemester * studentsPerSection;
+    }
+
+    public int getStudentCount() {
+        return programs * SEMESTERS * getStudentsPerSemester();
+    }
+
+    public int getSubjectCount() {
+        return programs * SEMESTERS * subjectsPerSemester;
+    }
+
+    public int getFacultyCount() {
+        return Math.max(1, (getSubjectCount() + subjectsPerFaculty - 1) / subjectsPerFaculty);
+    }
+
+    /**
+     * @throws IllegalArgumentException naming the first setting out of range
+     */
+    public void validate() {
+        require("programs", programs, 1, 99);
+        require("sections", sectionsPerSemester, 1, 26);
+        require("students-per-section", studentsPerSection, 1, 10_000);
+        require("subjects-per-semester", subjectsPerSemester, 1, 20);
+        require("subjects-per-faculty", subjectsPerFaculty, 1, 20);
+        require("attendance-years", attendanceYears, 0, 20);
+        require("results-per-term", resultsPerTerm, 0, 10);
+        require("assignments-per-subject", assignmentsPerSubject, 0, 50);
+        require("submissions-per-assignment", submissionsPerAssignment, 0, 100_000);
+        require("rows-per-statement", rowsPerStatement, 1, 10_000);
+    }
+
+    private static void require(String name, int value, int min, int max) {
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max + ", got " + value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.example.fms.core.database.seed;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Buffers rows for one table and writes them as multi-row
+ * {@code INSERT ... VALUES (...), (...), ...} statements.
+ *
+ * One round trip and one statement parse then carry hundreds of rows, which is
+ * what makes bulk loading fast on every driver; Connector/J only rewrites
+ * plain JDBC batches this way when rewriteBatchedStatements is set on the URL.
+ * Full statements reuse one prepared statement; the remainder at
+ * {@link #flush()} gets its own.
+ *
+ * When the connection is not in auto-commit mode, the transaction is committed
+ * every {@link #COMMIT_ROWS} rows so undo logs and lock tables stay small
+ * however large the load.
+ */
+public class MultiRowInsert implements AutoCloseable {
+
+    static final int COMMIT_ROWS = 50_000;
+
+    // MySQL rejects statements with more than 65,535 placeholders
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final Connection conn;
+    private final String table;
+    private final String[] columns;
+    private final int rowsPerStatement;
+    private final Object[] buffer;
+    private PreparedStatement fullStatement;
+    private int buffered;
+    private long rows;
+    private long uncommitted;
+
+    public MultiRowInsert(Connection conn, String table, int rowsPerStatement, String... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        this.conn = conn;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = Math.max(1, Math.min(rowsPerStatement, MAX_PLACEHOLDERS / columns.length));
+        this.buffer = new Object[this.rowsPerStatement * columns.length];
+    }
+
+    /**
+     * Adds one row, with a value per column in declaration order.
+     */
+    public void add(Object... values) throws SQLException {
+        if (values.length != columns.length) {
+            throw new IllegalArgumentException(table + " expects " + columns.length + " values, got "
+                    + values.length);
+        }
+        System.arraycopy(values, 0, buffer, buffered * columns.length, columns.length);
+        if (++buffered == rowsPerStatement) {
+            if (fullStatement == null) {
+                fullStatement = conn.prepareStatement(sql(table, columns, rowsPerStatement));
+            }
+            execute(fullStatement, buffered);
+        }
+    }
+
+    /**
+     * Writes any buffered rows and commits them if a transaction is open.
+     */
+    public void flush() throws SQLException {
+        if (buffered > 0) {
+            try (PreparedStatement stmt = conn.prepareStatement(sql(table, columns, buffered))) {
+                execute(stmt, buffered);
+            }
+        }
+        if (uncommitted > 0 && !conn.getAutoCommit()) {
+            conn.commit();
+        }
+        uncommitted = 0;
+    }
+
+    /**
+     * Rows written so far, not counting those still buffered.
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (fullStatement != null) {
+            fullStatement.close();
+            fullStatement = null;
+        }
+    }
+
+    private void execute(PreparedStatement stmt, int rowCount) throws SQLException {
+        int values = rowCount * columns.length;
+        for (int i = 0; i < values; i++) {
+            stmt.setObject(i + 1, buffer[i]);
+            buffer[i] = null;
+        }
+        stmt.executeUpdate();
+        buffered = 0;
+        rows += rowCount;
+        uncommitted += rowCount;
+        if (uncommitted >= COMMIT_ROWS && !conn.getAutoCommit()) {
+            conn.commit();
+            uncommitted = 0;
+        }
+    }
+
+    static String sql(String table, String[] columns, int rowCount) {
+        StringBuilder row = new StringBuilder("(");
+        for (int i = 0; i < columns.length; i++) {
+            row.append(i == 0 ? "?" : ", ?");
+        }
+        row.append(')');
+
+        StringBuilder sql = new StringBuilder(32 + table.length() + rowCount * (row.length() + 2));
+        sql.append("INSERT INTO ").append(table).append(" (").append(String.join(", ", columns))
+                .append(") VALUES ");
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+}
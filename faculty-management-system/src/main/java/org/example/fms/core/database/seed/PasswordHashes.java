@@ -0,0 +1,37 @@
+package org.example.fms.core.database.seed;
+
+import org.example.fms.core.security.PasswordUtil;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * BCrypt hashes of the default passwords given to seeded accounts.
+ *
+ * Each distinct password is hashed once and the hash is shared by every
+ * account that gets it, so seeding costs a few hashes rather than one per
+ * account. Hashing is deliberately slow; {@link #prefetch} starts several at
+ * once in the background while other seeding work goes on.
+ */
+public class PasswordHashes {
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> hashes = new ConcurrentHashMap<>();
+
+    /**
+     * Starts hashing the given passwords without waiting for the results.
+     */
+    public void prefetch(String... passwords) {
+        for (String password : passwords) {
+            hashes.computeIfAbsent(password,
+                    p -> CompletableFuture.supplyAsync(() -> PasswordUtil.hashPassword(p)));
+        }
+    }
+
+    /**
+     * The hash of the given password, waiting for it if necessary.
+     */
+    public String get(String password) {
+        prefetch(password);
+        return hashes.get(password).join();
+    }
+}
@@ -0,0 +1,634 @@
+package org.example.fms.core.database.seed;
+
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.database.DatabaseConnectionManager;
+import org.example.fms.core.database.DatabaseSeeder;
+import org.example.fms.core.database.TableVersions;
+import org.example.fms.core.security.PasswordUtil;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.UnaryOperator;
+
+/**
+ * Builds a campus of any size for performance work, next to (not instead of)
+ * the small demo data from {@link DatabaseSeeder#seedDummyData()}.
+ *
+ * Programs have 8 semesters of sections, subjects taught by faculty, open and
+ * graded assignments with submissions, published results for every completed
+ * term and daily attendance reaching back up to the configured number of
+ * years (never before a student enrolled; Saturdays are off). Every value is
+ * derived from the seed and the entity's position, so the same settings and
+ * end date always produce the same rows, whatever order they are written in.
+ *
+ * Rows go out through {@link MultiRowInsert}, parents before children, in
+ * chunked transactions. All generated ids start with {@value #ID_PREFIX}.
+ *
+ * Run against the configured database (db.* settings, -Dfms.db.url=... to
+ * override):
+ * <pre>
+ *   mvn -q compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/classes:$(cat cp.txt) org.example.fms.core.database.seed.SyntheticDataGenerator \
+ *       --sections=5 --students-per-section=50 --attendance-years=4
+ * </pre>
+ */
+public class SyntheticDataGenerator {
+
+    static final String ID_PREFIX = "syn-";
+    static final String STUDENT_PASSWORD = "student123";
+    static final String FACULTY_PASSWORD = "teacher";
+
+    private static final String DEPARTMENT_ID = ID_PREFIX + "dept-1";
+    private static final int TERM_MONTHS = 6;
+    private static final int TERM_ELAPSED_DAYS = 90; // The current term is this far along
+    private static final String[] EXAM_TYPES = { "internal", "mid_term", "final" };
+    private static final String[] FIRST_NAMES = { "Ram", "Sita", "Hari", "Gita", "Shyam", "Rita", "Aayush",
+            "Anjali", "Bikash", "Binita", "Sandeep", "Manisha", "Kiran", "Samir", "Pooja" };
+    private static final String[] LAST_NAMES = { "Sharma", "Thapa", "Mahat", "Gurung", "Rai", "Karki", "Adhikari",
+            "Poudel", "Pandey", "Basnet", "Lama", "Sherpa", "Tamang", "Magar", "Ghale" };
+
+    // Tables written, for cache invalidation
+    private static final String[] TABLES = { "departments", "users", "user_roles", "staff", "programs",
+            "semesters", "subjects", "course_assignments", "assignments", "students", "student_attendance",
+            "exam_results", "submissions" };
+
+    // Salts for the per-entity random streams
+    private static final int STUDENT = 1;
+    private static final int FACULTY = 2;
+    private static final int ASSIGNMENT = 3;
+    private static final int ATTENDANCE = 4;
+    private static final int RESULTS = 5;
+
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: SyntheticDataGenerator [--name=value ...]",
+            "  --programs=N                    programs of 8 semesters (default 4)",
+            "  --sections=N                    sections per semester (default 2)",
+            "  --students-per-section=N        (default 40)",
+            "  --subjects-per-semester=N       (default 5)",
+            "  --subjects-per-faculty=N        subjects each teacher takes (default 3)",
+            "  --attendance-years=N            years of daily attendance history (default 1)",
+            "  --results-per-term=N            exam results per subject and completed term (default 3)",
+            "  --assignments-per-subject=N     (default 2)",
+            "  --submissions-per-assignment=N  (default 30, capped at the class size)",
+            "  --seed=N                        (default 42)",
+            "  --until=YYYY-MM-DD              last day of history (default today)",
+            "  --rows-per-statement=N          rows per INSERT statement (default 500)");
+
+    private final GeneratorSettings settings;
+    private final UnaryOperator<String> hasher;
+    private final LocalDate until;
+    private final LocalDate currentTermStart;
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+    public SyntheticDataGenerator(GeneratorSettings settings) {
+        this(settings, PasswordUtil::hashPassword);
+    }
+
+    SyntheticDataGenerator(GeneratorSettings settings, UnaryOperator<String> hasher) {
+        settings.validate();
+        this.settings = settings;
+        this.hasher = hasher;
+        this.until = settings.getUntil();
+        this.currentTermStart = until.minusDays(TERM_ELAPSED_DAYS);
+    }
+
+    /**
+     * Inserts the whole data set into a migrated schema that holds no
+     * generated rows yet.
+     *
+     * @return rows written per table, in write order
+     */
+    public Map<String, Long> generate(Connection conn) throws SQLException {
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            writeDepartment(conn);
+            writeAccounts(conn);
+            writeStaff(conn);
+            writeCurriculum(conn);
+            writeTeaching(conn);
+            writeStudents(conn);
+            writeAttendance(conn);
+            writeResults(conn);
+            writeSubmissions(conn);
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+            TableVersions.bump(TABLES);
+        }
+        return rowCounts;
+    }
+
+    private void writeDepartment(Connection conn) throws SQLException {
+        try (MultiRowInsert insert = open(conn, "departments", "id", "name")) {
+            insert.add(DEPARTMENT_ID, "Synthetic Department");
+            finish("departments", insert, System.nanoTime());
+        }
+    }
+
+    private void writeAccounts(Connection conn) throws SQLException {
+        // One BCrypt hash per distinct password rather than one per account
+        String facultyHash = hasher.apply(FACULTY_PASSWORD);
+        String studentHash = hasher.apply(STUDENT_PASSWORD);
+
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "users", "id", "email", "password_hash")) {
+            for (int f = 1; f <= settings.getFacultyCount(); f++) {
+                insert.add(facultyUserId(f), String.format("syn.faculty%05d@faculty.edu", f), facultyHash);
+            }
+            for (int n = 1; n <= settings.getStudentCount(); n++) {
+                insert.add(studentUserId(n), String.format("syn.student%06d@faculty.edu", n), studentHash);
+            }
+            finish("users", insert, start);
+        }
+
+        start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "user_roles", "id", "user_id", "role")) {
+            for (int f = 1; f <= settings.getFacultyCount(); f++) {
+                insert.add(facultyUserId(f) + "-r", facultyUserId(f), "faculty");
+            }
+            for (int n = 1; n <= settings.getStudentCount(); n++) {
+                insert.add(studentUserId(n) + "-r", studentUserId(n), "student");
+            }
+            finish("user_roles", insert, start);
+        }
+    }
+
+    private void writeStaff(Connection conn) throws SQLException {
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "staff", "id", "staff_id", "user_id", "full_name_en", "designation",
+                "staff_type", "department_id", "employment_type", "date_of_joining")) {
+            for (int f = 1; f <= settings.getFacultyCount(); f++) {
+                SplittableRandom random = random(FACULTY, f);
+                insert.add(staffId(f), String.format("SYN-FAC-%05d", f), facultyUserId(f), name(random),
+                        "Lecturer", "teaching", DEPARTMENT_ID, "permanent",
+                        Date.valueOf(until.minusDays(365 + random.nextInt(3650))));
+            }
+            finish("staff", insert, start);
+        }
+    }
+
+    private void writeCurriculum(Connection conn) throws SQLException {
+        long start = System.nanoTime();
+        try (MultiRowInsert programs = open(conn, "programs", "id", "name", "code", "department_id",
+                "duration_years")) {
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                programs.add(programId(p), "Synthetic Program " + p, "SYN" + p, DEPARTMENT_ID, new BigDecimal("4.0"));
+            }
+            finish("programs", programs, start);
+        }
+
+        start = System.nanoTime();
+        try (MultiRowInsert semesters = open(conn, "semesters", "id", "program_id", "semester_number", "name")) {
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    semesters.add(semesterId(p, sem), programId(p), sem, "Semester " + sem);
+                }
+            }
+            finish("semesters", semesters, start);
+        }
+
+        start = System.nanoTime();
+        try (MultiRowInsert subjects = open(conn, "subjects", "id", "code", "name", "credits", "program_id",
+                "semester_id")) {
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    for (int j = 1; j <= settings.getSubjectsPerSemester(); j++) {
+                        subjects.add(subjectId(p, sem, j), String.format("SYN%d-%d%02d", p, sem, j),
+                                "Subject " + p + "." + sem + "." + j, 3, programId(p), semesterId(p, sem));
+                    }
+                }
+            }
+            finish("subjects", subjects, start);
+        }
+    }
+
+    /**
+     * Shares the subjects out round-robin; each teacher also sets the
+     * assignments of the subjects they teach.
+     */
+    private void writeTeaching(Connection conn) throws SQLException {
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "course_assignments", "id", "staff_id", "subject_id",
+                "academic_year", "semester_id", "assigned_date")) {
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    for (int j = 1; j <= settings.getSubjectsPerSemester(); j++) {
+                        insert.add(subjectId(p, sem, j) + "-ca", staffId(teacherOf(p, sem, j)), subjectId(p, sem, j),
+                                academicYear(currentTermStart), semesterId(p, sem), Date.valueOf(currentTermStart));
+                    }
+                }
+            }
+            finish("course_assignments", insert, start);
+        }
+
+        start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "assignments", "id", "subject_id", "title", "description",
+                "deadline", "created_by")) {
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    for (int j = 1; j <= settings.getSubjectsPerSemester(); j++) {
+                        for (int a = 1; a <= settings.getAssignmentsPerSubject(); a++) {
+                            insert.add(assignmentId(p, sem, j, a), subjectId(p, sem, j), "Assignment " + a,
+                                    "Synthetic assignment", Timestamp.valueOf(deadline(a).atTime(23, 59)),
+                                    facultyUserId(teacherOf(p, sem, j)));
+                        }
+                    }
+                }
+            }
+            finish("assignments", insert, start);
+        }
+    }
+
+    private void writeStudents(Connection conn) throws SQLException {
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "students", "id", "student_id", "user_id", "full_name_en",
+                "date_of_birth", "gender", "nationality", "address", "phone", "email", "guardian_name",
+                "guardian_phone", "guardian_relationship", "program_id", "section_id", "current_semester")) {
+            int n = 0;
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    for (int section = 0; section < settings.getSectionsPerSemester(); section++) {
+                        for (int i = 1; i <= settings.getStudentsPerSection(); i++) {
+                            n++;
+                            SplittableRandom random = random(STUDENT, n);
+                            insert.add(studentId(n), String.format("SYN-STU-%06d", n), studentUserId(n),
+                                    name(random), Date.valueOf(enrolled(sem).minusYears(18).plusDays(random.nextInt(1000))),
+                                    random.nextBoolean() ? "Male" : "Female", "Nepali", "Kathmandu", phone(random),
+                                    String.format("syn.student%06d@faculty.edu", n), name(random), phone(random),
+                                    "Father", programId(p), semesterId(p, sem) + "-" + (char) ('a' + section), sem);
+                        }
+                    }
+                }
+            }
+            finish("students", insert, start);
+        }
+    }
+
+    /**
+     * One mark per teaching day since the later of enrolment and the start of
+     * the history window. Each student has their own attendance rate.
+     */
+    private void writeAttendance(Connection conn) throws SQLException {
+        if (settings.getAttendanceYears() == 0) {
+            return;
+        }
+        LocalDate windowStart = until.minusYears(settings.getAttendanceYears()).plusDays(1);
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "student_attendance", "id", "student_id", "date", "status")) {
+            forEachStudent((n, p, sem) -> {
+                SplittableRandom random = random(ATTENDANCE, n);
+                double presence = 0.70 + random.nextDouble() * 0.28;
+                LocalDate enrolled = enrolled(sem);
+                LocalDate day = enrolled.isAfter(windowStart) ? enrolled : windowStart;
+                for (; !day.isAfter(until); day = day.plusDays(1)) {
+                    if (day.getDayOfWeek() == DayOfWeek.SATURDAY) {
+                        continue;
+                    }
+                    double draw = random.nextDouble();
+                    String status = draw < presence ? "present"
+                            : draw < presence + (1 - presence) * 0.6 ? "absent"
+                                    : draw < presence + (1 - presence) * 0.9 ? "late" : "on_leave";
+                    insert.add(ID_PREFIX + "att-" + n + "-" + day.toEpochDay(), studentId(n), Date.valueOf(day),
+                            status);
+                }
+            });
+            finish("student_attendance", insert, start);
+        }
+    }
+
+    /**
+     * Results for every subject of every term a student has completed, graded
+     * around the student's own ability.
+     */
+    private void writeResults(Connection conn) throws SQLException {
+        if (settings.getResultsPerTerm() == 0) {
+            return;
+        }
+        BigDecimal total = new BigDecimal("100.00");
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "exam_results", "id", "student_id", "subject_id", "marks_obtained",
+                "total_marks", "grade", "exam_type", "academic_year", "semester_id", "published_date")) {
+            forEachStudent((n, p, sem) -> {
+                SplittableRandom random = random(RESULTS, n);
+                double ability = 45 + random.nextDouble() * 45;
+                for (int term = 1; term < sem; term++) {
+                    LocalDate published = termStart(sem, term).plusMonths(TERM_MONTHS).minusDays(1);
+                    String year = academicYear(published);
+                    for (int j = 1; j <= settings.getSubjectsPerSemester(); j++) {
+                        for (int r = 0; r < settings.getResultsPerTerm(); r++) {
+                            double marks = Math.max(0, Math.min(100, ability + (random.nextDouble() - 0.5) * 30));
+                            marks = Math.round(marks * 2) / 2.0;
+                            insert.add(ID_PREFIX + "res-" + n + "-" + term + "-" + j + "-" + r, studentId(n),
+                                    subjectId(p, term, j), BigDecimal.valueOf(marks).setScale(2), total, grade(marks),
+                                    EXAM_TYPES[r % EXAM_TYPES.length], year, semesterId(p, term),
+                                    Date.valueOf(published));
+                        }
+                    }
+                }
+            });
+            finish("exam_results", insert, start);
+        }
+    }
+
+    /**
+     * Each assignment is submitted by a run of students from the class taking
+     * the subject. Work handed in before a past deadline has been graded.
+     */
+    private void writeSubmissions(Connection conn) throws SQLException {
+        int classSize = settings.getStudentsPerSemester();
+        int perAssignment = Math.min(settings.getSubmissionsPerAssignment(), classSize);
+        if (perAssignment == 0 || settings.getAssignmentsPerSubject() == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        try (MultiRowInsert insert = open(conn, "submissions", "id", "assignment_id", "student_id", "content_body",
+                "submitted_at", "status", "marks", "feedback")) {
+            int assignment = 0;
+            for (int p = 1; p <= settings.getPrograms(); p++) {
+                for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                    int firstStudent = ((p - 1) * GeneratorSettings.SEMESTERS + sem - 1) * classSize + 1;
+                    for (int j = 1; j <= settings.getSubjectsPerSemester(); j++) {
+                        for (int a = 1; a <= settings.getAssignmentsPerSubject(); a++) {
+                            SplittableRandom random = random(ASSIGNMENT, ++assignment);
+                            LocalDate deadline = deadline(a);
+                            boolean closed = deadline.isBefore(until);
+                            int offset = random.nextInt(classSize);
+                            for (int i = 0; i < perAssignment; i++) {
+                                int n = firstStudent + (offset + i) % classSize;
+                                boolean late = closed && random.nextInt(10) == 0;
+                                LocalDate submitted = late ? deadline.plusDays(1 + random.nextInt(3))
+                                        : (closed ? deadline : until).minusDays(random.nextInt(7));
+                                BigDecimal marks = closed ? BigDecimal.valueOf(5 + random.nextInt(6)).setScale(2) : null;
+                                insert.add(ID_PREFIX + "sub-" + assignment + "-" + n,
+                                        assignmentId(p, sem, j, a), studentId(n), "Synthetic submission",
+                                        Timestamp.valueOf(submitted.atTime(8 + random.nextInt(14), random.nextInt(60))),
+                                        closed ? "graded" : (late ? "late" : "submitted"), marks,
+                                        closed ? "Reviewed" : null);
+                            }
+                        }
+                    }
+                }
+            }
+            finish("submissions", insert, start);
+        }
+    }
+
+    private interface StudentVisitor {
+        void visit(int n, int program, int semester) throws SQLException;
+    }
+
+    /**
+     * Visits students in the order {@link #writeStudents} numbers them.
+     */
+    private void forEachStudent(StudentVisitor visitor) throws SQLException {
+        int n = 0;
+        for (int p = 1; p <= settings.getPrograms(); p++) {
+            for (int sem = 1; sem <= GeneratorSettings.SEMESTERS; sem++) {
+                for (int i = 0; i < settings.getStudentsPerSemester(); i++) {
+                    visitor.visit(++n, p, sem);
+                }
+            }
+        }
+    }
+
+    private MultiRowInsert open(Connection conn, String table, String... columns) {
+        return new MultiRowInsert(conn, table, settings.getRowsPerStatement(), columns);
+    }
+
+    private void finish(String table, MultiRowInsert insert, long startNanos) throws SQLException {
+        insert.flush();
+        long rows = insert.getRows();
+        rowCounts.put(table, rows);
+        double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1_000_000_000.0;
+        System.out.printf("  %-20s %,12d rows in %7.1f s (%,.0f rows/s)%n", table, rows, seconds, rows / seconds);
+    }
+
+    /**
+     * An independent random stream per entity, so a row's values do not
+     * depend on how many rows came before it.
+     */
+    private SplittableRandom random(int kind, int index) {
+        return new SplittableRandom(settings.getSeed() * 0x9E3779B97F4A7C15L + kind * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    /**
+     * First day of the term a student now in {@code currentSemester} spent in
+     * {@code semester}.
+     */
+    private LocalDate termStart(int currentSemester, int semester) {
+        return currentTermStart.minusMonths((long) TERM_MONTHS * (currentSemester - semester));
+    }
+
+    private LocalDate enrolled(int currentSemester) {
+        return termStart(currentSemester, 1);
+    }
+
+    private LocalDate deadline(int assignment) {
+        // Spread over the current term, the later ones still open
+        int spacing = (TERM_MONTHS * 30) / (settings.getAssignmentsPerSubject() + 1);
+        return currentTermStart.plusDays((long) spacing * assignment);
+    }
+
+    private int teacherOf(int p, int sem, int j) {
+        int subject = ((p - 1) * GeneratorSettings.SEMESTERS + sem - 1) * settings.getSubjectsPerSemester() + j - 1;
+        return 1 + subject % settings.getFacultyCount();
+    }
+
+    private static String academicYear(LocalDate date) {
+        if (BsCalendar.isSupported(date)) {
+            return Integer.toString(BsCalendar.fromAd(date).getYear());
+        }
+        // Past the calendar table: Bikram Sambat years start in mid-April
+        return Integer.toString(date.getYear() + (date.getMonthValue() > 4 ? 57 : 56));
+    }
+
+    private static String grade(double percent) {
+        if (percent >= 90) {
+            return "A";
+        } else if (percent >= 80) {
+            return "A-";
+        } else if (percent >= 70) {
+            return "B+";
+        } else if (percent >= 60) {
+            return "B";
+        } else if (percent >= 50) {
+            return "C+";
+        } else if (percent >= 40) {
+            return "C";
+        }
+        return "F";
+    }
+
+    private static String name(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private static String phone(SplittableRandom random) {
+        return "98" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private static String facultyUserId(int f) {
+        return String.format(ID_PREFIX + "fac-user-%05d", f);
+    }
+
+    private static String staffId(int f) {
+        return String.format(ID_PREFIX + "staff-%05d", f);
+    }
+
+    private static String studentUserId(int n) {
+        return String.format(ID_PREFIX + "stu-user-%06d", n);
+    }
+
+    private static String studentId(int n) {
+        return ID_PREFIX + "stu-" + n;
+    }
+
+    private static String programId(int p) {
+        return ID_PREFIX + "prog-" + p;
+    }
+
+    private static String semesterId(int p, int sem) {
+        return programId(p) + "-sem-" + sem;
+    }
+
+    private static String subjectId(int p, int sem, int j) {
+        return semesterId(p, sem) + "-sub-" + j;
+    }
+
+    private static String assignmentId(int p, int sem, int j, int a) {
+        return subjectId(p, sem, j) + "-asg-" + a;
+    }
+
+    public static void main(String[] args) {
+        GeneratorSettings settings = new GeneratorSettings();
+        try {
+            for (String arg : args) {
+                if (arg.equals("--help") || arg.equals("-h")) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                apply(settings, arg);
+            }
+            settings.validate();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        System.out.printf("Generating %,d students, %,d faculty and %d year(s) of attendance (seed %d, until %s)%n",
+                settings.getStudentCount(), settings.getFacultyCount(), settings.getAttendanceYears(),
+                settings.getSeed(), settings.getUntil());
+        // One connection is held for the whole load, which is not a leak
+        System.getProperties().putIfAbsent("fms.pool.leakDetectionThresholdMillis", "0");
+        int status = 0;
+        try (Connection conn = DatabaseConnectionManager.getConnection()) {
+            DatabaseSeeder.initSchema(conn);
+            if (alreadyGenerated(conn)) {
+                System.err.println("Synthetic data is already present; drop the " + ID_PREFIX
+                        + "* rows or use a fresh database.");
+                status = 1;
+            } else {
+                long start = System.nanoTime();
+                Map<String, Long> rows = new SyntheticDataGenerator(settings).generate(conn);
+                long total = rows.values().stream().mapToLong(Long::longValue).sum();
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                System.out.printf("Wrote %,d rows in %.1f s (%,.0f rows/s)%n", total, seconds, total / seconds);
+            }
+        } catch (SQLException e) {
+            System.err.println("Could not generate synthetic data.");
+            e.printStackTrace();
+            status = 1;
+        } finally {
+            DatabaseConnectionManager.shutdown();
+        }
+        System.exit(status);
+    }
+
+    private static boolean alreadyGenerated(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM departments WHERE id = ?")) {
+            stmt.setString(1, DEPARTMENT_ID);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    private static void apply(GeneratorSettings settings, String arg) {
+        int eq = arg.indexOf('=');
+        if (!arg.startsWith("--") || eq < 0) {
+            throw new IllegalArgumentException("Expected --name=value, got " + arg);
+        }
+        String name = arg.substring(2, eq);
+        String value = arg.substring(eq + 1);
+        switch (name) {
+            case "programs":
+                settings.setPrograms(number(name, value));
+                break;
+            case "sections":
+                settings.setSectionsPerSemester(number(name, value));
+                break;
+            case "students-per-section":
+                settings.setStudentsPerSection(number(name, value));
+                break;
+            case "subjects-per-semester":
+                settings.setSubjectsPerSemester(number(name, value));
+                break;
+            case "subjects-per-faculty":
+                settings.setSubjectsPerFaculty(number(name, value));
+                break;
+            case "attendance-years":
+                settings.setAttendanceYears(number(name, value));
+                break;
+            case "results-per-term":
+                settings.setResultsPerTerm(number(name, value));
+                break;
+            case "assignments-per-subject":
+                settings.setAssignmentsPerSubject(number(name, value));
+                break;
+            case "submissions-per-assignment":
+                settings.setSubmissionsPerAssignment(number(name, value));
+                break;
+            case "seed":
+                try {
+                    settings.setSeed(Long.parseLong(value));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("seed must be a number, got " + value);
+                }
+                break;
+            case "until":
+                settings.setUntil(LocalDate.parse(value));
+                break;
+            case "rows-per-statement":
+                settings.setRowsPerStatement(number(name, value));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+
+    private static int number(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " must be a whole number, got " + value);
+        }
+    }
+}
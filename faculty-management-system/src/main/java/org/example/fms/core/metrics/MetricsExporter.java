@@ -0,0 +1,177 @@
+package org.example.fms.core.metrics;
+
+import org.example.fms.core.api.handler.HandlerMetrics;
+import org.example.fms.core.api.handler.HandlerRegistry;
+import org.example.fms.core.audit.AuditLogger;
+import org.example.fms.core.cache.ReferenceDataCache;
+import org.example.fms.core.database.DatabaseConnectionManager;
+import org.example.fms.core.database.pool.PoolMetrics;
+import org.example.fms.core.security.PasswordHasher;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+
+/**
+ * Collects every metric the server keeps into one Prometheus scrape: HTTP
+ * routes, dashboard handlers, the connection pool and gate, caches, the BCrypt
+ * executor, the audit writer and the JVM.
+ *
+ * Reading is done only here, on scrape; the recording side stays a matter of
+ * lock-free counters and histograms owned by each component.
+ */
+public class MetricsExporter {
+
+    public static String scrape() {
+        PrometheusFormat out = new PrometheusFormat();
+        writeHttp(out);
+        writeHandlers(out);
+        writeDatabase(out);
+        writeCaches(out);
+        writePasswordHasher(out);
+        writeAudit(out);
+        writeJvm(out);
+        return out.render();
+    }
+
+    private static void writeHttp(PrometheusFormat out) {
+        for (RouteMetrics route : RequestMetrics.getRoutes()) {
+            String[] labels = { "route", route.getRoute(), "type", route.getType(), "method", route.getMethod() };
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                long count = route.getCount(statusClass);
+                if (count > 0) {
+                    out.counter("fms_http_requests_total", "HTTP requests by route, type, method and status class",
+                            count, "route", route.getRoute(), "type", route.getType(), "method", route.getMethod(),
+                            "status", statusClass + "xx");
+                }
+            }
+            out.counter("fms_http_request_errors_total", "HTTP requests that failed with a 5xx or an exception",
+                    route.getErrors(), labels);
+            out.histogram("fms_http_request_duration_seconds", "Time from filter entry to response completion",
+                    route.getLatency(), labels);
+        }
+    }
+
+    private static void writeHandlers(PrometheusFormat out) {
+        HandlerRegistry registry = HandlerRegistry.getDefault();
+        writeHandlers(out, "list", registry.getListMetrics());
+        writeHandlers(out, "write", registry.getWriteMetrics());
+    }
+
+    private static void writeHandlers(PrometheusFormat out, String kind, Map<String, HandlerMetrics> metrics) {
+        for (Map.Entry<String, HandlerMetrics> entry : metrics.entrySet()) {
+            HandlerMetrics handler = entry.getValue();
+            String[] labels = { "kind", kind, "type", entry.getKey() };
+            out.histogram("fms_handler_duration_seconds", "Dashboard handler query and write time",
+                    handler.getLatency(), labels);
+            out.counter("fms_handler_rows_total", "Rows streamed or written by dashboard handlers",
+                    handler.getRows(), labels);
+            out.counter("fms_handler_errors_total", "Dashboard handler calls that failed", handler.getErrors(),
+                    labels);
+            out.counter("fms_handler_denied_total", "Dashboard handler calls refused for the caller's role",
+                    handler.getDenied(), labels);
+        }
+    }
+
+    private static void writeDatabase(PrometheusFormat out) {
+        PoolMetrics pool = DatabaseConnectionManager.getPoolMetrics();
+        out.gauge("fms_db_pool_connections", "Pooled connections by state", pool.getActive(), "state", "active");
+        out.gauge("fms_db_pool_connections", "Pooled connections by state", pool.getIdle(), "state", "idle");
+        out.gauge("fms_db_pool_max_connections", "Configured pool size", pool.getMaxSize());
+        out.gauge("fms_db_pool_waiters", "Threads waiting for a pooled connection", pool.getWaiters());
+        out.counter("fms_db_pool_created_total", "Physical connections opened", pool.getCreated());
+        out.counter("fms_db_pool_destroyed_total", "Physical connections closed", pool.getDestroyed());
+        out.counter("fms_db_pool_timeouts_total", "Borrows that timed out", pool.getTimeouts());
+        out.counter("fms_db_pool_validation_failures_total", "Idle connections found dead on borrow",
+                pool.getValidationFailures());
+        out.counter("fms_db_pool_leaks_total", "Connections held past the leak threshold",
+                pool.getLeaksDetected());
+        out.histogram("fms_db_acquire_duration_seconds", "Time spent borrowing a pooled connection",
+                pool.getAcquireLatencyBuckets(), micros(pool.getAcquireLatency()));
+        out.histogram("fms_db_execute_duration_seconds", "Time spent in JDBC execute calls",
+                pool.getExecuteLatencyBuckets(), micros(pool.getExecuteLatency()));
+        out.counter("fms_db_rows_affected_total", "Update counts returned by JDBC execute calls",
+                pool.getRowsAffected());
+
+        Map<String, Object> gate = DatabaseConnectionManager.getGateStats();
+        if (gate != null) {
+            out.gauge("fms_db_gate_in_use", "Database permits held", number(gate, "inUse"));
+            out.gauge("fms_db_gate_waiting", "Threads waiting for a database permit", number(gate, "waiting"));
+            out.counter("fms_db_gate_timeouts_total", "Database permit waits that timed out",
+                    number(gate, "timeouts"));
+        }
+    }
+
+    private static void writeCaches(PrometheusFormat out) {
+        Map<String, Object> stats = ReferenceDataCache.getStats();
+        String cache = String.valueOf(stats.get("name"));
+        out.gauge("fms_cache_entries", "Entries held by a server-side cache", number(stats, "size"), "cache", cache);
+        out.counter("fms_cache_hits_total", "Cache lookups served from memory", number(stats, "hits"),
+                "cache", cache);
+        out.counter("fms_cache_misses_total", "Cache lookups that loaded the value", number(stats, "misses"),
+                "cache", cache);
+        out.counter("fms_cache_evictions_total", "Entries dropped for space", number(stats, "evictions"),
+                "cache", cache);
+        out.counter("fms_cache_invalidations_total", "Entries dropped after a write",
+                number(stats, "invalidations"), "cache", cache);
+    }
+
+    private static void writePasswordHasher(PrometheusFormat out) {
+        Map<String, Object> stats = PasswordHasher.getStats();
+        out.gauge("fms_bcrypt_active", "BCrypt tasks running", number(stats, "active"));
+        out.gauge("fms_bcrypt_queued", "BCrypt tasks waiting for a thread", number(stats, "queued"));
+        out.counter("fms_bcrypt_completed_total", "BCrypt tasks finished", number(stats, "completed"));
+        out.counter("fms_bcrypt_rejected_total", "BCrypt tasks refused because the queue was full",
+                number(stats, "rejected"));
+    }
+
+    private static void writeAudit(PrometheusFormat out) {
+        Map<String, Object> stats = AuditLogger.getStats();
+        out.gauge("fms_audit_wal_segments", "Audit log segments on disk", number(stats, "segments"));
+        out.counter("fms_audit_submitted_total", "Audit records accepted", number(stats, "submitted"));
+        out.counter("fms_audit_written_total", "Audit records written to the database", number(stats, "written"));
+        out.counter("fms_audit_failed_batches_total", "Audit batches that failed and were retried",
+                number(stats, "failedBatches"));
+        out.counter("fms_audit_dropped_total", "Audit records dropped because the log was full",
+                number(stats, "dropped"));
+    }
+
+    private static void writeJvm(PrometheusFormat out) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        out.gauge("fms_jvm_memory_used_bytes", "Used JVM memory", heap.getUsed(), "area", "heap");
+        out.gauge("fms_jvm_memory_used_bytes", "Used JVM memory", nonHeap.getUsed(), "area", "nonheap");
+        out.gauge("fms_jvm_memory_committed_bytes", "Committed JVM memory", heap.getCommitted(), "area", "heap");
+        out.gauge("fms_jvm_memory_committed_bytes", "Committed JVM memory", nonHeap.getCommitted(),
+                "area", "nonheap");
+        out.gauge("fms_jvm_memory_max_bytes", "Maximum heap size, -1 if undefined", heap.getMax(), "area", "heap");
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        out.gauge("fms_jvm_threads", "Live platform threads", threads.getThreadCount(), "kind", "live");
+        out.gauge("fms_jvm_threads", "Live platform threads", threads.getDaemonThreadCount(), "kind", "daemon");
+        out.gauge("fms_jvm_threads", "Live platform threads", threads.getPeakThreadCount(), "kind", "peak");
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            out.counter("fms_jvm_gc_collections_total", "Garbage collections", Math.max(0, gc.getCollectionCount()),
+                    "gc", gc.getName());
+            out.counter("fms_jvm_gc_pause_seconds_total", "Time spent in garbage collection",
+                    Math.max(0, gc.getCollectionTime()) / 1000.0, "gc", gc.getName());
+        }
+
+        out.gauge("fms_jvm_uptime_seconds", "JVM uptime", ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+        out.gauge("fms_system_load_average", "One-minute system load average, -1 if unavailable",
+                ManagementFactory.getOperatingSystemMXBean().getSystemLoadAverage());
+        out.gauge("fms_system_cpus", "Processors available to the JVM", Runtime.getRuntime().availableProcessors());
+    }
+
+    private static long micros(Map<String, Object> summary) {
+        return number(summary, "sumMicros");
+    }
+
+    private static long number(Map<String, Object> stats, String key) {
+        Object value = stats.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
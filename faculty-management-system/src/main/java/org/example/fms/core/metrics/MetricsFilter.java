@@ -0,0 +1,110 @@
+package org.example.fms.core.metrics;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Times every request and counts it by route, dashboard type, method and
+ * status class. Registered ahead of AuthFilter so rejected requests are
+ * counted too. Asynchronous requests (login) are recorded when they complete.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class MetricsFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse res = (HttpServletResponse) response;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new CompletionListener(req, res, start));
+            } else {
+                record(req, res, start, failed);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+    private static void record(HttpServletRequest req, HttpServletResponse res, long start, boolean failed) {
+        Object type = req.getAttribute(RequestMetrics.TYPE_ATTRIBUTE);
+        RequestMetrics.forRoute(route(req), type != null ? type.toString() : "", method(req))
+                .record(System.nanoTime() - start, res.getStatus(), failed);
+    }
+
+    private static String route(HttpServletRequest req) {
+        HttpServletMapping mapping = req.getHttpServletMapping();
+        if (mapping == null || mapping.getMappingMatch() == null || mapping.getPattern().isEmpty()) {
+            return "unmatched";
+        }
+        return mapping.getPattern();
+    }
+
+    private static String method(HttpServletRequest req) {
+        switch (req.getMethod()) {
+            case "GET":
+            case "POST":
+            case "PUT":
+            case "PATCH":
+            case "DELETE":
+            case "HEAD":
+            case "OPTIONS":
+                return req.getMethod();
+            default:
+                return "OTHER";
+        }
+    }
+
+    private static final class CompletionListener implements AsyncListener {
+        private final HttpServletRequest req;
+        private final HttpServletResponse res;
+        private final long start;
+
+        CompletionListener(HttpServletRequest req, HttpServletResponse res, long start) {
+            this.req = req;
+            this.res = res;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            record(req, res, start, false);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.fms.core.metrics;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a scrape in the Prometheus text exposition format (version 0.0.4).
+ *
+ * Samples may be added in any order; they are grouped by metric family when
+ * rendered, since the format wants every family's samples together under one
+ * HELP and TYPE line. Latencies are recorded in microseconds and exported in
+ * seconds, as Prometheus conventions ask.
+ */
+public class PrometheusFormat {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final class Family {
+        final String type;
+        final String help;
+        final List<String> samples = new ArrayList<>();
+
+        Family(String type, String help) {
+            this.type = type;
+            this.help = help;
+        }
+    }
+
+    private final Map<String, Family> families = new LinkedHashMap<>();
+
+    public PrometheusFormat counter(String name, String help, double value, String... labels) {
+        family(name, "counter", help).samples.add(sample(name, labels, value));
+        return this;
+    }
+
+    public PrometheusFormat gauge(String name, String help, double value, String... labels) {
+        family(name, "gauge", help).samples.add(sample(name, labels, value));
+        return this;
+    }
+
+    public PrometheusFormat histogram(String name, String help, LatencyHistogram histogram, String... labels) {
+        return histogram(name, help, histogram.cumulativeBuckets(), histogram.getSumMicros(), labels);
+    }
+
+    /**
+     * Adds one histogram series from cumulative counts keyed by upper bound in
+     * microseconds ("+Inf" last), as {@link LatencyHistogram#cumulativeBuckets}
+     * returns them.
+     */
+    public PrometheusFormat histogram(String name, String help, Map<String, Long> cumulativeBucketsMicros,
+            long sumMicros, String... labels) {
+        Family family = family(name, "histogram", help);
+        long count = 0;
+        for (Map.Entry<String, Long> bucket : cumulativeBucketsMicros.entrySet()) {
+            String le = bucket.getKey().equals("+Inf") ? "+Inf" : seconds(Long.parseLong(bucket.getKey()));
+            family.samples.add(sample(name + "_bucket", withLabel(labels, "le", le), bucket.getValue()));
+            count = bucket.getValue();
+        }
+        family.samples.add(sample(name + "_sum", labels, sumMicros / 1_000_000.0));
+        family.samples.add(sample(name + "_count", labels, count));
+        return this;
+    }
+
+    public String render() {
+        StringBuilder out = new StringBuilder(8192);
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            Family family = entry.getValue();
+            out.append("# HELP ").append(entry.getKey()).append(' ').append(escapeHelp(family.help)).append('\n');
+            out.append("# TYPE ").append(entry.getKey()).append(' ').append(family.type).append('\n');
+            for (String sample : family.samples) {
+                out.append(sample).append('\n');
+            }
+        }
+        return out.toString();
+    }
+
+    private Family family(String name, String type, String help) {
+        Family family = families.computeIfAbsent(name, n -> new Family(type, help));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException(name + " is already registered as a " + family.type);
+        }
+        return family;
+    }
+
+    /**
+     * @param labels alternating label names and values
+     */
+    private static String sample(String name, String[] labels, double value) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be name/value pairs");
+        }
+        StringBuilder line = new StringBuilder(name);
+        if (labels.length > 0) {
+            line.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                line.append(labels[i]).append("=\"").append(escapeLabel(labels[i + 1])).append('"');
+            }
+            line.append('}');
+        }
+        return line.append(' ').append(number(value)).toString();
+    }
+
+    private static String[] withLabel(String[] labels, String name, String value) {
+        String[] result = new String[labels.length + 2];
+        System.arraycopy(labels, 0, result, 0, labels.length);
+        result[labels.length] = name;
+        result[labels.length + 1] = value;
+        return result;
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static String seconds(long micros) {
+        return BigDecimal.valueOf(micros).movePointLeft(6).stripTrailingZeros().toPlainString();
+    }
+
+    private static String escapeLabel(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String value) {
+        return value.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.fms.core.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-route request metrics, filled in by {@link MetricsFilter}.
+ *
+ * Routes are servlet mapping patterns, not raw URIs, and the dashboard type is
+ * only set by the servlet once it has resolved a known handler, so the number
+ * of series stays small. A hard cap guards against anything that slips
+ * through: past it, new combinations are counted under route "other".
+ */
+public class RequestMetrics {
+
+    static final String TYPE_ATTRIBUTE = RequestMetrics.class.getName() + ".type";
+
+    private static final int MAX_SERIES = 512;
+    private static final ConcurrentHashMap<String, RouteMetrics> ROUTES = new ConcurrentHashMap<>();
+    private static final RouteMetrics OVERFLOW = new RouteMetrics("other", "", "OTHER");
+
+    /**
+     * Labels the current request with a dashboard data type. Call it only for
+     * types the server knows.
+     */
+    public static void setType(HttpServletRequest req, String type) {
+        req.setAttribute(TYPE_ATTRIBUTE, type);
+    }
+
+    /**
+     * The counters for a route, type and method, created on first use.
+     */
+    public static RouteMetrics forRoute(String route, String type, String method) {
+        String key = method + ' ' + route + '?' + type;
+        RouteMetrics metrics = ROUTES.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (ROUTES.size() >= MAX_SERIES) {
+            return OVERFLOW;
+        }
+        return ROUTES.computeIfAbsent(key, k -> new RouteMetrics(route, type, method));
+    }
+
+    /**
+     * Every series recorded so far, including the overflow series once used.
+     */
+    public static Collection<RouteMetrics> getRoutes() {
+        if (OVERFLOW.getLatency().getCount() == 0) {
+            return Collections.unmodifiableCollection(ROUTES.values());
+        }
+        List<RouteMetrics> all = new ArrayList<>(ROUTES.values());
+        all.add(OVERFLOW);
+        return all;
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.fms.core.metrics;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request counters for one route, dashboard type and HTTP method, recorded
+ * without locking.
+ */
+public final class RouteMetrics {
+
+    private final String route;
+    private final String type;
+    private final String method;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder[] statusClasses = new LongAdder[5]; // 1xx .. 5xx
+    private final LongAdder errors = new LongAdder();
+
+    RouteMetrics(String route, String type, String method) {
+        this.route = route;
+        this.type = type;
+        this.method = method;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records one finished request.
+     *
+     * @param failed whether the request ended with an exception instead of a
+     *               response; counted as a 500
+     */
+    public void record(long nanos, int status, boolean failed) {
+        latency.recordNanos(nanos);
+        int statusClass = failed ? 5 : status / 100;
+        if (statusClass >= 1 && statusClass <= 5) {
+            statusClasses[statusClass - 1].increment();
+        }
+        if (failed || status >= 500) {
+            errors.increment();
+        }
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    /**
+     * Requests answered with the given status class (1 for 1xx ... 5 for 5xx).
+     */
+    public long getCount(int statusClass) {
+        return statusClasses[statusClass - 1].sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.servlet.ServletResponse;
 import jakarta.servlet.annotation.WebFilter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.config.FmsConfig;
 import org.example.fms.core.util.ResponseUtil;
 
 import java.io.IOException;
@@ -18,9 +19,13 @@ import java.io.IOException;
 /**
  * Protects all API routes by requiring a valid JWT in the Authorization header.
  */
-@WebFilter("/api/v1/*")
+@WebFilter(urlPatterns = "/api/v1/*", asyncSupported = true)
 public class AuthFilter implements Filter {
 
+    private static final int CLAIMS_CACHE_SIZE = FmsConfig.get().getClaimsCacheMaxEntries();
+
+    private final VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(CLAIMS_CACHE_SIZE);
+
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
     }
@@ -51,8 +56,13 @@ public class AuthFilter implements Filter {
         String token = authHeader.substring(7);
 
         try {
-            // 3. Validate Token
-            Claims claims = JwtUtil.validateTokenAndGetClaims(token);
+            // 3. Validate Token (signature checks are skipped for tokens already
+            // verified and not yet expired)
+            Claims claims = claimsCache.get(token);
+            if (claims == null) {
+                claims = JwtUtil.validateTokenAndGetClaims(token);
+                claimsCache.put(token, claims);
+            }
 
             // 4. Set user info in request attributes for downstream servlets to use for
             // specific RBAC checks
@@ -2,9 +2,11 @@ package org.example.fms.core.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.example.fms.core.config.FmsConfig;
 
 import java.security.Key;
 import java.util.Date;
@@ -18,7 +20,13 @@ public class JwtUtil {
     // variables.
     // Keys.secretKeyFor(SignatureAlgorithm.HS256) generates a secure random key.
     private static final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
-    private static final long EXPIRATION_TIME_MILLIS = 3600000; // 1 hour
+    private static final long EXPIRATION_TIME_MILLIS = FmsConfig.get().getJwtExpirationMillis();
+
+    // Built once: the parser is immutable and thread-safe, so there is no need to
+    // rebuild it (and re-inspect the key) on every request
+    private static final JwtParser PARSER = Jwts.parserBuilder()
+            .setSigningKey(SECRET_KEY)
+            .build();
 
     /**
      * Generates a JWT given a user ID and role.
@@ -49,10 +57,6 @@ public class JwtUtil {
      * @throws JwtException if the token is invalid or expired.
      */
     public static Claims validateTokenAndGetClaims(String token) throws JwtException {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return PARSER.parseClaimsJws(token).getBody();
     }
 }
@@ -1,6 +1,9 @@
 package org.example.fms.core.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
@@ -15,13 +18,21 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Handles user authentication and JWT token generation.
+ * The BCrypt check runs asynchronously on {@link PasswordHasher}'s executor;
+ * when its queue is full the login is rejected at once with 503 and a
+ * Retry-After header.
  */
-@WebServlet("/api/v1/auth/login")
+@WebServlet(urlPatterns = "/api/v1/auth/login", asyncSupported = true)
 public class LoginServlet extends HttpServlet {
 
+    private static final long ASYNC_TIMEOUT_MILLIS = 10_000;
+
     private final ObjectMapper mapper = new ObjectMapper();
 
     @Override
@@ -38,7 +49,12 @@ public class LoginServlet extends HttpServlet {
                 return;
             }
 
-            // Authenticate user against DB
+            // Look up the account. The connection goes back to the pool before the
+            // slow BCrypt check starts.
+            String userId = null;
+            String role = null;
+            String hash = null;
+            boolean isActive = false;
             try (Connection conn = DatabaseConnectionManager.getConnection()) {
                 String query = "SELECT u.id, u.password_hash, u.is_active, r.role " +
                         "FROM users u " +
@@ -49,37 +65,94 @@ public class LoginServlet extends HttpServlet {
                     stmt.setString(1, email);
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            boolean isActive = rs.getBoolean("is_active");
-                            if (!isActive) {
-                                ResponseUtil.sendForbidden(resp, "Account is disabled");
-                                return;
-                            }
-
-                            String hash = rs.getString("password_hash");
-                            if (PasswordUtil.checkPassword(password, hash)) {
-                                String userId = rs.getString("id");
-                                String role = rs.getString("role");
-
-                                // Generate JWT
-                                String token = JwtUtil.generateToken(userId, role);
-
-                                // Return successful response with token
-                                Map<String, Object> data = new HashMap<>();
-                                data.put("token", token);
-                                data.put("role", role);
-                                data.put("userId", userId);
-
-                                ResponseUtil.sendOk(resp, data);
-                                // Optional: Update last_login_at here (omitted for brevity)
-                                return;
-                            }
+                            userId = rs.getString("id");
+                            role = rs.getString("role");
+                            hash = rs.getString("password_hash");
+                            isActive = rs.getBoolean("is_active");
                         }
                     }
                 }
             }
 
-            // If we reach here, authentication failed
-            ResponseUtil.sendUnauthorized(resp, "Invalid email or password");
+            if (userId == null) {
+                ResponseUtil.sendUnauthorized(resp, "Invalid email or password");
+                return;
+            }
+            if (!isActive) {
+                ResponseUtil.sendForbidden(resp, "Account is disabled");
+                return;
+            }
+
+            // Verify the password on the BCrypt executor and release this request
+            // thread while it runs
+            CompletableFuture<Boolean> check;
+            try {
+                check = PasswordHasher.checkPasswordAsync(password, hash);
+            } catch (RejectedExecutionException e) {
+                ResponseUtil.sendServiceUnavailable(resp, "Too many login attempts in progress, please retry",
+                        PasswordHasher.estimatedBacklogSeconds());
+                return;
+            }
+
+            AsyncContext async = req.startAsync();
+            async.setTimeout(ASYNC_TIMEOUT_MILLIS);
+            AtomicBoolean responded = new AtomicBoolean();
+            async.addListener(new AsyncListener() {
+                @Override
+                public void onTimeout(AsyncEvent event) throws IOException {
+                    if (responded.compareAndSet(false, true)) {
+                        ResponseUtil.sendServiceUnavailable((HttpServletResponse) async.getResponse(),
+                                "Login timed out, please retry", PasswordHasher.estimatedBacklogSeconds());
+                        async.complete();
+                    }
+                }
+
+                @Override
+                public void onComplete(AsyncEvent event) {
+                }
+
+                @Override
+                public void onError(AsyncEvent event) {
+                }
+
+                @Override
+                public void onStartAsync(AsyncEvent event) {
+                }
+            });
+
+            String authenticatedUserId = userId;
+            String authenticatedRole = role;
+            check.whenComplete((matches, error) -> {
+                if (!responded.compareAndSet(false, true)) {
+                    return;
+                }
+                HttpServletResponse asyncResp = (HttpServletResponse) async.getResponse();
+                try {
+                    if (error != null) {
+                        error.printStackTrace();
+                        ResponseUtil.sendError(asyncResp, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                                "INTERNAL_ERROR", "Login process failed");
+                    } else if (matches) {
+                        // Generate JWT
+                        String token = JwtUtil.generateToken(authenticatedUserId, authenticatedRole);
+
+                        // Return successful response with token
+                        Map<String, Object> data = new HashMap<>();
+                        data.put("token", token);
+                        data.put("role", authenticatedRole);
+                        data.put("userId", authenticatedUserId);
+
+                        ResponseUtil.sendOk(asyncResp, data);
+                        // Optional: Update last_login_at here (omitted for brevity)
+                    } else {
+                        ResponseUtil.sendUnauthorized(asyncResp, "Invalid email or password");
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    async.complete();
+                }
+            });
 
         } catch (Exception e) {
             e.printStackTrace();
@@ -0,0 +1,117 @@
+package org.example.fms.core.security;
+
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, core-count-sized
+ * executor with a bounded queue.
+ *
+ * A BCrypt check at work factor 12 burns about 250 ms of CPU. Running it on
+ * Tomcat request threads lets a burst of logins occupy every worker; here at
+ * most one check per core runs at a time and excess work is rejected with a
+ * {@link RejectedExecutionException} so callers can shed load with a 503
+ * instead of queueing without bound.
+ */
+public class PasswordHasher {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int QUEUE_CAPACITY = THREADS * 8;
+
+    private static final ThreadPoolExecutor EXECUTOR;
+    private static final LatencyHistogram HASH_LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram QUEUE_WAIT = new LatencyHistogram();
+    private static final AtomicLong REJECTED = new AtomicLong();
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), r -> {
+                    Thread t = new Thread(r, "fms-bcrypt-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Verifies a password off the calling thread.
+     *
+     * @throws RejectedExecutionException if the verification queue is full
+     */
+    public static CompletableFuture<Boolean> checkPasswordAsync(String plainTextPassword, String hashedPassword) {
+        return submit(() -> PasswordUtil.checkPassword(plainTextPassword, hashedPassword));
+    }
+
+    /**
+     * Hashes a password on the BCrypt executor and waits for the result, so
+     * concurrent registrations share the same CPU budget as logins.
+     *
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public static String hashPassword(String plainTextPassword) {
+        try {
+            return submit(() -> PasswordUtil.hashPassword(plainTextPassword)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Rough number of seconds until the current backlog drains, for
+     * Retry-After headers. Never less than 1.
+     */
+    public static int estimatedBacklogSeconds() {
+        long count = HASH_LATENCY.getCount();
+        long meanMicros = count == 0 ? 250_000 : HASH_LATENCY.getSumMicros() / count;
+        long backlogMicros = (EXECUTOR.getQueue().size() + EXECUTOR.getActiveCount()) * meanMicros / THREADS;
+        return (int) Math.max(1, (backlogMicros + 999_999) / 1_000_000);
+    }
+
+    /**
+     * Executor usage and latency, for diagnostics.
+     */
+    public static Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("threads", THREADS);
+        stats.put("active", EXECUTOR.getActiveCount());
+        stats.put("queued", EXECUTOR.getQueue().size());
+        stats.put("queueCapacity", QUEUE_CAPACITY);
+        stats.put("completed", EXECUTOR.getCompletedTaskCount());
+        stats.put("rejected", REJECTED.get());
+        stats.put("hashLatency", HASH_LATENCY.summary());
+        stats.put("queueWait", QUEUE_WAIT.summary());
+        return stats;
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                long startedAt = System.nanoTime();
+                QUEUE_WAIT.recordNanos(startedAt - queuedAt);
+                try {
+                    return work.get();
+                } finally {
+                    HASH_LATENCY.recordNanos(System.nanoTime() - startedAt);
+                }
+            }, EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            REJECTED.incrementAndGet();
+            throw e;
+        }
+    }
+}
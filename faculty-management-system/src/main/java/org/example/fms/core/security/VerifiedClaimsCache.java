@@ -0,0 +1,113 @@
+package org.example.fms.core.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of claims from tokens whose signature has already been
+ * verified, so repeated calls with the same bearer token skip HMAC
+ * verification and JSON parsing.
+ *
+ * Entries are keyed by a SHA-256 digest of the token rather than the token
+ * itself, and are only returned while the token's exp claim is in the future.
+ * Tokens without an expiry are never cached. Cached Claims are shared between
+ * requests and must be treated as read-only.
+ */
+public class VerifiedClaimsCache {
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
+    private static final class Entry {
+        final Claims claims;
+        final long expiresAtMillis;
+
+        Entry(Claims claims, long expiresAtMillis) {
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+
+    private final Map<String, Entry> entries; // guarded by itself
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VerifiedClaimsCache(int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached claims for the token, or null if it has not been
+     * verified yet or has expired since.
+     */
+    public Claims get(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && now < entry.expiresAtMillis) {
+                hits.incrementAndGet();
+                return entry.claims;
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * Remembers claims of a token that has just passed signature verification.
+     */
+    public void put(String token, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, new Entry(claims, expiration.getTime()));
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+}
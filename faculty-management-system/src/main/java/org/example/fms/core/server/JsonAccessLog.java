@@ -0,0 +1,201 @@
+package org.example.fms.core.server;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.ServletException;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Access log written as one JSON object per line, with the request ID and the
+ * time split into database, connection wait and serialization.
+ *
+ * Installed as a valve on the context, so Tomcat calls {@link #log} once the
+ * response is complete, including for async requests and for requests
+ * rejected before any filter ran. The line is formatted on the request thread
+ * and handed to a background writer; when the queue is full lines are
+ * dropped and counted rather than slowing requests down.
+ */
+public class JsonAccessLog extends ValveBase implements AccessLog {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final long FLUSH_IDLE_MILLIS = 200;
+
+    private final Path file;
+    private final BlockingQueue<String> queue;
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean requestAttributesEnabled;
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public JsonAccessLog(Path file, int queueCapacity) {
+        super(true);
+        this.file = file;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        getNext().invoke(request, response);
+    }
+
+    @Override
+    public void log(Request request, Response response, long time) {
+        if (!running) {
+            return;
+        }
+        String line;
+        try {
+            line = format(request, response, time);
+        } catch (IOException e) {
+            return; // Only a StringWriter is involved; cannot happen
+        }
+        if (!queue.offer(line)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void setRequestAttributesEnabled(boolean requestAttributesEnabled) {
+        this.requestAttributesEnabled = requestAttributesEnabled;
+    }
+
+    @Override
+    public boolean getRequestAttributesEnabled() {
+        return requestAttributesEnabled;
+    }
+
+    /**
+     * Lines written and dropped so far, for diagnostics.
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("file", file.toString());
+        stats.put("queued", queue.size());
+        stats.put("written", written.get());
+        stats.put("dropped", dropped.get());
+        return stats;
+    }
+
+    @Override
+    protected synchronized void startInternal() throws LifecycleException {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+        } catch (IOException e) {
+            throw new LifecycleException("Could not create access log directory for " + file, e);
+        }
+        running = true;
+        writerThread = new Thread(this::drain, "fms-access-log");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        super.startInternal();
+    }
+
+    @Override
+    protected synchronized void stopInternal() throws LifecycleException {
+        super.stopInternal();
+        running = false;
+        if (writerThread != null) {
+            writerThread.interrupt();
+            try {
+                writerThread.join(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    /**
+     * Tomcat 10 passes the processing time in nanoseconds.
+     */
+    String format(Request request, Response response, long timeNanos) throws IOException {
+        StringWriter buffer = new StringWriter(256);
+        try (JsonGenerator gen = FACTORY.createGenerator(buffer)) {
+            gen.writeStartObject();
+            gen.writeStringField("ts", Instant.now().toString());
+            RequestContext context = (RequestContext) request.getAttribute(RequestContext.ATTRIBUTE);
+            gen.writeStringField("request_id", context != null ? context.getRequestId() : null);
+            gen.writeStringField("method", request.getMethod());
+            gen.writeStringField("path", request.getRequestURI());
+            gen.writeStringField("query", request.getQueryString());
+            gen.writeNumberField("status", response.getStatus());
+            gen.writeNumberField("bytes", response.getCoyoteResponse().getBytesWritten(false));
+            gen.writeNumberField("total_ms", millis(timeNanos));
+            if (context != null) {
+                gen.writeNumberField("db_ms", millis(context.getDbNanos()));
+                gen.writeNumberField("db_wait_ms", millis(context.getDbWaitNanos()));
+                gen.writeNumberField("db_calls", context.getDbCalls());
+                gen.writeNumberField("serialize_ms", millis(context.getSerializeNanos()));
+            }
+            Object userId = request.getAttribute("userId");
+            gen.writeStringField("user_id", userId != null ? userId.toString() : null);
+            Object role = request.getAttribute("userRole");
+            gen.writeStringField("role", role != null ? role.toString() : null);
+            gen.writeStringField("remote", request.getRemoteAddr());
+            gen.writeEndObject();
+        }
+        return buffer.toString();
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>();
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND)) {
+            while (running || !queue.isEmpty()) {
+                String first;
+                try {
+                    first = queue.poll(FLUSH_IDLE_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    first = null; // Stopping; write out what is left
+                    running = false;
+                }
+                if (first == null) {
+                    out.flush();
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+                for (String line : batch) {
+                    out.write(line);
+                    out.write('\n');
+                }
+                written.addAndGet(batch.size());
+                batch.clear();
+            }
+            out.flush();
+        } catch (IOException e) {
+            running = false;
+            System.err.println("Access log stopped: could not write " + file.toAbsolutePath());
+            e.printStackTrace();
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
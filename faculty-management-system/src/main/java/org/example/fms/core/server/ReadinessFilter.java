@@ -0,0 +1,40 @@
+package org.example.fms.core.server;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.util.ResponseUtil;
+
+import java.io.IOException;
+
+/**
+ * Answers 503 with Retry-After while the {@link ReadinessGate} is closed, so
+ * no request reaches a servlet before the schema is migrated.
+ */
+public class ReadinessFilter implements Filter {
+
+    private static final int RETRY_AFTER_SECONDS = 1;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!ReadinessGate.isReady()) {
+            ResponseUtil.sendServiceUnavailable((HttpServletResponse) response, ReadinessGate.getReason(),
+                    RETRY_AFTER_SECONDS);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    public void destroy() {
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.fms.core.server;
+
+/**
+ * Whether the API may serve requests yet.
+ *
+ * The application starts the HTTP connector before the database is ready, so
+ * the desktop client gets a clear "still starting" answer instead of a
+ * refused connection or a 404. {@link ReadinessFilter} turns requests away
+ * until {@link #markReady()}. The gate is open unless startup closes it, so
+ * servers built elsewhere (the load test harness) are unaffected.
+ */
+public final class ReadinessGate {
+
+    private static volatile boolean ready = true;
+    private static volatile String reason;
+
+    private ReadinessGate() {
+    }
+
+    /**
+     * Closes the gate until startup finishes.
+     */
+    public static void beginStartup() {
+        reason = "The server is still starting up, please wait a moment.";
+        ready = false;
+    }
+
+    public static void markReady() {
+        ready = true;
+    }
+
+    /**
+     * Keeps the gate closed for good, telling clients why.
+     */
+    public static void markFailed(String message) {
+        reason = "The server failed to start: " + message;
+        ready = false;
+    }
+
+    public static boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Why requests are being turned away; only meaningful while not ready.
+     */
+    public static String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,142 @@
+package org.example.fms.core.server;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-request correlation ID and timing breakdown.
+ *
+ * {@link RequestContextFilter} creates one for every request, stores it as a
+ * request attribute and binds it to the handling thread while the filter chain
+ * runs. Code deep in the stack (the connection pool, the JSON writers) adds to
+ * it through the static record methods, which do nothing when no request is
+ * bound, e.g. on background threads. The access log reads the totals once the
+ * response is complete.
+ */
+public final class RequestContext {
+
+    /** Header carrying the request ID, both inbound and outbound. */
+    public static final String HEADER = "X-Request-Id";
+
+    static final String ATTRIBUTE = RequestContext.class.getName();
+
+    private static final int MAX_ID_LENGTH = 64;
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String requestId;
+    private final AtomicLong dbNanos = new AtomicLong();
+    private final AtomicLong dbWaitNanos = new AtomicLong();
+    private final AtomicLong dbCalls = new AtomicLong();
+    private final AtomicLong serializeNanos = new AtomicLong();
+
+    RequestContext(String requestId) {
+        this.requestId = requestId;
+    }
+
+    /**
+     * The context bound to the calling thread, or null outside a request.
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * The request ID of the given request, or null if the request did not pass
+     * through {@link RequestContextFilter}.
+     */
+    public static String idOf(HttpServletRequest request) {
+        Object context = request.getAttribute(ATTRIBUTE);
+        return context instanceof RequestContext ? ((RequestContext) context).requestId : null;
+    }
+
+    /** Time spent waiting for a pooled connection. */
+    public static void recordDbWait(long nanos) {
+        RequestContext context = CURRENT.get();
+        if (context != null) {
+            context.dbWaitNanos.addAndGet(nanos);
+        }
+    }
+
+    /** Time spent in one statement execute call. */
+    public static void recordStatement(long nanos) {
+        RequestContext context = CURRENT.get();
+        if (context != null) {
+            context.dbNanos.addAndGet(nanos);
+            context.dbCalls.incrementAndGet();
+        }
+    }
+
+    /** Time spent pulling rows from a streaming result set. */
+    public static void recordFetch(long nanos) {
+        RequestContext context = CURRENT.get();
+        if (context != null) {
+            context.dbNanos.addAndGet(nanos);
+        }
+    }
+
+    /** Time spent turning data into response bytes. */
+    public static void recordSerialization(long nanos) {
+        RequestContext context = CURRENT.get();
+        if (context != null) {
+            context.serializeNanos.addAndGet(nanos);
+        }
+    }
+
+    public String getRequestId() {
+        return requestId;
+    }
+
+    public long getDbNanos() {
+        return dbNanos.get();
+    }
+
+    public long getDbWaitNanos() {
+        return dbWaitNanos.get();
+    }
+
+    public long getDbCalls() {
+        return dbCalls.get();
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos.get();
+    }
+
+    static RequestContext bind(RequestContext context) {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(context);
+        return previous;
+    }
+
+    static void restore(RequestContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Keeps a caller-supplied ID if it is short and made of safe characters, so
+     * it can be echoed into headers and log lines; otherwise makes a new one.
+     */
+    static String acceptOrCreateId(String supplied) {
+        if (supplied != null && !supplied.isEmpty() && supplied.length() <= MAX_ID_LENGTH) {
+            boolean safe = true;
+            for (int i = 0; i < supplied.length() && safe; i++) {
+                char c = supplied.charAt(i);
+                safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                        || c == '-' || c == '_' || c == '.' || c == ':';
+            }
+            if (safe) {
+                return supplied;
+            }
+        }
+        // Only needs to be unique, not unguessable, so skip SecureRandom
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
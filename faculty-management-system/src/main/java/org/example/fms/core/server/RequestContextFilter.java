@@ -0,0 +1,54 @@
+package org.example.fms.core.server;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.annotation.WebFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Gives every request an ID: the caller's X-Request-Id if it sent a usable
+ * one, a new one otherwise. The ID is echoed in the response header, which is
+ * also where ResponseUtil picks it up for the JSON envelope, so it is
+ * available on async threads too. Must be the first filter.
+ */
+@WebFilter(urlPatterns = "/*", asyncSupported = true)
+public class RequestContextFilter implements Filter {
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest req = (HttpServletRequest) request;
+        HttpServletResponse res = (HttpServletResponse) response;
+
+        RequestContext context = new RequestContext(RequestContext.acceptOrCreateId(
+                req.getHeader(RequestContext.HEADER)));
+        req.setAttribute(RequestContext.ATTRIBUTE, context);
+        res.setHeader(RequestContext.HEADER, context.getRequestId());
+
+        RequestContext previous = RequestContext.bind(context);
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            System.err.println("Request " + context.getRequestId() + " " + req.getMethod() + " "
+                    + req.getRequestURI() + " failed: " + e);
+            throw e;
+        } finally {
+            RequestContext.restore(previous);
+        }
+    }
+
+    @Override
+    public void destroy() {
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.fms.core.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Executors for servlet request handling.
+ *
+ * The build targets Java 17, so virtual threads (Java 21) are reached through
+ * reflection: on a Java 21+ runtime requests can run one virtual thread each;
+ * on older runtimes the caller falls back to Tomcat's platform thread pool.
+ */
+public class RequestExecutors {
+
+    /**
+     * Whether the running JVM supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread, named
+     * fms-vt-N, for every task.
+     *
+     * @return the executor, or null if the JVM has no virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        if (!isVirtualThreadSupported()) {
+            return null;
+        }
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "fms-vt-", 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            Method perTask = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) perTask.invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            System.err.println("Could not create a virtual thread executor: " + e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.fms.core.server;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the startup phases, each as soon as the phases it depends on are
+ * done, so independent ones overlap.
+ *
+ * Critical phases must succeed before the API is ready; {@link #awaitCritical}
+ * waits for them. Background phases (demo data, the holiday refresh) run on
+ * after that and only log their failures. Steps that have to happen on the
+ * calling thread go through {@link #call}. Every phase is timed from the
+ * moment the orchestrator was created, for {@link #timeline()}.
+ */
+public class StartupOrchestrator {
+
+    /** A unit of startup work. */
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    private final long origin = System.nanoTime();
+    private final ExecutorService executor;
+    private final List<Phase> phases = new ArrayList<>();
+
+    /**
+     * @param threads how many phases may run at the same time
+     */
+    public StartupOrchestrator(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "fms-startup-" + threadNumber.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Runs a step on the calling thread and records it in the timeline.
+     */
+    public <T> T call(String name, Callable<T> step) throws Exception {
+        Phase phase = register(name, true);
+        phase.begin();
+        try {
+            T result = step.call();
+            phase.finish(null);
+            return result;
+        } catch (Exception | Error e) {
+            phase.finish(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Schedules a phase the API cannot serve requests without.
+     */
+    public Phase critical(String name, Task task, Phase... after) {
+        return schedule(register(name, true), task, after);
+    }
+
+    /**
+     * Schedules a phase that may finish after the API is ready.
+     */
+    public Phase background(String name, Task task, Phase... after) {
+        return schedule(register(name, false), task, after);
+    }
+
+    /**
+     * Waits for every critical phase.
+     *
+     * @throws IllegalStateException naming the first critical phase that failed
+     *                               or was skipped
+     */
+    public void awaitCritical() throws InterruptedException {
+        List<Phase> critical = new ArrayList<>();
+        for (Phase phase : snapshot()) {
+            if (phase.critical) {
+                critical.add(phase);
+            }
+        }
+        try {
+            CompletableFuture.allOf(critical.stream().map(p -> p.done).toArray(CompletableFuture[]::new))
+                    .exceptionally(e -> null).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); // Cannot happen: failures are handled above
+        }
+        for (Phase phase : critical) {
+            if (phase.failure != null) {
+                throw new IllegalStateException("Startup phase '" + phase.name + "' failed: " + phase.failure,
+                        phase.failure);
+            }
+            if (phase.skipped) {
+                throw new IllegalStateException("Startup phase '" + phase.name + "' could not run");
+            }
+        }
+    }
+
+    /**
+     * Completes when every phase scheduled so far has finished, failed or been
+     * skipped; the worker threads are released then.
+     */
+    public CompletableFuture<Void> whenAllDone() {
+        CompletableFuture<?>[] all = snapshot().stream().map(p -> p.done.exceptionally(e -> null))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(all).whenComplete((ignored, e) -> executor.shutdown());
+    }
+
+    /**
+     * Milliseconds since the orchestrator was created.
+     */
+    public long elapsedMillis() {
+        return (System.nanoTime() - origin) / 1_000_000;
+    }
+
+    /**
+     * One line per phase in the order they started, with start and end
+     * relative to the orchestrator's creation.
+     */
+    public List<String> timeline() {
+        List<Phase> ordered = snapshot();
+        ordered.sort(Comparator.comparingLong(p -> p.startNanos < 0 ? Long.MAX_VALUE : p.startNanos));
+        List<String> lines = new ArrayList<>();
+        for (Phase phase : ordered) {
+            if (phase.skipped) {
+                lines.add(String.format("%-16s skipped, a phase it depends on failed", phase.name));
+            } else if (phase.startNanos < 0) {
+                lines.add(String.format("%-16s not started", phase.name));
+            } else if (phase.endNanos < 0) {
+                lines.add(String.format("%-16s %6d ms ->    ... (running on %s)", phase.name,
+                        millis(phase.startNanos), phase.thread));
+            } else {
+                lines.add(String.format("%-16s %6d ms -> %6d ms  %6d ms  %s%s", phase.name, millis(phase.startNanos),
+                        millis(phase.endNanos), (phase.endNanos - phase.startNanos) / 1_000_000, phase.thread,
+                        phase.failure != null ? "  FAILED: " + phase.failure : ""));
+            }
+        }
+        return lines;
+    }
+
+    private long millis(long nanos) {
+        return (nanos - origin) / 1_000_000;
+    }
+
+    private synchronized Phase register(String name, boolean critical) {
+        Phase phase = new Phase(name, critical);
+        phases.add(phase);
+        return phase;
+    }
+
+    private synchronized List<Phase> snapshot() {
+        return new ArrayList<>(phases);
+    }
+
+    private Phase schedule(Phase phase, Task task, Phase... after) {
+        CompletableFuture<?>[] dependencies = Arrays.stream(after).map(p -> p.done).toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(dependencies).whenCompleteAsync((ignored, dependencyFailure) -> {
+            if (dependencyFailure != null) {
+                phase.skipped = true;
+                phase.done.completeExceptionally(dependencyFailure);
+                return;
+            }
+            phase.begin();
+            try {
+                task.run();
+                phase.finish(null);
+            } catch (Exception | Error e) {
+                if (!phase.critical) {
+                    System.err.println("Background startup phase '" + phase.name + "' failed: " + e);
+                    e.printStackTrace();
+                }
+                phase.finish(e);
+            }
+        }, executor);
+        return phase;
+    }
+
+    /**
+     * A scheduled phase, for other phases to depend on.
+     */
+    public static final class Phase {
+        private final String name;
+        private final boolean critical;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile long startNanos = -1;
+        private volatile long endNanos = -1;
+        private volatile String thread;
+        private volatile Throwable failure;
+        private volatile boolean skipped;
+
+        private Phase(String name, boolean critical) {
+            this.name = name;
+            this.critical = critical;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        private void begin() {
+            thread = Thread.currentThread().getName();
+            startNanos = System.nanoTime();
+        }
+
+        private void finish(Throwable e) {
+            endNanos = System.nanoTime();
+            failure = e;
+            if (e == null) {
+                done.complete(null);
+            } else {
+                done.completeExceptionally(e);
+            }
+        }
+    }
+}
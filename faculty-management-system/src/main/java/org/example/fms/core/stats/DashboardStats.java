@@ -0,0 +1,131 @@
+package org.example.fms.core.stats;
+
+import org.example.fms.core.database.DatabaseConnectionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory dashboard counters (students, staff, notices).
+ *
+ * The counts are loaded from the database on first use and then kept current
+ * by the write paths calling the *Added methods after a successful insert, so
+ * reading them is a memory read. Writes that bypass those paths (seeding,
+ * manual SQL) are picked up by a periodic reconciliation against COUNT(*).
+ * A write that lands while a reconciliation is counting can be missed or
+ * counted twice until the next reconciliation.
+ */
+public class DashboardStats {
+
+    private static final long RECONCILE_INTERVAL_MINUTES = 5;
+
+    private static final AtomicLong STUDENTS = new AtomicLong();
+    private static final AtomicLong STAFF = new AtomicLong();
+    private static final AtomicLong NOTICES = new AtomicLong();
+    private static final AtomicLong RECONCILIATIONS = new AtomicLong();
+    private static final AtomicLong DRIFT_CORRECTIONS = new AtomicLong();
+
+    private static volatile boolean loaded;
+    private static ScheduledExecutorService reconciler; // guarded by class lock
+
+    /**
+     * Returns the current counts, loading them first if needed.
+     *
+     * @throws SQLException if the initial load fails
+     */
+    public static Map<String, Long> snapshot() throws SQLException {
+        if (!loaded) {
+            load();
+        }
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("students", STUDENTS.get());
+        stats.put("staff", STAFF.get());
+        stats.put("notices", NOTICES.get());
+        return stats;
+    }
+
+    public static void studentAdded() {
+        STUDENTS.incrementAndGet();
+    }
+
+    /** For bulk inserts: one update for the whole batch. */
+    public static void studentsAdded(long count) {
+        STUDENTS.addAndGet(count);
+    }
+
+    public static void staffAdded() {
+        STAFF.incrementAndGet();
+    }
+
+    /** For bulk inserts: one update for the whole batch. */
+    public static void staffAdded(long count) {
+        STAFF.addAndGet(count);
+    }
+
+    public static void noticeAdded() {
+        NOTICES.incrementAndGet();
+    }
+
+    /**
+     * Re-counts every table and corrects the in-memory values.
+     */
+    public static void reconcile() throws SQLException {
+        try (Connection conn = DatabaseConnectionManager.getConnection()) {
+            long students = count(conn, "students");
+            long staff = count(conn, "staff");
+            long notices = count(conn, "notices");
+            boolean drifted = STUDENTS.getAndSet(students) != students
+                    | STAFF.getAndSet(staff) != staff
+                    | NOTICES.getAndSet(notices) != notices;
+            if (drifted && loaded) {
+                DRIFT_CORRECTIONS.incrementAndGet();
+            }
+        }
+        RECONCILIATIONS.incrementAndGet();
+    }
+
+    /**
+     * Reconciliation counters, for diagnostics.
+     */
+    public static Map<String, Long> getReconcileStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("reconciliations", RECONCILIATIONS.get());
+        stats.put("driftCorrections", DRIFT_CORRECTIONS.get());
+        return stats;
+    }
+
+    private static synchronized void load() throws SQLException {
+        if (loaded) {
+            return;
+        }
+        reconcile();
+        loaded = true;
+        reconciler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "fms-stats-reconciler");
+            t.setDaemon(true);
+            return t;
+        });
+        reconciler.scheduleWithFixedDelay(() -> {
+            try {
+                reconcile();
+            } catch (Exception e) {
+                System.err.println("Could not reconcile dashboard statistics: " + e.getMessage());
+            }
+        }, RECONCILE_INTERVAL_MINUTES, RECONCILE_INTERVAL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    private static long count(Connection conn, String table) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT COUNT(*) FROM " + table);
+                ResultSet rs = stmt.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.example.fms.core.util;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.server.RequestContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes JDBC result sets to the HTTP response as a JSON array, one row at a
+ * time, without building an intermediate tree or String.
+ * Memory use stays bounded by the generator buffer and the response buffer
+ * regardless of how many rows the query returns.
+ */
+public class JsonStreamWriter {
+
+    /** Size of the servlet response buffer used while streaming. */
+    public static final int BUFFER_SIZE = 8 * 1024;
+
+    // If a row fails mid-stream the array must stay unterminated so clients see
+    // a broken payload rather than a silently truncated but valid list
+    private static final JsonFactory FACTORY = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+    /**
+     * Maps the current row of a result set to a JSON object's fields.
+     * The enclosing start/end object calls are written by the stream writer.
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(ResultSet rs, JsonGenerator gen) throws SQLException, IOException;
+    }
+
+    /**
+     * Streams every remaining row of the result set as a JSON array with status
+     * 200.
+     *
+     * @return the number of rows written
+     */
+    public static int writeArray(HttpServletResponse response, ResultSet rs, RowWriter rowWriter)
+            throws IOException, SQLException {
+        try (JsonGenerator gen = open(response)) {
+            return writeRows(gen, rs, Integer.MAX_VALUE, rowWriter);
+        }
+    }
+
+    /**
+     * Prepares a 200 JSON response and returns a generator writing straight into
+     * its output stream. Closing the generator completes the response.
+     */
+    public static JsonGenerator open(HttpServletResponse response) throws IOException {
+        return open(response, false);
+    }
+
+    /**
+     * Like {@link #open(HttpServletResponse)}, optionally gzip-encoding the body
+     * here rather than leaving it to the connector. Tomcat will not compress a
+     * response that carries a strong ETag, so callers that set one and want a
+     * compressed body (with an ETag of its own) encode it themselves.
+     */
+    public static JsonGenerator open(HttpServletResponse response, boolean gzip) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setBufferSize(BUFFER_SIZE);
+        OutputStream out = response.getOutputStream();
+        if (gzip) {
+            response.setHeader("Content-Encoding", "gzip");
+            out = new GZIPOutputStream(out, BUFFER_SIZE);
+        }
+        return FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Returns a generator writing UTF-8 JSON into any stream, e.g. a buffer for a
+     * response that is rendered once and cached.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return FACTORY.createGenerator(out, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Writes up to maxRows rows as a JSON array. When the limit is reached the
+     * result set is left positioned on the last row written, so the caller can
+     * still read from it.
+     * Time spent in rs.next() is reported to the request context as database
+     * time and the rest as serialization, since a streamed result set fetches
+     * rows from the server as it goes.
+     *
+     * @return the number of rows written
+     */
+    public static int writeRows(JsonGenerator gen, ResultSet rs, int maxRows, RowWriter rowWriter)
+            throws IOException, SQLException {
+        long start = System.nanoTime();
+        long fetchNanos = 0;
+        int rows = 0;
+        try {
+            gen.writeStartArray();
+            while (rows < maxRows) {
+                long fetchStart = System.nanoTime();
+                boolean more = rs.next();
+                fetchNanos += System.nanoTime() - fetchStart;
+                if (!more) {
+                    break;
+                }
+                gen.writeStartObject();
+                rowWriter.write(rs, gen);
+                gen.writeEndObject();
+                rows++;
+            }
+            gen.writeEndArray();
+            return rows;
+        } finally {
+            RequestContext.recordFetch(fetchNanos);
+            RequestContext.recordSerialization(System.nanoTime() - start - fetchNanos);
+        }
+    }
+
+    /**
+     * Returns the value or an empty string, matching the blank-cell convention
+     * the desktop client expects for nullable columns.
+     */
+    public static String orEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
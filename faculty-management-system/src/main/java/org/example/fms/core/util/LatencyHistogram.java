@@ -0,0 +1,112 @@
+package org.example.fms.core.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-bucket latency histogram that can be recorded from many threads
+ * without locking.
+ * Bucket bounds are in microseconds and roughly follow a 1-2.5-5 progression
+ * from 50us up to 10s, with a final overflow bucket.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+            50, 100, 250, 500,
+            1_000, 2_500, 5_000,
+            10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MICROS.length + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+
+    /**
+     * Records a single observation.
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        sumMicros.add(micros);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    /**
+     * Estimates the given percentile (0-100) in microseconds using the upper
+     * bound of the bucket it falls in.
+     */
+    public long percentileMicros(double percentile) {
+        long total = 0;
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * (percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BUCKET_BOUNDS_MICROS.length ? BUCKET_BOUNDS_MICROS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns cumulative counts keyed by bucket upper bound ("le" in
+     * microseconds, "+Inf" for the overflow bucket).
+     */
+    public Map<String, Long> cumulativeBuckets() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        long running = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            running += buckets.get(i);
+            result.put(String.valueOf(BUCKET_BOUNDS_MICROS[i]), running);
+        }
+        running += buckets.get(BUCKET_BOUNDS_MICROS.length);
+        result.put("+Inf", running);
+        return result;
+    }
+
+    /**
+     * Produces a compact summary suitable for JSON responses.
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        long n = getCount();
+        result.put("count", n);
+        result.put("sumMicros", getSumMicros());
+        result.put("meanMicros", n == 0 ? 0 : getSumMicros() / n);
+        result.put("p50Micros", percentileMicros(50));
+        result.put("p95Micros", percentileMicros(95));
+        result.put("p99Micros", percentileMicros(99));
+        return result;
+    }
+
+    private static int bucketIndex(long micros) {
+        for (int i = 0; i < BUCKET_BOUNDS_MICROS.length; i++) {
+            if (micros <= BUCKET_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MICROS.length;
+    }
+}
@@ -2,6 +2,7 @@ package org.example.fms.core.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.server.RequestContext;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.HashMap;
@@ -27,14 +28,28 @@ public class ResponseUtil {
         responseEnvelope.put("data", data);
         responseEnvelope.put("error", error);
 
+        // Bound by RequestContextFilter on the request thread; async threads
+        // fall back to the header the filter set on the response
+        RequestContext context = RequestContext.current();
+        String requestId = context != null ? context.getRequestId() : response.getHeader(RequestContext.HEADER);
+        if (requestId == null) {
+            requestId = UUID.randomUUID().toString();
+        }
         Map<String, String> meta = new HashMap<>();
         meta.put("timestamp", java.time.Instant.now().toString());
-        meta.put("requestId", UUID.randomUUID().toString()); // In a real app, this should come from a request filter
+        meta.put("requestId", requestId);
         responseEnvelope.put("meta", meta);
 
+        if (statusCode >= 500) {
+            // Ties the stack trace printed by the caller to the ID the client saw
+            System.err.println("Request " + requestId + " answered " + statusCode + ": " + error);
+        }
+
+        long start = System.nanoTime();
         try (PrintWriter out = response.getWriter()) {
             mapper.writeValue(out, responseEnvelope);
         }
+        RequestContext.recordSerialization(System.nanoTime() - start);
     }
 
     public static void sendOk(HttpServletResponse response, Object data) throws IOException {
@@ -60,4 +75,13 @@ public class ResponseUtil {
     public static void sendForbidden(HttpServletResponse response, String message) throws IOException {
         sendError(response, HttpServletResponse.SC_FORBIDDEN, "FORBIDDEN", message);
     }
+
+    /**
+     * Sends 503 with a Retry-After header, for load shedding.
+     */
+    public static void sendServiceUnavailable(HttpServletResponse response, String message, int retryAfterSeconds)
+            throws IOException {
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE, "SERVICE_UNAVAILABLE", message);
+    }
 }
@@ -0,0 +1,123 @@
+package org.example.fms.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The desktop client's single connection to the API server.
+ *
+ * One HttpClient is shared by every screen and dialog so TCP connections are
+ * kept alive and reused (and multiplexed over HTTP/2 when the server offers
+ * it) instead of being set up, along with a new selector thread, per request.
+ * Requests carry the session's bearer token, ask for gzip and get a timeout.
+ *
+ * GET responses that come with an ETag are kept in a small LRU cache and
+ * revalidated on the next request for the same path; when the server answers
+ * 304 the cached body is returned, so revisiting an unchanged list costs one
+ * round trip with an empty body.
+ */
+public class ApiClient {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final int CACHE_ENTRIES = 64;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ResponseCache cache = new ResponseCache(CACHE_ENTRIES);
+
+    public ApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+    }
+
+    public ApiResponse get(String path) throws IOException, InterruptedException {
+        return send("GET", path, null, DEFAULT_TIMEOUT);
+    }
+
+    public ApiResponse get(String path, Duration timeout) throws IOException, InterruptedException {
+        return send("GET", path, null, timeout);
+    }
+
+    /**
+     * POSTs a JSON body. Strings are sent as-is; anything else is serialized
+     * with Jackson.
+     */
+    public ApiResponse post(String path, Object body) throws IOException, InterruptedException {
+        return send("POST", path, body, DEFAULT_TIMEOUT);
+    }
+
+    public ApiResponse send(String method, String path, Object body, Duration timeout)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", "gzip");
+        String token = SessionManager.getToken();
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        boolean cacheable = method.equals("GET");
+        ApiResponse cached = cacheable ? cache.get(path) : null;
+        if (cached != null) {
+            cached.header("ETag").ifPresent(etag -> request.header("If-None-Match", etag));
+        }
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            byte[] json = body instanceof String ? ((String) body).getBytes(StandardCharsets.UTF_8)
+                    : mapper.writeValueAsBytes(body);
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(json));
+        }
+
+        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        if (cached != null) {
+            cache.record(response.statusCode() == 304);
+            if (response.statusCode() == 304) {
+                return cached;
+            }
+        }
+        byte[] bytes = response.body();
+        boolean gzipped = response.headers().firstValue("Content-Encoding")
+                .map(encoding -> encoding.equalsIgnoreCase("gzip"))
+                .orElse(false);
+        if (gzipped && bytes.length > 0) {
+            try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = in.readAllBytes();
+            }
+        }
+        ApiResponse result = new ApiResponse(response.statusCode(), bytes, response.headers(), mapper);
+        if (cacheable) {
+            if (result.statusCode() == 200 && result.header("ETag").isPresent()) {
+                cache.put(path, result);
+            } else {
+                cache.remove(path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Forgets every cached response. Called when the session changes, since
+     * cached lists may be scoped to the previous user.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.fms.ui;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Status, headers and (already decompressed) body of one API call.
+ */
+public class ApiResponse {
+
+    private final int statusCode;
+    private final byte[] body;
+    private final HttpHeaders headers;
+    private final ObjectMapper mapper;
+
+    ApiResponse(int statusCode, byte[] body, HttpHeaders headers, ObjectMapper mapper) {
+        this.statusCode = statusCode;
+        this.body = body;
+        this.headers = headers;
+        this.mapper = mapper;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    public Optional<String> header(String name) {
+        return headers.firstValue(name);
+    }
+
+    public byte[] bytes() {
+        return body;
+    }
+
+    public String text() {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    /** Parses the body as a JSON tree. An empty body yields a missing node. */
+    public JsonNode json() throws IOException {
+        return body.length == 0 ? mapper.missingNode() : mapper.readTree(body);
+    }
+
+    /** Decodes the body into the given type. */
+    public <T> T as(Class<T> type) throws IOException {
+        return mapper.readValue(body, type);
+    }
+}
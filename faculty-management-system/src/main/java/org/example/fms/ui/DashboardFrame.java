@@ -2,24 +2,22 @@ package org.example.fms.ui;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.fms.core.calendar.BsCalendar;
 import java.util.List;
 import java.util.ArrayList;
 
 public class DashboardFrame extends JFrame {
 
+    /** Pages of each list kept in memory; at 100 rows a page, far more than a viewport shows. */
+    private static final int MAX_LOADED_PAGES = 10;
+
     private CardLayout cardLayout;
     private JPanel cardsPanel;
     private JLabel lblTotalStudents, lblActiveStaff, lblNewNotices;
-    private int currentYearBS = 2082;
-    private int currentMonthBS = 10; // Falgun
+    private int currentYearBS = BsCalendar.today().getYear();
+    private int currentMonthBS = BsCalendar.today().getMonth();
     private JPanel calendarGridContainer;
     private JLabel calendarTitleLabel;
     private java.util.Map<Integer, JsonNode> currentMonthHolidays = new java.util.HashMap<>();
@@ -100,72 +98,61 @@ public class DashboardFrame extends JFrame {
 
         if (!"student".equalsIgnoreCase(role)) {
             cardsPanel.add(
-                    createTablePanel("User", new String[] { "ID", "Email", "Role", "Created At" }, new Object[][] {}),
+                    createTablePanel("User", new String[] { "ID", "Email", "Role", "Created At" }),
                     "User Management");
             cardsPanel.add(createTablePanel("Staff",
-                    new String[] { "Staff ID", "Full Name", "Designation", "Department ID" },
-                    new Object[][] {}), "Staff Records");
+                    new String[] { "Staff ID", "Full Name", "Designation", "Department ID" }), "Staff Records");
             cardsPanel
-                    .add(createTablePanel("Leave", new String[] { "ID", "Staff Name", "Leave Type", "Dates", "Status" },
-                            new Object[][] {}), "Leave Requests");
+                    .add(createTablePanel("Leave", new String[] { "ID", "Staff Name", "Leave Type", "Dates", "Status" }), "Leave Requests");
         }
 
         // Student Directory / My Profile (Reuse same card ID "Student Directory"
         // internally)
         cardsPanel.add(createTablePanel("Student",
-                new String[] { "Student ID", "Full Name", "Gender", "Program ID" }, new Object[][] {}),
+                new String[] { "Student ID", "Full Name", "Gender", "Program ID" }),
                 "Student Directory");
         if ("student".equalsIgnoreCase(role)) {
             cardsPanel.add(createTablePanel("Student",
-                    new String[] { "Student ID", "Full Name", "Gender", "Program ID" }, new Object[][] {}),
+                    new String[] { "Student ID", "Full Name", "Gender", "Program ID" }),
                     "My Profile");
         } else if ("faculty".equalsIgnoreCase(role)) {
             cardsPanel.add(createTablePanel("Staff",
-                    new String[] { "Staff ID", "Full Name", "Designation", "Department ID" }, new Object[][] {}),
+                    new String[] { "Staff ID", "Full Name", "Designation", "Department ID" }),
                     "My Profile");
         }
 
         // Common Modules for everyone
-        cardsPanel.add(createTablePanel("Learning Material", new String[] { "Title", "Type", "Subject" },
-                new Object[][] {}), "Learning Materials");
+        cardsPanel.add(createTablePanel("Learning Material", new String[] { "Title", "Type", "Subject" }), "Learning Materials");
         cardsPanel.add(createTablePanel("Library Book",
-                new String[] { "ID", "Title", "Author", "Category", "Available" }, new Object[][] {}), "Library");
+                new String[] { "ID", "Title", "Author", "Category", "Available" }), "Library");
 
         if ("student".equalsIgnoreCase(role)) {
-            cardsPanel.add(createTablePanel("My Attendance", new String[] { "Date", "Status" }, new Object[][] {}),
+            cardsPanel.add(createTablePanel("My Attendance", new String[] { "Date", "Status" }),
                     "My Attendance");
             cardsPanel.add(
-                    createTablePanel("My Subject", new String[] { "Code", "Name", "Type", "Credits" },
-                            new Object[][] {}),
+                    createTablePanel("My Subject", new String[] { "Code", "Name", "Type", "Credits" }),
                     "Subjects & Courses");
             cardsPanel.add(
-                    createTablePanel("Assignment", new String[] { "ID", "Title", "Subject", "Deadline", "Status" },
-                            new Object[][] {}),
+                    createTablePanel("Assignment", new String[] { "ID", "Title", "Subject", "Deadline", "Status" }),
                     "Assignments");
             cardsPanel.add(
-                    createTablePanel("My Result", new String[] { "Subject", "Marks", "Grade", "Exam Type" },
-                            new Object[][] {}),
+                    createTablePanel("My Result", new String[] { "Subject", "Marks", "Grade", "Exam Type" }),
                     "My Results");
         } else if ("faculty".equalsIgnoreCase(role)) {
             cardsPanel.add(
-                    createTablePanel("My Class", new String[] { "Code", "Name", "Semester", "Students" },
-                            new Object[][] {}),
+                    createTablePanel("My Class", new String[] { "Code", "Name", "Semester", "Students" }),
                     "My Classes");
             cardsPanel.add(
-                    createTablePanel("Assignment", new String[] { "ID", "Title", "Subject", "Deadline", "Submissions" },
-                            new Object[][] {}),
+                    createTablePanel("Assignment", new String[] { "ID", "Title", "Subject", "Deadline", "Submissions" }),
                     "Assignments");
-            cardsPanel.add(createTablePanel("Subject", new String[] { "Code", "Name", "Credits", "Type" },
-                    new Object[][] {}), "Subjects & Courses");
+            cardsPanel.add(createTablePanel("Subject", new String[] { "Code", "Name", "Credits", "Type" }), "Subjects & Courses");
         } else {
-            cardsPanel.add(createTablePanel("Subject", new String[] { "Code", "Name", "Credits", "Type" },
-                    new Object[][] {}), "Subjects & Courses");
+            cardsPanel.add(createTablePanel("Subject", new String[] { "Code", "Name", "Credits", "Type" }), "Subjects & Courses");
         }
 
         cardsPanel.add(createCalendarPanel(), "Calendar (BS)");
 
-        cardsPanel.add(createTablePanel("Notice", new String[] { "ID", "Title", "Audience", "Published Date" },
-                new Object[][] {}), "Notices");
+        cardsPanel.add(createTablePanel("Notice", new String[] { "ID", "Title", "Audience", "Published Date" }), "Notices");
 
         for (String item : menuItems) {
             JButton btn = new JButton(item);
@@ -306,16 +293,9 @@ public class DashboardFrame extends JFrame {
         SwingWorker<Void, Void> worker = new SwingWorker<>() {
             @Override
             protected Void doInBackground() throws Exception {
-                HttpClient client = HttpClient.newHttpClient();
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=stats"))
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .GET()
-                        .build();
-
-                HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
+                ApiResponse resp = SessionManager.api().get("/api/v1/dashboard/data?type=stats");
                 if (resp.statusCode() == 200) {
-                    JsonNode node = new ObjectMapper().readTree(resp.body());
+                    JsonNode node = resp.json();
                     SwingUtilities.invokeLater(() -> {
                         lblTotalStudents.setText(node.path("students").asText("0"));
                         lblActiveStaff.setText(node.path("staff").asText("0"));
@@ -328,7 +308,7 @@ public class DashboardFrame extends JFrame {
         worker.execute();
     }
 
-    private JPanel createTablePanel(String entityName, String[] columns, Object[][] data) {
+    private JPanel createTablePanel(String entityName, String[] columns) {
         JPanel panel = new JPanel(new BorderLayout(0, 15));
         panel.setBackground(new Color(248, 250, 252));
 
@@ -337,7 +317,9 @@ public class DashboardFrame extends JFrame {
         titleLabel.setForeground(new Color(30, 41, 59));
         panel.add(titleLabel, BorderLayout.NORTH);
 
-        DefaultTableModel model = new DefaultTableModel(data, columns);
+        // Pages load as the table scrolls to them
+        String type = listType(entityName);
+        PagedTableModel model = new PagedTableModel(columns, cursor -> fetchPage(type, cursor), MAX_LOADED_PAGES);
         JTable table = new JTable(model);
         table.setRowHeight(35);
         table.setFont(new Font("Segoe UI", Font.PLAIN, 14));
@@ -361,7 +343,7 @@ public class DashboardFrame extends JFrame {
         btnAdd.setBackground(new Color(79, 70, 229));
         btnAdd.setForeground(Color.WHITE);
 
-        btnRefresh.addActionListener(e -> fetchData(entityName, model));
+        btnRefresh.addActionListener(e -> model.reload());
 
         btnAdd.addActionListener(e -> {
             if ("User".equals(entityName)) {
@@ -390,7 +372,8 @@ public class DashboardFrame extends JFrame {
 
         // Add row selection listener for detail popups
         table.getSelectionModel().addListSelectionListener(e -> {
-            if (!e.getValueIsAdjusting() && table.getSelectedRow() != -1) {
+            if (!e.getValueIsAdjusting() && table.getSelectedRow() != -1
+                    && model.isRowLoaded(table.getSelectedRow())) {
                 showDetailPopup(entityName, table);
             }
         });
@@ -400,119 +383,112 @@ public class DashboardFrame extends JFrame {
 
         panel.add(buttonPanel, BorderLayout.SOUTH);
 
-        // Fetch initial data on load
-        fetchData(entityName, model);
-
         return panel;
     }
 
-    private void fetchData(String entityName, DefaultTableModel model) {
-        String type = "";
+    /**
+     * The dashboard list type behind a table.
+     */
+    private static String listType(String entityName) {
         if ("User".equals(entityName))
-            type = "users";
+            return "users";
         else if ("Student".equals(entityName))
-            type = "students";
+            return "students";
         else if ("Staff".equals(entityName))
-            type = "staff";
+            return "staff";
         else if ("Subject".equals(entityName))
-            type = "subjects";
+            return "subjects";
         else if ("Leave".equals(entityName))
-            type = "leaves";
+            return "leaves";
         else if ("Notice".equals(entityName))
-            type = "notices";
+            return "notices";
         else if ("My Attendance".equals(entityName))
-            type = "my_attendance";
+            return "my_attendance";
         else if ("My Subject".equals(entityName))
-            type = "my_subjects";
+            return "my_subjects";
         else if ("My Class".equals(entityName))
-            type = "faculty_classes";
+            return "faculty_classes";
         else if ("Assignment".equals(entityName))
-            type = SessionManager.getRole().equalsIgnoreCase("faculty") ? "faculty_assignments" : "my_assignments";
+            return SessionManager.getRole().equalsIgnoreCase("faculty") ? "faculty_assignments" : "my_assignments";
         else if ("Learning Material".equals(entityName))
-            type = "learning_materials";
+            return "learning_materials";
         else if ("Library Book".equals(entityName))
-            type = "library";
+            return "library";
         else if ("My Result".equals(entityName))
-            type = "my_results";
-
-        final String finalType = type;
+            return "my_results";
+        return "";
+    }
 
-        SwingWorker<Void, Void> worker = new SwingWorker<>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                String token = SessionManager.getToken();
-                if (token == null)
-                    return null;
-
-                HttpClient client = HttpClient.newHttpClient();
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=" + finalType))
-                        .header("Authorization", "Bearer " + token)
-                        .GET()
-                        .build();
-
-                HttpResponse<String> resp = client.send(req, HttpResponse.BodyHandlers.ofString());
-                if (resp.statusCode() == 200) {
-                    ObjectMapper mapper = new ObjectMapper();
-                    JsonNode arrayNode = mapper.readTree(resp.body());
+    /**
+     * Fetches one page of a list, mapped to table rows. Runs off the event
+     * dispatch thread.
+     */
+    private static PagedTableModel.Page fetchPage(String type, String cursor) throws Exception {
+        if (SessionManager.getToken() == null) {
+            throw new java.io.IOException("Not signed in");
+        }
+        String path = "/api/v1/dashboard/data?type=" + type + (cursor != null ? "&cursor=" + cursor : "");
+        ApiResponse resp = SessionManager.api().get(path);
+        if (resp.statusCode() != 200) {
+            throw new java.io.IOException("Loading " + type + " failed with status " + resp.statusCode());
+        }
+        JsonNode page = resp.json();
+        List<Object[]> rows = new ArrayList<>();
+        for (JsonNode row : page.path("items")) {
+            rows.add(toRow(type, row));
+        }
+        String nextCursor = page.path("next_cursor").isTextual() ? page.path("next_cursor").asText() : null;
+        return new PagedTableModel.Page(rows, nextCursor);
+    }
 
-                    SwingUtilities.invokeLater(() -> {
-                        model.setRowCount(0); // Clear existing data
-                        for (JsonNode row : arrayNode) {
-                            if ("users".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("email").asText(),
-                                        row.get("role").asText(), row.get("created_at").asText() });
-                            } else if ("students".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("student_id").asText(), row.get("name").asText(),
-                                        row.get("gender").asText(), row.get("program").asText() });
-                            } else if ("staff".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("staff_id").asText(), row.get("name").asText(),
-                                        row.get("designation").asText(), row.get("department").asText() });
-                            } else if ("subjects".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("code").asText(), row.get("name").asText(),
-                                        row.get("credits").asText(), row.get("type").asText() });
-                            } else if ("leaves".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("staff_name").asText(),
-                                        row.get("leave_type").asText(), row.get("dates").asText(),
-                                        row.get("status").asText() });
-                            } else if ("notices".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("title").asText(),
-                                        row.get("audience").asText(), row.get("date").asText() });
-                            } else if ("my_attendance".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("date").asText(), row.get("status").asText() });
-                            } else if ("my_subjects".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("code").asText(), row.get("name").asText(),
-                                        row.get("type").asText(), row.get("credits").asText() });
-                            } else if ("learning_materials".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("title").asText(), row.get("type").asText(),
-                                        row.get("subject").asText() });
-                            } else if ("library".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("title").asText(),
-                                        row.get("author").asText(), row.get("category").asText(),
-                                        row.get("available").asText() });
-                            } else if ("my_results".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("subject").asText(), row.get("marks").asText(),
-                                        row.get("grade").asText(), row.get("type").asText() });
-                            } else if ("faculty_classes".equals(finalType)) {
-                                model.addRow(
-                                        new Object[] { row.get("subject_id").asText(), row.get("subject_name").asText(),
-                                                row.get("semester").asText(), "Active" });
-                            } else if ("faculty_assignments".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("title").asText(),
-                                        row.get("subject").asText(), row.get("deadline").asText(),
-                                        row.get("submissions").asText() });
-                            } else if ("my_assignments".equals(finalType)) {
-                                model.addRow(new Object[] { row.get("id").asText(), row.get("title").asText(),
-                                        row.get("subject").asText(), row.get("deadline").asText(),
-                                        row.get("status").asText() });
-                            }
-                        }
-                    });
-                }
-                return null;
-            }
-        };
-        worker.execute();
+    private static Object[] toRow(String type, JsonNode row) {
+        if ("users".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("email").asText(),
+                    row.get("role").asText(), row.get("created_at").asText() };
+        } else if ("students".equals(type)) {
+            return new Object[] { row.get("student_id").asText(), row.get("name").asText(),
+                    row.get("gender").asText(), row.get("program").asText() };
+        } else if ("staff".equals(type)) {
+            return new Object[] { row.get("staff_id").asText(), row.get("name").asText(),
+                    row.get("designation").asText(), row.get("department").asText() };
+        } else if ("subjects".equals(type)) {
+            return new Object[] { row.get("code").asText(), row.get("name").asText(),
+                    row.get("credits").asText(), row.get("type").asText() };
+        } else if ("leaves".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("staff_name").asText(),
+                    row.get("leave_type").asText(), row.get("dates").asText(),
+                    row.get("status").asText() };
+        } else if ("notices".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("title").asText(),
+                    row.get("audience").asText(), row.get("date").asText() };
+        } else if ("my_attendance".equals(type)) {
+            return new Object[] { row.get("date").asText(), row.get("status").asText() };
+        } else if ("my_subjects".equals(type)) {
+            return new Object[] { row.get("code").asText(), row.get("name").asText(),
+                    row.get("type").asText(), row.get("credits").asText() };
+        } else if ("learning_materials".equals(type)) {
+            return new Object[] { row.get("title").asText(), row.get("type").asText(),
+                    row.get("subject").asText() };
+        } else if ("library".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("title").asText(),
+                    row.get("author").asText(), row.get("category").asText(),
+                    row.get("available").asText() };
+        } else if ("my_results".equals(type)) {
+            return new Object[] { row.get("subject").asText(), row.get("marks").asText(),
+                    row.get("grade").asText(), row.get("type").asText() };
+        } else if ("faculty_classes".equals(type)) {
+            return new Object[] { row.get("subject_id").asText(), row.get("subject_name").asText(),
+                            row.get("semester").asText(), "Active" };
+        } else if ("faculty_assignments".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("title").asText(),
+                    row.get("subject").asText(), row.get("deadline").asText(),
+                    row.get("submissions").asText() };
+        } else if ("my_assignments".equals(type)) {
+            return new Object[] { row.get("id").asText(), row.get("title").asText(),
+                    row.get("subject").asText(), row.get("deadline").asText(),
+                    row.get("status").asText() };
+        }
+        return new Object[0];
     }
 
     private JPanel createCalendarPanel() {
@@ -566,12 +542,12 @@ public class DashboardFrame extends JFrame {
             currentYearBS++;
         }
 
-        if (currentYearBS < 2075) {
-            currentYearBS = 2075;
+        if (currentYearBS < BsCalendar.MIN_YEAR) {
+            currentYearBS = BsCalendar.MIN_YEAR;
             currentMonthBS = 0;
         }
-        if (currentYearBS > 2085) {
-            currentYearBS = 2085;
+        if (currentYearBS > BsCalendar.MAX_YEAR) {
+            currentYearBS = BsCalendar.MAX_YEAR;
             currentMonthBS = 11;
         }
 
@@ -587,17 +563,11 @@ public class DashboardFrame extends JFrame {
         SwingWorker<JsonNode, Void> worker = new SwingWorker<>() {
             @Override
             protected JsonNode doInBackground() throws Exception {
-                String url = SessionManager.getBaseUrl() + "/api/v1/dashboard/data?type=holidays&year=" + currentYearBS
+                String path = "/api/v1/dashboard/data?type=holidays&year=" + currentYearBS
                         + "&month=" + currentMonthBS;
-                HttpClient client = HttpClient.newHttpClient();
-                HttpRequest request = HttpRequest.newBuilder()
-                        .uri(URI.create(url))
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .GET()
-                        .build();
-                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                ApiResponse response = SessionManager.api().get(path);
                 if (response.statusCode() == 200) {
-                    return new ObjectMapper().readTree(response.body());
+                    return response.json().path("items");
                 }
                 return null;
             }
@@ -622,7 +592,7 @@ public class DashboardFrame extends JFrame {
 
     private void updateCalendarGrid() {
         calendarGridContainer.removeAll();
-        calendarTitleLabel.setText(BsCalendarData.MONTH_NAMES[currentMonthBS] + " " + currentYearBS + " BS");
+        calendarTitleLabel.setText(BsCalendar.monthName(currentMonthBS) + " " + currentYearBS + " BS");
 
         JPanel calGrid = new JPanel(new GridLayout(0, 7, 10, 10));
         calGrid.setBackground(Color.WHITE);
@@ -636,16 +606,16 @@ public class DashboardFrame extends JFrame {
             calGrid.add(lbl);
         }
 
-        int startDay = BsCalendarData.getStartDayOfMonth(currentYearBS, currentMonthBS);
+        int startDay = BsCalendar.startWeekday(currentYearBS, currentMonthBS);
         for (int i = 0; i < startDay; i++) {
             calGrid.add(new JLabel(""));
         }
 
-        int monthLen = BsCalendarData.MONTH_LENGTHS[currentYearBS - 2075][currentMonthBS];
+        int monthLen = BsCalendar.monthLength(currentYearBS, currentMonthBS);
         for (int i = 1; i <= monthLen; i++) {
             final int dayNum = i;
             int dayOfWeek = (startDay + i - 1) % 7; // 0=SUN, 6=SAT
-            boolean isSaturday = (dayOfWeek == 6);
+            boolean isSaturday = (dayOfWeek == BsCalendar.SATURDAY);
 
             JButton dayBtn = new JButton(String.valueOf(i));
             dayBtn.setFont(new Font("Segoe UI", Font.PLAIN, 14));
@@ -678,7 +648,7 @@ public class DashboardFrame extends JFrame {
             dayBtn.addActionListener(e -> {
                 String dowName = new String[] { "Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday",
                         "Saturday" }[dayOfWeek];
-                String dateStr = BsCalendarData.MONTH_NAMES[currentMonthBS] + " " + dayNum + ", " + currentYearBS
+                String dateStr = BsCalendar.monthName(currentMonthBS) + " " + dayNum + ", " + currentYearBS
                         + " BS";
 
                 if (hasHoliday) {
@@ -796,33 +766,4 @@ public class DashboardFrame extends JFrame {
         dialog.setLocationRelativeTo(this);
         dialog.setVisible(true);
     }
-
-    static class BsCalendarData {
-        static final int[][] MONTH_LENGTHS = {
-                { 31, 31, 31, 31, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2075
-                { 31, 31, 32, 31, 31, 30, 30, 30, 29, 30, 29, 30 }, // 2076
-                { 31, 31, 32, 31, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2077
-                { 31, 31, 32, 31, 31, 30, 30, 29, 30, 29, 30, 30 }, // 2078
-                { 31, 31, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2079
-                { 31, 32, 31, 32, 31, 30, 30, 30, 29, 29, 30, 30 }, // 2080
-                { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 29, 30 }, // 2081
-                { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2082
-                { 31, 32, 31, 32, 31, 30, 30, 30, 29, 30, 30, 30 }, // 2083
-                { 31, 32, 31, 32, 31, 31, 30, 30, 29, 30, 30, 30 }, // 2084
-                { 31, 32, 31, 32, 31, 31, 30, 30, 30, 29, 30, 30 } // 2085
-        };
-        static final String[] MONTH_NAMES = { "Baisakh", "Jestha", "Ashadh", "Shrawan", "Bhadra", "Ashwin", "Kartik",
-                "Mangsir", "Poush", "Magh", "Falgun", "Chaitra" };
-
-        static int getStartDayOfMonth(int year, int month) {
-            long totalDays = 0;
-            for (int y = 2075; y < year; y++) {
-                for (int m = 0; m < 12; m++)
-                    totalDays += MONTH_LENGTHS[y - 2075][m];
-            }
-            for (int m = 0; m < month; m++)
-                totalDays += MONTH_LENGTHS[year - 2075][m];
-            return (int) ((5 + totalDays) % 7); // 2075 Baisakh 1 was Friday (5)
-        }
-    }
 }
@@ -1,15 +1,12 @@
 package org.example.fms.ui;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
 
 public class LoginFrame extends JFrame {
 
@@ -17,8 +14,6 @@ public class LoginFrame extends JFrame {
     private JPasswordField passwordField;
     private JButton loginButton;
 
-    private static final HttpClient client = HttpClient.newHttpClient();
-    private static final ObjectMapper mapper = new ObjectMapper();
 
     public LoginFrame() {
         setTitle("Campus Nexus");
@@ -114,15 +109,11 @@ public class LoginFrame extends JFrame {
             @Override
             protected Boolean doInBackground() {
                 try {
-                    String jsonBody = String.format("{\"email\":\"%s\", \"password\":\"%s\"}", email, password);
+                    Map<String, String> body = new HashMap<>();
+                    body.put("email", email);
+                    body.put("password", password);
 
-                    HttpRequest request = HttpRequest.newBuilder()
-                            .uri(URI.create("http://localhost:8080/api/v1/auth/login"))
-                            .header("Content-Type", "application/json")
-                            .POST(HttpRequest.BodyPublishers.ofString(jsonBody))
-                            .build();
-
-                    HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                    ApiResponse response = SessionManager.api().post("/api/v1/auth/login", body);
 
                     if (response.statusCode() == 404) {
                         errorMessage = "Auth API not found. Tomcat is still starting up, please wait a moment.";
@@ -130,7 +121,7 @@ public class LoginFrame extends JFrame {
                     }
 
                     // Strict parsing to catch nested Jackson errors
-                    JsonNode rootNode = mapper.readTree(response.body());
+                    JsonNode rootNode = response.json();
 
                     if (rootNode.path("success").asBoolean()) {
                         String token = rootNode.path("data").path("token").asText();
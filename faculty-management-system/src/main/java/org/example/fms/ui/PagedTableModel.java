@@ -0,0 +1,241 @@
+package org.example.fms.ui;
+
+import javax.swing.SwingWorker;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A table model over a keyset-paged list that loads itself as it is looked
+ * at.
+ *
+ * A JTable only asks for the rows in its viewport, so every page is fetched
+ * the first time one of its rows is painted, on a background thread. Each
+ * page arrives as one row-range event rather than one per row. While more
+ * rows exist, a trailing placeholder row stands for them; painting it (or a
+ * row near it) fetches the next page. At most {@code maxPages} pages keep
+ * their rows, the least recently painted are dropped; their rows show as
+ * placeholders and are fetched again, from the page's cursor, when scrolled
+ * back into view.
+ *
+ * All methods must be called on the event dispatch thread.
+ */
+public class PagedTableModel extends AbstractTableModel {
+
+    /** Shown in the first column of a row that is still loading. */
+    public static final String LOADING = "Loading...";
+
+    /** How close to the end a painted row must be to fetch the next page early. */
+    private static final int PREFETCH_ROWS = 20;
+
+    /** One page of rows, fetched off the event dispatch thread. */
+    public interface PageSource {
+        /**
+         * @param cursor where the page starts; null for the first page
+         */
+        Page fetch(String cursor) throws Exception;
+    }
+
+    public static final class Page {
+        private final List<Object[]> rows;
+        private final String nextCursor;
+
+        /**
+         * @param nextCursor where the next page starts; null on the last page
+         */
+        public Page(List<Object[]> rows, String nextCursor) {
+            this.rows = rows;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    private final String[] columns;
+    private final PageSource source;
+    private final int maxPages;
+
+    /** Start cursor of every page seen so far, plus the next unseen page's. */
+    private final List<String> pageCursors = new ArrayList<>();
+    /** First row of every page seen so far. */
+    private final List<Integer> pageStarts = new ArrayList<>();
+    private final List<Integer> pageSizes = new ArrayList<>();
+    /** Rows of the pages in memory, least recently painted first. */
+    private final LinkedHashMap<Integer, List<Object[]>> loaded = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Integer> inFlight = new HashSet<>();
+    private int knownRows;
+    private boolean hasMore;
+    private boolean failed;
+    /** Bumped by {@link #reload()}, so answers to earlier requests are dropped. */
+    private int generation;
+
+    /**
+     * @param maxPages how many pages keep their rows; at least 2
+     */
+    public PagedTableModel(String[] columns, PageSource source, int maxPages) {
+        if (maxPages < 2) {
+            throw new IllegalArgumentException("maxPages must be at least 2");
+        }
+        this.columns = columns.clone();
+        this.source = source;
+        this.maxPages = maxPages;
+        reset();
+    }
+
+    /**
+     * Forgets every row; the list loads again from the first page as it is
+     * painted.
+     */
+    public void reload() {
+        generation++;
+        reset();
+        fireTableDataChanged();
+    }
+
+    private void reset() {
+        pageCursors.clear();
+        pageCursors.add(null);
+        pageStarts.clear();
+        pageSizes.clear();
+        loaded.clear();
+        inFlight.clear();
+        knownRows = 0;
+        hasMore = true;
+        failed = false;
+    }
+
+    /**
+     * Whether the row holds data rather than a placeholder.
+     */
+    public boolean isRowLoaded(int row) {
+        return row >= 0 && row < knownRows && loaded.containsKey(pageOf(row));
+    }
+
+    /**
+     * How many pages currently keep their rows.
+     */
+    public int getLoadedPageCount() {
+        return loaded.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return knownRows + (hasMore ? 1 : 0);
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columns[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (hasMore && row >= knownRows - PREFETCH_ROWS) {
+            request(pageStarts.size());
+        }
+        if (row >= knownRows) {
+            return placeholder(column);
+        }
+        int page = pageOf(row);
+        List<Object[]> rows = loaded.get(page);
+        if (rows == null) {
+            request(page);
+            return placeholder(column);
+        }
+        Object[] values = rows.get(row - pageStarts.get(page));
+        return column < values.length ? values[column] : null;
+    }
+
+    private static Object placeholder(int column) {
+        return column == 0 ? LOADING : "";
+    }
+
+    private int pageOf(int row) {
+        int index = Collections.binarySearch(pageStarts, row);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private void request(int page) {
+        if (failed || !inFlight.add(page)) {
+            return;
+        }
+        int requestGeneration = generation;
+        String cursor = pageCursors.get(page);
+        new SwingWorker<Page, Void>() {
+            @Override
+            protected Page doInBackground() throws Exception {
+                return source.fetch(cursor);
+            }
+
+            @Override
+            protected void done() {
+                if (requestGeneration != generation) {
+                    return;
+                }
+                inFlight.remove(page);
+                try {
+                    pageLoaded(page, get());
+                } catch (Exception e) {
+                    // Stop asking until the list is reloaded, rather than retrying on every repaint
+                    failed = true;
+                    System.err.println("Could not load page " + page + ": " + e);
+                    e.printStackTrace();
+                }
+            }
+        }.execute();
+    }
+
+    private void pageLoaded(int page, Page result) {
+        int size = result.rows.size();
+        if (page < pageStarts.size()) {
+            // A page fetched again after it was dropped
+            if (size != pageSizes.get(page)) {
+                reload(); // The list changed underneath; the later pages' rows no longer line up
+                return;
+            }
+            keep(page, result.rows);
+            if (size > 0) {
+                fireTableRowsUpdated(pageStarts.get(page), pageStarts.get(page) + size - 1);
+            }
+            return;
+        }
+
+        int oldCount = getRowCount();
+        pageStarts.add(knownRows);
+        pageSizes.add(size);
+        knownRows += size;
+        hasMore = result.nextCursor != null;
+        if (hasMore) {
+            pageCursors.add(result.nextCursor);
+        }
+        keep(page, result.rows);
+
+        // The old placeholder row now holds the page's first row
+        int newCount = getRowCount();
+        int firstNew = pageStarts.get(page);
+        if (firstNew < Math.min(oldCount, newCount)) {
+            fireTableRowsUpdated(firstNew, Math.min(oldCount, newCount) - 1);
+        }
+        if (newCount > oldCount) {
+            fireTableRowsInserted(oldCount, newCount - 1);
+        } else if (newCount < oldCount) {
+            fireTableRowsDeleted(newCount, oldCount - 1);
+        }
+    }
+
+    private void keep(int page, List<Object[]> rows) {
+        loaded.put(page, rows);
+        while (loaded.size() > maxPages) {
+            Map.Entry<Integer, List<Object[]>> eldest = loaded.entrySet().iterator().next();
+            loaded.remove(eldest.getKey());
+        }
+    }
+}
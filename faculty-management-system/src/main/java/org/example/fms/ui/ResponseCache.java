@@ -0,0 +1,65 @@
+package org.example.fms.ui;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of GET responses that carried an ETag, keyed by
+ * request path and query (i.e. list type plus parameters).
+ *
+ * A cached entry is never served blindly: the client revalidates it with
+ * If-None-Match, and a 304 answer lets it reuse the stored body instead of
+ * downloading the list again.
+ */
+class ResponseCache {
+
+    private final Map<String, ApiResponse> entries;
+    private long hits;
+    private long misses;
+
+    ResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ApiResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized ApiResponse get(String key) {
+        return entries.get(key);
+    }
+
+    synchronized void put(String key, ApiResponse response) {
+        entries.put(key, response);
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    /** Counts a revalidation answered with 304 (hit) or a full body (miss). */
+    synchronized void record(boolean notModified) {
+        if (notModified) {
+            hits++;
+        } else {
+            misses++;
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getHits() {
+        return hits;
+    }
+
+    synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -1,10 +1,15 @@
 package org.example.fms.ui;
 
+import org.example.fms.core.config.FmsConfig;
+
 public class SessionManager {
-    private static String token;
-    private static String role;
+    private static volatile String token;
+    private static volatile String role;
+
+    private static final ApiClient API = new ApiClient(getBaseUrl());
 
     public static void setToken(String jwtToken) {
+        API.clearCache();
         token = jwtToken;
     }
 
@@ -21,11 +26,20 @@ public class SessionManager {
     }
 
     public static void clear() {
+        API.clearCache();
         token = null;
         role = null;
     }
 
     public static String getBaseUrl() {
-        return "http://localhost:8080"; // Tomcat context is mounted at root, no sub-path
+        return "http://localhost:" + FmsConfig.get().getServerPort(); // Tomcat context is mounted at root, no sub-path
+    }
+
+    /**
+     * The shared API client. Reuse it for every call instead of creating an
+     * HttpClient per request.
+     */
+    public static ApiClient api() {
+        return API;
     }
 }
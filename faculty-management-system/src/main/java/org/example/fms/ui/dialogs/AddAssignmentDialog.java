@@ -1,16 +1,11 @@
 package org.example.fms.ui.dialogs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.fms.ui.SessionManager;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -91,12 +86,8 @@ public class AddAssignmentDialog extends JDialog {
         SwingWorker<JsonNode, Void> worker = new SwingWorker<>() {
             @Override
             protected JsonNode doInBackground() throws Exception {
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=faculty_classes"))
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .GET().build();
-                HttpResponse<String> resp = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString());
-                return new ObjectMapper().readTree(resp.body());
+                return SessionManager.api().get("/api/v1/dashboard/data?type=faculty_classes&limit=500")
+                        .json().path("items");
             }
 
             @Override
@@ -126,13 +117,8 @@ public class AddAssignmentDialog extends JDialog {
                 payload.put("description", descArea.getText());
                 payload.put("deadline", deadlineField.getText());
 
-                String json = new ObjectMapper().writeValueAsString(payload);
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=assignments"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .POST(HttpRequest.BodyPublishers.ofString(json)).build();
-                return HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString()).statusCode() == 201;
+                return SessionManager.api().post("/api/v1/dashboard/data?type=assignments", payload)
+                        .statusCode() == 201;
             }
 
             @Override
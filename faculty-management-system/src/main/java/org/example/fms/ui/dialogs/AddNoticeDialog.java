@@ -1,15 +1,11 @@
 package org.example.fms.ui.dialogs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.fms.ui.ApiResponse;
 import org.example.fms.ui.SessionManager;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 
 public class AddNoticeDialog extends JDialog {
 
@@ -96,16 +92,7 @@ public class AddNoticeDialog extends JDialog {
                 payload.put("content", contentArea.getText());
                 payload.put("target_audience", (String) audienceBox.getSelectedItem());
 
-                String json = new ObjectMapper().writeValueAsString(payload);
-
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=notices"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .POST(HttpRequest.BodyPublishers.ofString(json))
-                        .build();
-
-                HttpResponse<String> res = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString());
+                ApiResponse res = SessionManager.api().post("/api/v1/dashboard/data?type=notices", payload);
                 return res.statusCode() == 201;
             }
 
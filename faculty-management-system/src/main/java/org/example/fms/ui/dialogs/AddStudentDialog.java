@@ -1,17 +1,13 @@
 package org.example.fms.ui.dialogs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.fms.core.api.dto.StudentProfileDTO;
+import org.example.fms.ui.ApiResponse;
 import org.example.fms.ui.SessionManager;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 
 public class AddStudentDialog extends JDialog {
 
@@ -113,19 +109,8 @@ public class AddStudentDialog extends JDialog {
                     dto.setGuardianRelationship(gRel.getText());
                     dto.setProgramId(programId.getText().isEmpty() ? null : programId.getText());
 
-                    ObjectMapper mapper = new ObjectMapper();
-                    String json = mapper.writeValueAsString(dto);
-
-                    HttpRequest req = HttpRequest.newBuilder()
-                            .uri(URI.create("http://localhost:8080/api/v1/students"))
-                            .header("Content-Type", "application/json")
-                            .header("Authorization", "Bearer " + SessionManager.getToken())
-                            .POST(HttpRequest.BodyPublishers.ofString(json))
-                            .build();
-
-                    HttpResponse<String> res = HttpClient.newHttpClient().send(req,
-                            HttpResponse.BodyHandlers.ofString());
-                    JsonNode node = mapper.readTree(res.body());
+                    ApiResponse res = SessionManager.api().post("/api/v1/students", dto);
+                    JsonNode node = res.json();
                     if (node.path("success").asBoolean()) {
                         return true;
                     } else {
@@ -1,16 +1,12 @@
 package org.example.fms.ui.dialogs;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.fms.ui.ApiResponse;
 import org.example.fms.ui.SessionManager;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 
 public class AddUserDialog extends JDialog {
 
@@ -86,18 +82,13 @@ public class AddUserDialog extends JDialog {
             @Override
             protected Boolean doInBackground() {
                 try {
-                    String json = String.format("{\"email\":\"%s\",\"plainPassword\":\"%s\",\"role\":\"%s\"}", email,
-                            password, role);
-                    HttpRequest req = HttpRequest.newBuilder()
-                            .uri(URI.create("http://localhost:8080/api/v1/users"))
-                            .header("Content-Type", "application/json")
-                            .header("Authorization", "Bearer " + SessionManager.getToken())
-                            .POST(HttpRequest.BodyPublishers.ofString(json))
-                            .build();
-
-                    HttpResponse<String> res = HttpClient.newHttpClient().send(req,
-                            HttpResponse.BodyHandlers.ofString());
-                    JsonNode node = new ObjectMapper().readTree(res.body());
+                    var payload = new java.util.HashMap<String, String>();
+                    payload.put("email", email);
+                    payload.put("plainPassword", password);
+                    payload.put("role", role);
+
+                    ApiResponse res = SessionManager.api().post("/api/v1/users", payload);
+                    JsonNode node = res.json();
                     if (node.path("success").asBoolean()) {
                         return true;
                     } else {
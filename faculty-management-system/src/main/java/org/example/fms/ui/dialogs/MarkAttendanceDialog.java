@@ -9,10 +9,6 @@ import org.example.fms.ui.SessionManager;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -64,13 +60,18 @@ public class MarkAttendanceDialog extends JDialog {
         SwingWorker<JsonNode, Void> worker = new SwingWorker<>() {
             @Override
             protected JsonNode doInBackground() throws Exception {
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=class_students&subject_id="
-                                + subjectId))
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .GET().build();
-                HttpResponse<String> resp = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString());
-                return new ObjectMapper().readTree(resp.body());
+                // Follow every page so the whole class is on the register
+                ArrayNode students = new ObjectMapper().createArrayNode();
+                String cursor = null;
+                do {
+                    String path = "/api/v1/dashboard/data?type=class_students&limit=500"
+                            + "&subject_id=" + java.net.URLEncoder.encode(subjectId, "UTF-8")
+                            + (cursor != null ? "&cursor=" + cursor : "");
+                    JsonNode page = SessionManager.api().get(path).json();
+                    page.path("items").forEach(students::add);
+                    cursor = page.path("next_cursor").isTextual() ? page.path("next_cursor").asText() : null;
+                } while (cursor != null);
+                return students;
             }
 
             @Override
@@ -114,13 +115,8 @@ public class MarkAttendanceDialog extends JDialog {
                 }
                 root.set("attendances", atts);
 
-                String json = mapper.writeValueAsString(root);
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=mark_attendance"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .POST(HttpRequest.BodyPublishers.ofString(json)).build();
-                return HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString()).statusCode() == 201;
+                return SessionManager.api().post("/api/v1/dashboard/data?type=mark_attendance", root)
+                        .statusCode() == 201;
             }
 
             @Override
@@ -1,15 +1,10 @@
 package org.example.fms.ui.dialogs;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.example.fms.ui.SessionManager;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -71,15 +66,8 @@ public class SubmitAssignmentDialog extends JDialog {
                 payload.put("assignment_id", assignmentId);
                 payload.put("content", contentArea.getText());
 
-                String json = new ObjectMapper().writeValueAsString(payload);
-                HttpRequest req = HttpRequest.newBuilder()
-                        .uri(URI.create("http://localhost:8080/api/v1/dashboard/data?type=submissions"))
-                        .header("Content-Type", "application/json")
-                        .header("Authorization", "Bearer " + SessionManager.getToken())
-                        .POST(HttpRequest.BodyPublishers.ofString(json)).build();
-
-                HttpResponse<String> resp = HttpClient.newHttpClient().send(req, HttpResponse.BodyHandlers.ofString());
-                return resp.statusCode() == 201;
+                return SessionManager.api().post("/api/v1/dashboard/data?type=submissions", payload)
+                        .statusCode() == 201;
             }
 
             @Override
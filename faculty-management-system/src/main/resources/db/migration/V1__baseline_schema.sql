@@ -1,7 +1,6 @@
 -- Phase 1: Core Foundation Schema for MBMC Faculty Management System
-
-CREATE DATABASE IF NOT EXISTS mbmc_fms;
-USE mbmc_fms;
+-- Baseline migration. Uses IF NOT EXISTS so databases created before versioned
+-- migrations were introduced are adopted without changes.
 
 -- Users Table
 CREATE TABLE IF NOT EXISTS users (
@@ -0,0 +1,48 @@
+-- Secondary indexes and unique keys for the lookups behind login, the dashboard
+-- lists and attendance marking.
+
+-- Attendance is marked with ON DUPLICATE KEY UPDATE, which only works once
+-- (student_id, date) is unique. Keep the most recent mark for any day that was
+-- recorded more than once before the key existed. DISTINCT keeps MySQL from
+-- merging the derived table, which it needs to delete from the same table.
+DELETE FROM student_attendance WHERE id IN (
+    SELECT id FROM (
+        SELECT DISTINCT older.id FROM student_attendance older
+        JOIN student_attendance newer
+          ON newer.student_id = older.student_id AND newer.date = older.date
+         AND (newer.created_at > older.created_at
+              OR (newer.created_at = older.created_at AND newer.id > older.id))
+    ) AS duplicate_marks
+);
+ALTER TABLE student_attendance ADD CONSTRAINT uk_student_attendance_student_date UNIQUE (student_id, date);
+
+-- A user holds each role at most once; also serves user_roles.user_id lookups
+DELETE FROM user_roles WHERE id IN (
+    SELECT id FROM (
+        SELECT DISTINCT dup.id FROM user_roles dup
+        JOIN user_roles keep_row
+          ON keep_row.user_id = dup.user_id AND keep_row.role = dup.role AND keep_row.id < dup.id
+    ) AS duplicate_roles
+);
+ALTER TABLE user_roles ADD CONSTRAINT uk_user_roles_user_role UNIQUE (user_id, role);
+
+-- Class rosters and "my subjects" join students to their current semester
+CREATE INDEX idx_students_program_semester ON students (program_id, current_semester);
+CREATE INDEX idx_semesters_program_number ON semesters (program_id, semester_number);
+
+-- Submission counts per assignment and a student's own submission
+CREATE INDEX idx_submissions_assignment_student ON submissions (assignment_id, student_id);
+
+-- A student's results, newest academic year first
+CREATE INDEX idx_exam_results_student_year ON exam_results (student_id, academic_year);
+
+-- A faculty member's assignments
+CREATE INDEX idx_assignments_created_by_deadline ON assignments (created_by, deadline);
+
+-- Keyset pagination sort keys for the dashboard lists
+CREATE INDEX idx_users_created_at ON users (created_at, id);
+CREATE INDEX idx_notices_published_date ON notices (published_date, id);
+CREATE INDEX idx_leave_requests_applied_on ON leave_requests (applied_on, id);
+
+-- Calendar month lookups
+CREATE INDEX idx_holidays_year_month_day ON holidays (bs_year, bs_month, bs_day);
@@ -0,0 +1,78 @@
+package org.example.fms.core.api.handler;
+
+import org.example.fms.core.api.handler.list.SubjectsHandler;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HandlerRegistryTest {
+
+    private final HandlerRegistry registry = HandlerRegistry.getDefault();
+
+    @Test
+    public void everyDashboardTypeHasAHandler() {
+        String[] lists = { "users", "students", "staff", "subjects", "holidays", "leaves", "notices",
+                "my_attendance", "my_results", "my_subjects", "learning_materials", "library", "faculty_classes",
+                "faculty_assignments", "my_assignments", "class_students" };
+        for (String type : lists) {
+            ListHandler handler = registry.getList(type);
+            assertNotNull(type, handler);
+            assertTrue(type, handler.getTables().length > 0);
+        }
+        for (String type : new String[] { "notices", "assignments", "submissions", "mark_attendance" }) {
+            assertNotNull(type, registry.getWrite(type));
+        }
+        assertNull(registry.getList("nope"));
+        assertNull(registry.getList(null));
+    }
+
+    @Test
+    public void accessRulesFollowRoles() {
+        assertFalse(registry.getList("users").getAccess().allows("student"));
+        assertTrue(registry.getList("users").getAccess().allows("super_admin"));
+        assertTrue(registry.getList("my_results").getAccess().allows("STUDENT"));
+        assertFalse(registry.getList("my_results").getAccess().allows("faculty"));
+        assertFalse(registry.getList("class_students").getAccess().allows(null));
+        assertTrue(registry.getList("library").getAccess().allows("student"));
+    }
+
+    @Test
+    public void handlersBuildQueriesFromTheRequest() {
+        Map<String, String> params = new HashMap<>();
+        params.put("year", "2081");
+        params.put("month", "4");
+        HandlerRequest request = new HandlerRequest("u1", "student", params);
+        assertEquals("SELECT bs_year, bs_month, bs_day, name, description, bs_day AS _k0, id AS _k1 FROM holidays"
+                + " WHERE bs_year = ? AND bs_month = ? ORDER BY bs_day ASC, id ASC LIMIT ?",
+                registry.getList("holidays").query(request).pageSql(null));
+
+        try {
+            registry.getList("holidays").query(new HandlerRequest("u1", "student", Collections.emptyMap()));
+            fail("Missing year must be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+
+        params.put("month", "12");
+        try {
+            registry.getList("holidays").query(request);
+            fail("A month outside the calendar must be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void duplicateTypesAreRejected() {
+        new HandlerRegistry().register(new SubjectsHandler()).register(new SubjectsHandler());
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.fms.core.api.servlet;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.example.fms.core.server.RequestContext;
+import org.example.fms.core.server.RequestContextFilter;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+
+public class DashboardDataServletTest {
+
+    private Tomcat tomcat;
+
+    @Before
+    public void setUp() throws Exception {
+        tomcat = new Tomcat();
+        tomcat.setPort(0);
+        tomcat.setBaseDir(Files.createTempDirectory("fms-dashboard").toString());
+        Context context = tomcat.addContext("", new File(".").getAbsolutePath());
+
+        FilterDef filterDef = new FilterDef();
+        filterDef.setFilterName("requestContextFilter");
+        filterDef.setFilterClass(RequestContextFilter.class.getName());
+        context.addFilterDef(filterDef);
+        FilterMap filterMap = new FilterMap();
+        filterMap.setFilterName("requestContextFilter");
+        filterMap.addURLPattern("/*");
+        context.addFilterMap(filterMap);
+
+        Tomcat.addServlet(context, "dashboard", new DashboardDataServlet(() -> {
+            throw new SQLException("database down");
+        }));
+        context.addServletMappingDecoded("/api/v1/dashboard/data", "dashboard");
+        tomcat.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Test
+    public void databaseErrorCarriesTheInboundRequestId() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                + tomcat.getConnector().getLocalPort() + "/api/v1/dashboard/data?type=notices"))
+                .header(RequestContext.HEADER, "client-req-42").GET().build();
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request,
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(500, response.statusCode());
+        JsonNode body = new ObjectMapper().readTree(response.body());
+        assertEquals("DATABASE_ERROR", body.path("error").path("code").asText());
+        assertEquals("client-req-42", body.path("meta").path("requestId").asText());
+        assertEquals("client-req-42", response.headers().firstValue(RequestContext.HEADER).orElse(null));
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.fms.core.audit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AuditWriterTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static AuditEvent event(int n) {
+        return new AuditEvent("id-" + n, n, "actor", "admin", "CREATE", "Core", "User", "r" + n, null, "{}",
+                "127.0.0.1", "test", null);
+    }
+
+    /**
+     * Records batches; fails while {@code failing} is set, and rejects any
+     * batch holding the {@code poison} event like a foreign key violation.
+     */
+    private static class RecordingSink implements AuditSink {
+        final List<AuditEvent> rows = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean failing;
+        volatile String poison;
+
+        @Override
+        public void write(List<AuditEvent> batch) throws Exception {
+            if (failing) {
+                throw new Exception("database down");
+            }
+            for (AuditEvent event : batch) {
+                if (event.getId().equals(poison)) {
+                    throw new SQLIntegrityConstraintViolationException("foreign key fails", "23000");
+                }
+            }
+            rows.addAll(batch);
+            batchSizes.add(batch.size());
+        }
+    }
+
+    private AuditWal openWal(Path dir, int segmentSize, int maxSegments) throws Exception {
+        return new AuditWal(dir, segmentSize, maxSegments, AuditWal.FsyncPolicy.NEVER, 0);
+    }
+
+    @Test
+    public void shutdownShipsEverythingInBatchesAndTruncatesTheLog() throws Exception {
+        Path dir = tmp.newFolder("wal").toPath();
+        RecordingSink sink = new RecordingSink();
+        // Small segments so the log rolls several times
+        AuditWriter writer = new AuditWriter(sink, openWal(dir, 2048, 100), AuditWriter.OverflowPolicy.BLOCK, 50,
+                10_000);
+        for (int i = 0; i < 120; i++) {
+            writer.submit(event(i));
+        }
+        writer.shutdown();
+        assertEquals(120, sink.rows.size());
+        assertEquals("id-0", sink.rows.get(0).getId());
+        assertEquals("id-119", sink.rows.get(119).getId());
+        for (int size : sink.batchSizes) {
+            assertTrue(size <= 50);
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals("only the active segment should remain", 1, files.count());
+        }
+    }
+
+    @Test
+    public void unshippedRecordsSurviveRestartAndTornTailIsIgnored() throws Exception {
+        Path dir = tmp.newFolder("wal").toPath();
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        AuditWriter writer = new AuditWriter(sink, openWal(dir, 64 * 1024, 4), AuditWriter.OverflowPolicy.BLOCK,
+                10, 5);
+        writer.submit(event(1));
+        writer.submit(event(2));
+        writer.shutdown();
+        assertTrue(sink.rows.isEmpty());
+
+        // Simulate a crash halfway through writing a third record
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.sorted().collect(Collectors.toList()).get(0);
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            // Skip the two complete records: [length][crc][payload]
+            long end = 0;
+            while (file.readInt() > 0) {
+                file.seek(end);
+                end += 8 + file.readInt();
+                file.seek(end);
+            }
+            file.seek(end);
+            file.writeInt(500);
+            file.writeInt(12345);
+            file.write("{\"id\":\"torn".getBytes(StandardCharsets.UTF_8));
+        }
+
+        sink.failing = false;
+        writer = new AuditWriter(sink, openWal(dir, 64 * 1024, 4), AuditWriter.OverflowPolicy.BLOCK, 10, 5);
+        writer.submit(event(3));
+        writer.shutdown();
+        List<String> ids = new ArrayList<>();
+        sink.rows.forEach(e -> ids.add(e.getId()));
+        assertEquals(List.of("id-1", "id-2", "id-3"), ids);
+    }
+
+    @Test
+    public void dropPolicyCountsEventsRejectedByAFullLog() throws Exception {
+        Path dir = tmp.newFolder("wal").toPath();
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        // Two segments of roughly one record each
+        AuditWriter writer = new AuditWriter(sink, openWal(dir, 300, 2), AuditWriter.OverflowPolicy.DROP, 10, 5);
+        for (int i = 0; i < 10; i++) {
+            writer.submit(event(i));
+        }
+        long dropped = (Long) writer.getStats().get("dropped");
+        assertTrue("expected drops, got " + dropped, dropped >= 7);
+        writer.shutdown();
+        assertTrue(sink.rows.isEmpty());
+    }
+
+    @Test
+    public void recordsTheDatabaseKeepsRejectingAreQuarantined() throws Exception {
+        Path dir = tmp.newFolder("wal").toPath();
+        RecordingSink sink = new RecordingSink();
+        sink.poison = "id-13";
+        AuditWriter writer = new AuditWriter(sink, openWal(dir, 64 * 1024, 4), AuditWriter.OverflowPolicy.BLOCK,
+                50, 5, 10, 10);
+        for (int i = 0; i < 40; i++) {
+            writer.submit(event(i));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((Long) writer.getStats().get("quarantined") == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        writer.shutdown();
+
+        assertEquals(39, sink.rows.size());
+        assertEquals(1L, writer.getStats().get("quarantined"));
+        List<String> deadLetters = Files.readAllLines(dir.resolve(AuditWriter.DEAD_LETTER_FILE));
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0), deadLetters.get(0).contains("\"id\":\"id-13\""));
+
+        // The records behind it were shipped and acknowledged, so a restart finds nothing to replay
+        sink.rows.clear();
+        writer = new AuditWriter(sink, openWal(dir, 64 * 1024, 4), AuditWriter.OverflowPolicy.BLOCK, 50, 5);
+        writer.shutdown();
+        assertTrue(sink.rows.isEmpty());
+    }
+
+    @Test
+    public void blockPolicyGivesUpWaitingForAFullLog() throws Exception {
+        Path dir = tmp.newFolder("wal").toPath();
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        AuditWriter writer = new AuditWriter(sink, openWal(dir, 300, 2), AuditWriter.OverflowPolicy.BLOCK, 10, 5,
+                10, 50);
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            writer.submit(event(i));
+        }
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        long timeouts = (Long) writer.getStats().get("blockTimeouts");
+        assertTrue("expected timeouts, got " + timeouts, timeouts >= 2);
+        writer.shutdown();
+    }
+}
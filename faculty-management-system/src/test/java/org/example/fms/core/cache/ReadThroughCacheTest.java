@@ -0,0 +1,92 @@
+package org.example.fms.core.cache;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ReadThroughCacheTest {
+
+    @Test
+    public void loadsOnceAndServesHitsUntilInvalidated() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get("subjects", () -> "v" + loads.incrementAndGet()));
+        assertEquals("v1", cache.get("subjects", () -> "v" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+
+        cache.invalidate(key -> key.equals("library"));
+        assertEquals("v1", cache.get("subjects", () -> "v" + loads.incrementAndGet()));
+
+        cache.invalidate(key -> key.equals("subjects"));
+        assertEquals("v2", cache.get("subjects", () -> "v" + loads.incrementAndGet()));
+    }
+
+    @Test
+    public void concurrentMissesShareOneLoad() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 10, 60_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = pool.submit(() -> cache.get("k", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "value";
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<String> second = pool.submit(() -> cache.get("k", () -> "v" + loads.incrementAndGet()));
+            Future<String> third = pool.submit(() -> cache.get("k", () -> "v" + loads.incrementAndGet()));
+            release.countDown();
+
+            assertEquals("value", first.get(5, TimeUnit.SECONDS));
+            assertEquals("value", second.get(5, TimeUnit.SECONDS));
+            assertEquals("value", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void failedLoadsAreNotCachedAndOldestEntriesAreEvicted() throws Exception {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("test", 2, 60_000);
+        try {
+            cache.get("a", () -> {
+                throw new SQLException("down");
+            });
+            fail("Load failure must reach the caller");
+        } catch (SQLException expected) {
+            // Expected
+        }
+        assertEquals(0, cache.size());
+
+        cache.get("a", () -> "a");
+        cache.get("b", () -> "b");
+        cache.get("a", () -> "a2"); // Touch a, so b is now the eldest
+        cache.get("c", () -> "c");
+        assertEquals(2, cache.size());
+        assertEquals("a", cache.get("a", () -> "reloaded"));
+        assertEquals("b2", cache.get("b", () -> "b2"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
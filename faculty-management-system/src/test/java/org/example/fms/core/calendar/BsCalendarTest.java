@@ -0,0 +1,76 @@
+package org.example.fms.core.calendar;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BsCalendarTest {
+
+    @Test
+    public void convertsKnownNewYearsDays() {
+        assertEquals(LocalDate.of(1943, 4, 14), BsCalendar.toAd(2000, 0, 1));
+        assertEquals(LocalDate.of(2018, 4, 14), BsCalendar.toAd(2075, 0, 1));
+        assertEquals(LocalDate.of(2024, 4, 13), BsCalendar.toAd(2081, 0, 1));
+        assertEquals(BsDate.of(2082, 0, 1), BsCalendar.fromAd(LocalDate.of(2025, 4, 14)));
+        assertEquals(BsDate.of(2081, 9, 1), BsCalendar.fromAd(LocalDate.of(2025, 1, 14))); // Maghe Sankranti
+        assertEquals(BsCalendar.SATURDAY, BsCalendar.startWeekday(2075, 0));
+    }
+
+    @Test
+    public void everyDayRoundTrips() {
+        LocalDate date = BsCalendar.getFirstAdDate();
+        BsDate expected = BsDate.of(BsCalendar.MIN_YEAR, 0, 1);
+        while (!date.isAfter(BsCalendar.getLastAdDate())) {
+            BsDate bs = BsCalendar.fromAd(date);
+            assertEquals(date.toString(), expected, bs);
+            assertEquals(date, bs.toAd());
+            assertEquals(date.getDayOfWeek().getValue() % 7, bs.getWeekday());
+
+            date = date.plusDays(1);
+            int day = expected.getDay() + 1;
+            int month = expected.getMonth();
+            int year = expected.getYear();
+            if (day > BsCalendar.monthLength(year, month)) {
+                day = 1;
+                if (++month == 12) {
+                    month = 0;
+                    year++;
+                }
+            }
+            expected = new BsDate(year, month, day);
+        }
+        assertEquals(BsCalendar.MAX_YEAR + 1, expected.getYear());
+    }
+
+    @Test
+    public void yearsStartInMidApril() {
+        for (int year = BsCalendar.MIN_YEAR; year <= BsCalendar.MAX_YEAR; year++) {
+            LocalDate newYear = BsCalendar.toAd(year, 0, 1);
+            assertEquals(4, newYear.getMonthValue());
+            assertTrue(year + " starts " + newYear, newYear.getDayOfMonth() >= 13 && newYear.getDayOfMonth() <= 15);
+            int length = BsCalendar.yearLength(year);
+            assertTrue(year + " has " + length + " days", length == 365 || length == 366);
+        }
+    }
+
+    @Test
+    public void rejectsDatesOutsideTheCalendar() {
+        assertNull(BsCalendar.toBsString(LocalDate.of(1900, 1, 1)));
+        assertEquals("2082-01-01", BsCalendar.toBsString(LocalDate.of(2025, 4, 14)));
+        try {
+            BsCalendar.toAd(2082, 2, 33);
+            fail("Ashadh has no 33rd");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            BsCalendar.monthLength(BsCalendar.MAX_YEAR + 1, 0);
+            fail("past the table");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package org.example.fms.core.calendar;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Fetches from a local stub of the calendar API.
+ */
+public class HolidayRefresherTest {
+
+    private static final String MONTH_JSON = "{\"days\": [{\"f\": \"\", \"h\": false}, {\"f\": \"Festival\", "
+            + "\"h\": false}, {\"f\": \"\", \"h\": true}]}";
+    private static final String EMPTY_MONTH_JSON = "{\"days\": [{\"f\": \"\", \"h\": false}]}";
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final ExecutorService handlers = Executors.newFixedThreadPool(8);
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/data/", exchange -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                String path = exchange.getRequestURI().getPath();
+                int status = 200;
+                String json = MONTH_JSON;
+                if (path.endsWith("/2080/6")) {
+                    status = 500;
+                    json = "down";
+                } else if (path.endsWith("/2082/1")) {
+                    json = EMPTY_MONTH_JSON;
+                } else if (path.endsWith("/2082/2")) {
+                    json = "{\"error\": \"maintenance\"}";
+                }
+                byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.setExecutor(handlers);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+        handlers.shutdownNow();
+    }
+
+    @Test
+    public void fetchesMonthsConcurrentlyWithinTheLimit() throws Exception {
+        HolidayRefresher refresher = new HolidayRefresher("http://127.0.0.1:" + server.getAddress().getPort()
+                + "/data/", 3, 5_000, 2080, 2081);
+        List<String> months = Collections.synchronizedList(new ArrayList<>());
+        int failed = refresher.fetch((year, month, holidays) -> {
+            assertEquals(2, holidays.size());
+            months.add(year + "/" + month);
+        });
+
+        assertEquals(1, failed);
+        assertEquals(23, months.size());
+        assertTrue(maxInFlight.get() > 1);
+        assertTrue(maxInFlight.get() <= 3);
+    }
+
+    @Test
+    public void monthsWithoutEventsReachTheListenerButMonthsWithoutDaysFail() throws Exception {
+        HolidayRefresher refresher = new HolidayRefresher("http://127.0.0.1:" + server.getAddress().getPort()
+                + "/data/", 3, 5_000, 2082, 2082);
+        Map<Integer, Integer> sizes = Collections.synchronizedMap(new LinkedHashMap<>());
+        int failed = refresher.fetch((year, month, holidays) -> sizes.put(month, holidays.size()));
+
+        // Month 1 came back empty, so its stored holidays must go; month 2 had no days at all and stays as it is
+        assertEquals(1, failed);
+        assertEquals(11, sizes.size());
+        assertEquals(Integer.valueOf(0), sizes.get(0));
+        assertEquals(Integer.valueOf(2), sizes.get(2));
+        assertFalse(sizes.containsKey(1));
+    }
+
+    @Test
+    public void parsesFestivalsAndPublicHolidays() throws Exception {
+        List<Holiday> holidays = HolidayRefresher.parseMonth(2081, 4, new ObjectMapper().readTree(MONTH_JSON));
+        assertEquals(2, holidays.size());
+        assertEquals("Festival", holidays.get(0).getName());
+        assertEquals(2, holidays.get(0).getDay());
+        assertEquals("Holiday", holidays.get(1).getName());
+        assertTrue(holidays.get(1).isPublicHoliday());
+    }
+
+    @Test
+    public void diffWritesOnlyWhatChanged() {
+        Map<String, Holiday> stored = new LinkedHashMap<>();
+        stored.put("same", new Holiday(2081, 0, 1, "New Year", "New Year", true));
+        stored.put("changed", new Holiday(2081, 0, 5, "Event", "Old text", false));
+        stored.put("copy", new Holiday(2081, 0, 1, "New Year", "New Year", true));
+        stored.put("gone", new Holiday(2081, 0, 9, "Removed", null, false));
+        List<Holiday> fetched = Arrays.asList(new Holiday(2081, 0, 1, "New Year", "New Year", true),
+                new Holiday(2081, 0, 5, "Event", "New text", true), new Holiday(2081, 0, 12, "Added", null, true));
+
+        HolidayRefresher.Changes changes = HolidayRefresher.diff(stored, fetched);
+        assertEquals(Collections.singletonList(fetched.get(2)), changes.inserts);
+        assertEquals(Collections.singletonMap("changed", fetched.get(1)), changes.updates);
+        assertEquals(Arrays.asList("copy", "gone"), changes.deletes);
+
+        // A month fetched without events deletes every stored one
+        assertEquals(new ArrayList<>(stored.keySet()),
+                HolidayRefresher.diff(stored, Collections.emptyList()).deletes);
+    }
+
+    @Test
+    public void bundledDatasetIsWellFormed() {
+        List<Holiday> holidays = HolidayDataset.get();
+        assertTrue(holidays.size() > 100);
+        for (Holiday holiday : holidays) {
+            assertTrue(holiday.toString(), holiday.getYear() >= 2075 && holiday.getYear() <= 2085);
+            assertTrue(holiday.toString(), holiday.getMonth() >= 0 && holiday.getMonth() < 12);
+            assertTrue(holiday.toString(), holiday.getDay() >= 1 && holiday.getDay() <= 32);
+            assertTrue(holiday.toString(), !holiday.getName().isEmpty() && !holiday.getDescription().isEmpty());
+        }
+    }
+}
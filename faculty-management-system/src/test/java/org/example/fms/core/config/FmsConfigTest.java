@@ -0,0 +1,82 @@
+package org.example.fms.core.config;
+
+import org.example.fms.core.audit.AuditWriter;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FmsConfigTest {
+
+    @Test
+    public void defaultsApplyWithoutOverrides() {
+        FmsConfig config = FmsConfig.load(Collections.emptyMap(), new Properties());
+        assertEquals("dev", config.getProfile());
+        assertEquals(8080, config.getServerPort());
+        assertEquals(FmsConfig.ThreadModel.PLATFORM, config.getServerThreads());
+        assertEquals(10, config.newPoolConfig().getMaxSize());
+        assertEquals(10_000, config.newPoolConfig().getLeakDetectionThresholdMillis()); // From fms-dev
+    }
+
+    @Test
+    public void laterLayersWin() {
+        Map<String, String> env = new HashMap<>();
+        env.put("FMS_PROFILE", "benchmark");
+        env.put("FMS_POOL_MAXSIZE", "30");
+        env.put("FMS_SERVER_PORT", "9000");
+        Properties system = new Properties();
+        system.setProperty("fms.server.port", "9090");
+        system.setProperty("fms.audit.overflow", "drop");
+
+        FmsConfig config = FmsConfig.load(env, system);
+        assertEquals("benchmark", config.getProfile());
+        assertEquals(FmsConfig.ThreadModel.VIRTUAL, config.getServerThreads()); // Profile
+        assertEquals(30, config.newPoolConfig().getMaxSize()); // Environment over profile
+        assertEquals(9090, config.getServerPort()); // System property over environment
+        assertEquals(AuditWriter.OverflowPolicy.DROP, config.getAuditOverflow());
+    }
+
+    @Test
+    public void reportsEveryProblemAtOnce() throws Exception {
+        File external = File.createTempFile("fms", ".properties");
+        external.deleteOnExit();
+        Files.write(external.toPath(), "server.maxThread=50\n".getBytes(StandardCharsets.UTF_8));
+        Properties system = new Properties();
+        system.setProperty("fms.config", external.getPath());
+        system.setProperty("fms.server.port", "http");
+        system.setProperty("fms.server.threads", "green");
+        system.setProperty("fms.pool.minIdle", "50");
+
+        try {
+            FmsConfig.load(Collections.emptyMap(), system);
+            fail("Invalid settings must be rejected");
+        } catch (IllegalStateException e) {
+            String message = e.getMessage();
+            assertTrue(message, message.contains("Unknown setting 'server.maxThread'"));
+            assertTrue(message, message.contains("server.port='http'"));
+            assertTrue(message, message.contains("server.threads='green'"));
+            assertTrue(message, message.contains("minIdle"));
+        }
+    }
+
+    @Test
+    public void rejectsUnknownProfile() {
+        Properties system = new Properties();
+        system.setProperty("fms.profile", "staging");
+        try {
+            FmsConfig.load(Collections.emptyMap(), system);
+            fail("Unknown profile must be rejected");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Unknown profile 'staging'"));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.fms.core.database;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TableVersionsTest {
+
+    private static final String[] TABLES = { "test_notices", "test_users" };
+
+    @Test
+    public void tagIsStableUntilATableItReadsChanges() {
+        String before = TableVersions.etag(TABLES, "notices", "limit=50", "user-1");
+        assertEquals(before, TableVersions.etag(TABLES, "notices", "limit=50", "user-1"));
+
+        TableVersions.bump("test_unrelated");
+        assertEquals(before, TableVersions.etag(TABLES, "notices", "limit=50", "user-1"));
+
+        TableVersions.bump("test_users");
+        assertNotEquals(before, TableVersions.etag(TABLES, "notices", "limit=50", "user-1"));
+    }
+
+    @Test
+    public void tagDependsOnTheRepresentation() {
+        String tag = TableVersions.etag(TABLES, "notices", "limit=50", "user-1", "gzip");
+        assertNotEquals(tag, TableVersions.etag(TABLES, "notices", "limit=50", "user-2", "gzip"));
+        assertNotEquals(tag, TableVersions.etag(TABLES, "notices", "limit=50", "user-1", "identity"));
+        assertTrue(tag.startsWith("\"") && tag.endsWith("\""));
+    }
+
+    @Test
+    public void ifNoneMatchUsesWeakComparisonOverAList() {
+        String tag = TableVersions.etag(TABLES, "x");
+        assertTrue(TableVersions.matches("\"other\", " + tag, tag));
+        assertTrue(TableVersions.matches("W/" + tag, tag));
+        assertTrue(TableVersions.matches("*", tag));
+        assertFalse(TableVersions.matches("\"other\"", tag));
+        assertFalse(TableVersions.matches(null, tag));
+    }
+}
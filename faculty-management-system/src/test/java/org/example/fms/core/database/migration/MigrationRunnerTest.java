@@ -0,0 +1,37 @@
+package org.example.fms.core.database.migration;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class MigrationRunnerTest {
+
+    @Test
+    public void splitterIgnoresSemicolonsInCommentsAndLiterals() {
+        String script = "-- header; not a statement\n"
+                + "CREATE TABLE a (id INT); /* block; comment */\n"
+                + "INSERT INTO a VALUES ('x;y', 'it''s; fine');\n"
+                + "   \n";
+        List<String> statements = SqlScriptParser.split(script);
+        assertEquals(Arrays.asList("CREATE TABLE a (id INT)", "INSERT INTO a VALUES ('x;y', 'it''s; fine')"),
+                statements);
+    }
+
+    @Test
+    public void checksumIgnoresLineEndings() {
+        assertEquals(Migration.checksum("SELECT 1;\nSELECT 2;"), Migration.checksum("SELECT 1;\r\nSELECT 2;"));
+    }
+
+    @Test
+    public void bundledMigrationsLoadInVersionOrder() {
+        List<Migration> migrations = MigrationRunner.loadMigrations();
+        for (int i = 0; i < migrations.size(); i++) {
+            assertEquals(i + 1, migrations.get(i).getVersion());
+            assertFalse(migrations.get(i).getStatements().isEmpty());
+        }
+    }
+}
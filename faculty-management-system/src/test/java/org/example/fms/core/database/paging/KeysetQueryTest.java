@@ -0,0 +1,81 @@
+package org.example.fms.core.database.paging;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class KeysetQueryTest {
+
+    @Test
+    public void firstPageHasNoSeekPredicate() {
+        KeysetQuery query = new KeysetQuery("id, title", "notices").orderBy(true, "published_date", "id");
+        assertEquals("SELECT id, title, published_date AS _k0, id AS _k1 FROM notices"
+                + " ORDER BY published_date DESC, id DESC LIMIT ?", query.pageSql(null));
+    }
+
+    @Test
+    public void laterPagesSeekPastTheCursor() {
+        KeysetQuery query = new KeysetQuery("a.date", "student_attendance a")
+                .where("a.student_id = ?", "s1")
+                .orderBy(false, "a.date", "a.id");
+        assertEquals("SELECT a.date, a.date AS _k0, a.id AS _k1 FROM student_attendance a"
+                + " WHERE a.student_id = ? AND ((a.date > ?) OR (a.date = ? AND a.id > ?))"
+                + " ORDER BY a.date ASC, a.id ASC LIMIT ?", query.pageSql(Arrays.asList("2026-01-01", "x")));
+        assertEquals("SELECT COUNT(*) FROM student_attendance a WHERE a.student_id = ?", query.countSql());
+    }
+
+    @Test
+    public void cursorRoundTripsAndIsBoundToItsType() {
+        String cursor = PageCursor.encode("users", Arrays.asList("2026-02-21 10:00:00", "abc"));
+        List<String> key = PageCursor.decode("users", cursor);
+        assertEquals(Arrays.asList("2026-02-21 10:00:00", "abc"), key);
+        try {
+            PageCursor.decode("students", cursor);
+            fail("Cursor from another list must be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void nullKeysSortFirstAndSurviveTheCursor() {
+        KeysetQuery query = new KeysetQuery("id", "notices").orderBy(true, "published_date", "id")
+                .nullable("published_date");
+        assertEquals("SELECT id, published_date AS _k0, id AS _k1 FROM notices"
+                + " WHERE (((published_date < ? OR published_date IS NULL)) OR (published_date = ? AND id < ?))"
+                + " ORDER BY published_date DESC, id DESC LIMIT ?",
+                query.pageSql(Arrays.asList("2026-01-01 00:00:00", "n9")));
+
+        // A page that ended on a notice without a publish date continues among the others without one
+        List<String> nullKey = PageCursor.decode("notices", PageCursor.encode("notices", Arrays.asList(null, "n5")));
+        assertEquals(Arrays.asList(null, "n5"), nullKey);
+        assertEquals("SELECT id, published_date AS _k0, id AS _k1 FROM notices"
+                + " WHERE ((published_date IS NULL AND id < ?))"
+                + " ORDER BY published_date DESC, id DESC LIMIT ?", query.pageSql(nullKey));
+
+        KeysetQuery ascending = new KeysetQuery("id", "learning_materials").orderBy(false, "created_at", "id")
+                .nullable("created_at");
+        assertEquals("SELECT id, created_at AS _k0, id AS _k1 FROM learning_materials"
+                + " WHERE ((created_at IS NOT NULL) OR (created_at IS NULL AND id > ?))"
+                + " ORDER BY created_at ASC, id ASC LIMIT ?", ascending.pageSql(nullKey));
+
+        try {
+            query.checkCursor(Arrays.asList("2026-01-01 00:00:00", null));
+            fail("A NULL for a column that cannot be NULL must be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void pageSizeIsClampedToServerCap() {
+        PageRequest page = PageRequest.parse("users", "100000", null, null);
+        assertEquals(PageRequest.MAX_PAGE_SIZE, page.getLimit());
+        assertNull(page.getAfter());
+    }
+}
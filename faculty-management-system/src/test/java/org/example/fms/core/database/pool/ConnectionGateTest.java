@@ -0,0 +1,62 @@
+package org.example.fms.core.database.pool;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class ConnectionGateTest {
+
+    private final AtomicInteger closed = new AtomicInteger();
+
+    @Test
+    public void permitIsHeldUntilTheConnectionIsClosed() throws Exception {
+        ConnectionGate gate = new ConnectionGate(1, 50);
+        Connection first = gate.acquire(this::fakeConnection);
+        try {
+            gate.acquire(this::fakeConnection);
+            fail("Second caller must wait for the only permit");
+        } catch (SQLTimeoutException expected) {
+            // Expected
+        }
+
+        first.close();
+        first.close(); // A second close must not release a second permit
+        assertEquals(1, closed.get());
+        try (Connection second = gate.acquire(this::fakeConnection)) {
+            assertEquals(1, gate.getStats().get("inUse"));
+        }
+        assertEquals(0, gate.getStats().get("inUse"));
+        assertEquals(1L, gate.getStats().get("timeouts"));
+    }
+
+    @Test
+    public void failedBorrowGivesThePermitBack() throws Exception {
+        ConnectionGate gate = new ConnectionGate(1, 50);
+        try {
+            gate.acquire(() -> {
+                throw new SQLException("pool exhausted");
+            });
+            fail("Borrow failure must reach the caller");
+        } catch (SQLException expected) {
+            // Expected
+        }
+        gate.acquire(this::fakeConnection).close();
+    }
+
+    private Connection fakeConnection() {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        closed.incrementAndGet();
+                    }
+                    return null;
+                });
+    }
+}
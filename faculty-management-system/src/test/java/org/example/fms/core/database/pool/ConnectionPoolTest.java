@@ -0,0 +1,186 @@
+package org.example.fms.core.database.pool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Exercises the pool against in-memory fake connections.
+ */
+public class ConnectionPoolTest {
+
+    private final AtomicInteger opened = new AtomicInteger();
+    private ConnectionPool pool;
+
+    @Before
+    public void setUp() {
+        PoolConfig config = new PoolConfig();
+        config.setJdbcUrl("jdbc:fake");
+        config.setMinIdle(0);
+        config.setMaxSize(2);
+        config.setAcquireTimeoutMillis(100);
+        pool = new ConnectionPool(config, this::fakeConnection);
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void reusesReturnedConnections() throws Exception {
+        try (Connection c = pool.getConnection()) {
+            assertFalse(c.isClosed());
+        }
+        try (Connection c = pool.getConnection()) {
+            assertFalse(c.isClosed());
+        }
+        assertEquals(1, opened.get());
+        assertEquals(1, pool.getMetrics().getIdle());
+        assertEquals(2, pool.getMetrics().getAcquired());
+    }
+
+    @Test
+    public void timesOutWhenExhausted() throws Exception {
+        Connection a = pool.getConnection();
+        Connection b = pool.getConnection();
+        try {
+            pool.getConnection();
+            fail("Expected acquire timeout");
+        } catch (SQLTimeoutException expected) {
+            assertEquals(1, pool.getMetrics().getTimeouts());
+        } finally {
+            a.close();
+            b.close();
+        }
+    }
+
+    @Test
+    public void closedHandleRejectsFurtherUse() throws Exception {
+        Connection c = pool.getConnection();
+        c.close();
+        assertTrue(c.isClosed());
+        try {
+            c.createStatement();
+            fail("Expected closed handle to reject calls");
+        } catch (java.sql.SQLException expected) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void timesStatementExecution() throws Exception {
+        try (Connection c = pool.getConnection();
+                PreparedStatement stmt = c.prepareStatement("UPDATE t SET x = 1")) {
+            assertEquals(3, stmt.executeUpdate());
+            stmt.setInt(1, 2); // Not an execute call, not timed
+            assertEquals(3, stmt.executeUpdate());
+        }
+        PoolMetrics metrics = pool.getMetrics();
+        assertEquals(2L, metrics.getExecuteLatency().get("count"));
+        assertEquals(6, metrics.getRowsAffected());
+    }
+
+    @Test
+    public void countsBatchEntriesWithoutARowCountAsOneRow() throws Exception {
+        try (Connection c = pool.getConnection();
+                PreparedStatement stmt = c.prepareStatement("INSERT INTO t VALUES (?)")) {
+            stmt.executeBatch();
+        }
+        // SUCCESS_NO_INFO, SUCCESS_NO_INFO, 2, EXECUTE_FAILED
+        assertEquals(4, pool.getMetrics().getRowsAffected());
+    }
+
+    @Test
+    public void physicalConnectionIsNotReachableFromItsObjects() throws Exception {
+        try (Connection c = pool.getConnection();
+                PreparedStatement stmt = c.prepareStatement("SELECT 1");
+                ResultSet rs = stmt.executeQuery()) {
+            assertSame(c, stmt.getConnection());
+            assertSame(stmt, rs.getStatement());
+            assertSame(c, rs.getStatement().getConnection());
+            assertSame(c, c.unwrap(Connection.class));
+            assertTrue(c.isWrapperFor(Connection.class));
+            assertSame(stmt, stmt.unwrap(PreparedStatement.class));
+            // A driver-specific connection type would be the physical connection
+            assertFalse(c.isWrapperFor(VendorConnection.class));
+            try {
+                c.unwrap(VendorConnection.class);
+                fail("Expected the physical connection to stay hidden");
+            } catch (SQLException expected) {
+                // Expected
+            }
+        }
+        assertEquals(1, pool.getMetrics().getIdle());
+    }
+
+    /** Stands in for a driver's own connection interface. */
+    private interface VendorConnection extends Connection {
+    }
+
+    private Connection fakeConnection() {
+        opened.incrementAndGet();
+        boolean[] closed = { false };
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                            closed[0] = true;
+                            return null;
+                        case "isClosed":
+                            return closed[0];
+                        case "isValid":
+                        case "getAutoCommit":
+                            return true;
+                        case "isReadOnly":
+                            return false;
+                        case "prepareStatement":
+                            return fakeStatement();
+                        case "isWrapperFor":
+                            return true;
+                        case "unwrap":
+                            return proxy;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private PreparedStatement fakeStatement() {
+        return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "executeUpdate":
+                            return 3;
+                        case "executeQuery":
+                            return fakeResultSet((PreparedStatement) proxy);
+                        case "executeBatch":
+                            return new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, 2,
+                                    Statement.EXECUTE_FAILED };
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private ResultSet fakeResultSet(PreparedStatement statement) {
+        return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> method.getName().equals("getStatement") ? statement : null);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.fms.core.database.seed;
+
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the generator against a fake connection that records every statement.
+ */
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void sameSeedProducesSameRows() throws Exception {
+        assertEquals(record(settings(7)), record(settings(7)));
+        assertNotEquals(record(settings(7)), record(settings(8)));
+    }
+
+    @Test
+    public void rowCountsFollowTheSettings() throws Exception {
+        GeneratorSettings settings = settings(1);
+        Map<String, Long> rows = new SyntheticDataGenerator(settings, password -> "hash").generate(
+                new Recorder().connection());
+
+        int students = 2 * 8 * 3 * 4;
+        assertEquals(students, settings.getStudentCount());
+        assertEquals(Long.valueOf(students), rows.get("students"));
+        assertEquals(Long.valueOf(students + settings.getFacultyCount()), rows.get("users"));
+        // Semester n has completed n - 1 terms of 2 subjects with 3 results each
+        assertEquals(Long.valueOf(2 * 12 * 28 * 2 * 3), rows.get("exam_results"));
+        // 2 subjects x 2 assignments per semester, each handed in by 5 students
+        assertEquals(Long.valueOf(2 * 8 * 2 * 2 * 5), rows.get("submissions"));
+        assertTrue(rows.get("student_attendance") > students * 100L);
+    }
+
+    @Test
+    public void rowsAreSentInMultiRowStatements() throws Exception {
+        Recorder recorder = new Recorder();
+        new SyntheticDataGenerator(settings(1), password -> "hash").generate(recorder.connection());
+
+        // 192 students at 25 rows per statement: seven full statements and a remainder
+        List<Integer> studentStatements = new ArrayList<>();
+        for (String statement : recorder.statements) {
+            if (statement.startsWith("INSERT INTO students ")) {
+                studentStatements.add(statement.split("\\), \\(", -1).length);
+            }
+        }
+        assertEquals(Arrays.asList(25, 25, 25, 25, 25, 25, 25, 17), studentStatements);
+    }
+
+    @Test
+    public void statementShape() {
+        assertEquals("INSERT INTO t (a, b) VALUES (?, ?), (?, ?)",
+                MultiRowInsert.sql("t", new String[] { "a", "b" }, 2));
+    }
+
+    private static GeneratorSettings settings(long seed) {
+        GeneratorSettings settings = new GeneratorSettings();
+        settings.setPrograms(2);
+        settings.setSectionsPerSemester(3);
+        settings.setStudentsPerSection(4);
+        settings.setSubjectsPerSemester(2);
+        settings.setAttendanceYears(1);
+        settings.setResultsPerTerm(3);
+        settings.setAssignmentsPerSubject(2);
+        settings.setSubmissionsPerAssignment(5);
+        settings.setRowsPerStatement(25);
+        settings.setSeed(seed);
+        settings.setUntil(LocalDate.of(2026, 2, 20));
+        return settings;
+    }
+
+    private static List<String> record(GeneratorSettings settings) throws Exception {
+        Recorder recorder = new Recorder();
+        new SyntheticDataGenerator(settings, password -> "hash:" + password).generate(recorder.connection());
+        return recorder.values;
+    }
+
+    /**
+     * Collects the SQL of every executed statement and its bound values.
+     */
+    private static final class Recorder {
+        final List<String> statements = new ArrayList<>();
+        final List<String> values = new ArrayList<>();
+        private boolean autoCommit = true;
+
+        Connection connection() {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "prepareStatement":
+                                return statement((String) args[0]);
+                            case "getAutoCommit":
+                                return autoCommit;
+                            case "setAutoCommit":
+                                autoCommit = (Boolean) args[0];
+                                return null;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        private PreparedStatement statement(String sql) {
+            List<Object> bound = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class }, (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setObject":
+                                bound.add(args[1]);
+                                return null;
+                            case "executeUpdate":
+                                statements.add(sql);
+                                values.add(bound.toString());
+                                bound.clear();
+                                return 1;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+    }
+}
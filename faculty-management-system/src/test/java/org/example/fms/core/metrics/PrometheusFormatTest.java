@@ -0,0 +1,47 @@
+package org.example.fms.core.metrics;
+
+import org.example.fms.core.util.LatencyHistogram;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class PrometheusFormatTest {
+
+    @Test
+    public void groupsSamplesByFamily() {
+        String text = new PrometheusFormat()
+                .counter("fms_requests_total", "Requests", 3, "route", "/a")
+                .gauge("fms_threads", "Threads", 7)
+                .counter("fms_requests_total", "Requests", 4, "route", "/b")
+                .render();
+        assertEquals("# HELP fms_requests_total Requests\n"
+                + "# TYPE fms_requests_total counter\n"
+                + "fms_requests_total{route=\"/a\"} 3\n"
+                + "fms_requests_total{route=\"/b\"} 4\n"
+                + "# HELP fms_threads Threads\n"
+                + "# TYPE fms_threads gauge\n"
+                + "fms_threads 7\n", text);
+    }
+
+    @Test
+    public void writesHistogramsInSeconds() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(40_000); // 40us
+        histogram.recordNanos(3_000_000); // 3ms
+        String text = new PrometheusFormat()
+                .histogram("fms_duration_seconds", "Duration", histogram, "type", "users")
+                .render();
+        assertTrue(text, text.contains("fms_duration_seconds_bucket{type=\"users\",le=\"0.00005\"} 1\n"));
+        assertTrue(text, text.contains("fms_duration_seconds_bucket{type=\"users\",le=\"0.005\"} 2\n"));
+        assertTrue(text, text.contains("fms_duration_seconds_bucket{type=\"users\",le=\"+Inf\"} 2\n"));
+        assertTrue(text, text.contains("fms_duration_seconds_sum{type=\"users\"} 0.00304\n"));
+        assertTrue(text, text.contains("fms_duration_seconds_count{type=\"users\"} 2\n"));
+    }
+
+    @Test
+    public void escapesLabelValues() {
+        String text = new PrometheusFormat().gauge("fms_x", "X", 1, "gc", "a\"b\\c").render();
+        assertTrue(text, text.contains("fms_x{gc=\"a\\\"b\\\\c\"} 1\n"));
+    }
+}
@@ -0,0 +1,24 @@
+package org.example.fms.core.security;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PasswordHasherTest {
+
+    @Test
+    public void hashesAndVerifiesOnTheExecutor() {
+        String hash = PasswordHasher.hashPassword("secret-123");
+        assertTrue(PasswordHasher.checkPasswordAsync("secret-123", hash).join());
+        assertFalse(PasswordHasher.checkPasswordAsync("wrong", hash).join());
+
+        Map<String, Object> stats = PasswordHasher.getStats();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> latency = (Map<String, Object>) stats.get("hashLatency");
+        assertTrue((Long) latency.get("count") >= 3);
+        assertTrue(PasswordHasher.estimatedBacklogSeconds() >= 1);
+    }
+}
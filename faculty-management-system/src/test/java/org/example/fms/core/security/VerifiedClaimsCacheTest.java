@@ -0,0 +1,52 @@
+package org.example.fms.core.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class VerifiedClaimsCacheTest {
+
+    private static Claims claims(String subject, long expiresInMillis) {
+        return Jwts.claims().setSubject(subject)
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+
+    @Test
+    public void repeatedTokenIsServedFromCache() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        String token = JwtUtil.generateToken("user-1", "admin");
+        Claims verified = JwtUtil.validateTokenAndGetClaims(token);
+
+        assertNull(cache.get(token));
+        cache.put(token, verified);
+        assertSame(verified, cache.get(token));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void expiredClaimsAreNotReturned() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(10);
+        cache.put("token", claims("user-1", -1));
+        assertNull(cache.get("token"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void leastRecentlyUsedTokenIsEvicted() {
+        VerifiedClaimsCache cache = new VerifiedClaimsCache(2);
+        cache.put("a", claims("a", 60_000));
+        cache.put("b", claims("b", 60_000));
+        cache.get("a");
+        cache.put("c", claims("c", 60_000));
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals("a", cache.get("a").getSubject());
+    }
+}
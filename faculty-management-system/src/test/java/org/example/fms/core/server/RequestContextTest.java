@@ -0,0 +1,43 @@
+package org.example.fms.core.server;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RequestContextTest {
+
+    @Test
+    public void keepsOnlySafeCallerIds() {
+        assertEquals("client-42.a:b_c", RequestContext.acceptOrCreateId("client-42.a:b_c"));
+        assertNotEquals("bad id", RequestContext.acceptOrCreateId("bad id"));
+        assertEquals(36, RequestContext.acceptOrCreateId("x\r\nSet-Cookie: a=b").length());
+        assertEquals(36, RequestContext.acceptOrCreateId(new String(new char[65]).replace('\0', 'a')).length());
+        assertEquals(36, RequestContext.acceptOrCreateId(null).length());
+    }
+
+    @Test
+    public void recordsOnlyWhileBound() {
+        RequestContext.recordStatement(1_000); // No request bound; ignored
+        assertNull(RequestContext.current());
+
+        RequestContext context = new RequestContext("r1");
+        RequestContext previous = RequestContext.bind(context);
+        try {
+            assertSame(context, RequestContext.current());
+            RequestContext.recordStatement(1_000);
+            RequestContext.recordFetch(500);
+            RequestContext.recordDbWait(200);
+            RequestContext.recordSerialization(300);
+        } finally {
+            RequestContext.restore(previous);
+        }
+        assertNull(RequestContext.current());
+        assertEquals(1_500, context.getDbNanos());
+        assertEquals(1, context.getDbCalls());
+        assertEquals(200, context.getDbWaitNanos());
+        assertEquals(300, context.getSerializeNanos());
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.fms.core.server;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class StartupOrchestratorTest {
+
+    @Test
+    public void runsIndependentPhasesTogetherAndDependentsAfter() throws Exception {
+        StartupOrchestrator startup = new StartupOrchestrator(3);
+        CountDownLatch bothRunning = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean(true);
+
+        StartupOrchestrator.Phase a = startup.critical("a", () -> {
+            bothRunning.countDown();
+            overlapped.compareAndSet(true, bothRunning.await(5, TimeUnit.SECONDS));
+        });
+        StartupOrchestrator.Phase b = startup.critical("b", () -> {
+            bothRunning.countDown();
+            overlapped.compareAndSet(true, bothRunning.await(5, TimeUnit.SECONDS));
+        });
+        AtomicBoolean depsDone = new AtomicBoolean();
+        startup.background("c", () -> depsDone.set(bothRunning.getCount() == 0), a, b);
+
+        startup.awaitCritical();
+        startup.whenAllDone().get(5, TimeUnit.SECONDS);
+        assertTrue(overlapped.get());
+        assertTrue(depsDone.get());
+        List<String> timeline = startup.timeline();
+        assertEquals(3, timeline.size());
+        assertTrue(timeline.get(2), timeline.get(2).startsWith("c "));
+    }
+
+    @Test
+    public void failedCriticalPhaseSkipsItsDependents() throws Exception {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        StartupOrchestrator.Phase schema = startup.critical("schema", () -> {
+            throw new IllegalStateException("database down");
+        });
+        AtomicBoolean ran = new AtomicBoolean();
+        startup.critical("admin", () -> ran.set(true), schema);
+
+        try {
+            startup.awaitCritical();
+            fail("expected the failure to surface");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("'schema' failed"));
+        }
+        startup.whenAllDone().get(5, TimeUnit.SECONDS);
+        assertFalse(ran.get());
+        assertTrue(startup.timeline().toString(), startup.timeline().get(1).contains("skipped"));
+    }
+
+    @Test
+    public void backgroundFailureDoesNotBlockReadiness() throws Exception {
+        StartupOrchestrator startup = new StartupOrchestrator(2);
+        startup.critical("schema", () -> {
+        });
+        startup.background("demo-data", () -> {
+            throw new IllegalStateException("seed failed");
+        });
+        startup.awaitCritical();
+        startup.whenAllDone().get(5, TimeUnit.SECONDS);
+        assertTrue(startup.timeline().toString(), startup.timeline().toString().contains("FAILED"));
+    }
+}
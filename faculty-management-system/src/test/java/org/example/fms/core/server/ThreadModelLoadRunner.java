@@ -0,0 +1,191 @@
+package org.example.fms.core.server;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.example.fms.core.database.pool.ConnectionGate;
+import org.example.fms.core.database.pool.ConnectionPool;
+import org.example.fms.core.database.pool.PoolConfig;
+import org.example.fms.core.util.LatencyHistogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compares platform-thread and virtual-thread request handling under many
+ * concurrent dashboard clients. Not a unit test; run it by hand:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * java -cp target/classes:target/test-classes:$(cat cp.txt) \
+ *     org.example.fms.core.server.ThreadModelLoadRunner [clients] [seconds]
+ * </pre>
+ *
+ * The server mimics the dashboard mix: a share of requests run a 20 ms
+ * "query" on a 10-connection pool (fake connections, so no MySQL is needed);
+ * the rest are answered from memory like cached reference lists and 304s.
+ * With platform threads, requests waiting for a connection hold Tomcat's 200
+ * workers and the in-memory requests queue behind them; with virtual threads
+ * only the database work waits. The virtual mode needs a Java 21+ runtime.
+ */
+public class ThreadModelLoadRunner {
+
+    private static final int POOL_SIZE = 10;
+    private static final long QUERY_MILLIS = 20;
+    private static final double DB_SHARE = 0.3;
+    private static final byte[] CACHED_BODY = ("{\"items\":[" + "{\"code\":\"CSC101\",\"name\":\"Intro\"},".repeat(40)
+            + "{}],\"next_cursor\":null}").getBytes(StandardCharsets.UTF_8);
+
+    public static void main(String[] args) throws Exception {
+        int clients = args.length > 0 ? Integer.parseInt(args[0]) : 400;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 15;
+
+        System.out.println("clients=" + clients + " seconds=" + seconds + " pool=" + POOL_SIZE
+                + " query=" + QUERY_MILLIS + "ms db-share=" + DB_SHARE + " java=" + System.getProperty("java.version"));
+        run(false, clients, seconds);
+        if (RequestExecutors.isVirtualThreadSupported()) {
+            run(true, clients, seconds);
+        } else {
+            System.out.println("virtual: skipped, needs Java 21+");
+        }
+        System.exit(0);
+    }
+
+    private static void run(boolean virtual, int clients, int seconds) throws Exception {
+        PoolConfig config = new PoolConfig();
+        config.setJdbcUrl("jdbc:fake");
+        config.setMinIdle(POOL_SIZE);
+        config.setMaxSize(POOL_SIZE);
+        config.setAcquireTimeoutMillis(10_000);
+        ConnectionPool pool = new ConnectionPool(config, ThreadModelLoadRunner::fakeConnection);
+        ConnectionGate gate = virtual ? new ConnectionGate(POOL_SIZE, 10_000) : null;
+
+        Tomcat tomcat = new Tomcat();
+        tomcat.setPort(0);
+        tomcat.setBaseDir(Files.createTempDirectory("fms-load").toString());
+        Connector connector = tomcat.getConnector();
+        ExecutorService executor = null;
+        if (virtual) {
+            executor = RequestExecutors.newVirtualThreadExecutor();
+            connector.getProtocolHandler().setExecutor(executor);
+        }
+        Context context = tomcat.addContext("", new File(".").getAbsolutePath());
+        Tomcat.addServlet(context, "load", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                resp.setContentType("application/json");
+                if (req.getRequestURI().endsWith("/db")) {
+                    try (Connection conn = gate != null ? gate.acquire(pool::getConnection) : pool.getConnection()) {
+                        Thread.sleep(QUERY_MILLIS);
+                    } catch (SQLException | InterruptedException e) {
+                        resp.setStatus(503);
+                        return;
+                    }
+                    resp.getWriter().write("{\"items\":[],\"next_cursor\":null}");
+                } else {
+                    resp.getOutputStream().write(CACHED_BODY);
+                }
+            }
+        });
+        context.addServletMappingDecoded("/*", "load");
+        tomcat.start();
+        String base = "http://localhost:" + connector.getLocalPort();
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5)).build();
+        LatencyHistogram dbLatency = new LatencyHistogram();
+        LatencyHistogram cachedLatency = new LatencyHistogram();
+        AtomicLong errors = new AtomicLong();
+
+        // Warm up connections and JIT before measuring
+        drive(client, base, Math.min(clients, 50), 2, new LatencyHistogram(), new LatencyHistogram(), errors);
+        errors.set(0);
+        long start = System.nanoTime();
+        drive(client, base, clients, seconds, dbLatency, cachedLatency, errors);
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        long total = dbLatency.getCount() + cachedLatency.getCount();
+        System.out.printf("%-8s throughput=%7.0f req/s  errors=%d%n", virtual ? "virtual" : "platform",
+                total / elapsed, errors.get());
+        System.out.printf("         db     n=%7d p50=%6.1fms p99=%7.1fms%n", dbLatency.getCount(),
+                dbLatency.percentileMicros(50) / 1000.0, dbLatency.percentileMicros(99) / 1000.0);
+        System.out.printf("         cached n=%7d p50=%6.1fms p99=%7.1fms%n", cachedLatency.getCount(),
+                cachedLatency.percentileMicros(50) / 1000.0, cachedLatency.percentileMicros(99) / 1000.0);
+
+        tomcat.stop();
+        tomcat.destroy();
+        if (executor != null) {
+            executor.shutdown();
+        }
+        pool.shutdown();
+    }
+
+    private static void drive(HttpClient client, String base, int clients, int seconds, LatencyHistogram db,
+            LatencyHistogram cached, AtomicLong errors) throws InterruptedException {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            Thread t = new Thread(() -> {
+                HttpRequest dbRequest = HttpRequest.newBuilder(URI.create(base + "/db")).build();
+                HttpRequest cachedRequest = HttpRequest.newBuilder(URI.create(base + "/cached")).build();
+                while (System.nanoTime() < deadline) {
+                    boolean toDb = ThreadLocalRandom.current().nextDouble() < DB_SHARE;
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> resp = client.send(toDb ? dbRequest : cachedRequest,
+                                HttpResponse.BodyHandlers.ofByteArray());
+                        if (resp.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                    } catch (IOException e) {
+                        errors.incrementAndGet();
+                        continue;
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    (toDb ? db : cached).recordNanos(System.nanoTime() - sent);
+                }
+            }, "load-client-" + i);
+            t.start();
+            threads.add(t);
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+    }
+
+    private static Connection fakeConnection() {
+        return (Connection) Proxy.newProxyInstance(ThreadModelLoadRunner.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isValid":
+                        case "getAutoCommit":
+                            return true;
+                        case "isClosed":
+                        case "isReadOnly":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.fms.ui;
+
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PagedTableModelTest {
+
+    private static final int ROWS = 95;
+    private static final int PAGE_SIZE = 10;
+
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final List<TableModelEvent> events = Collections.synchronizedList(new ArrayList<>());
+
+    /** Pages of "row N" strings, the cursor being the first row's index. */
+    private PagedTableModel.Page fetch(String cursor) {
+        fetches.incrementAndGet();
+        int from = cursor == null ? 0 : Integer.parseInt(cursor);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = from; i < Math.min(from + PAGE_SIZE, ROWS); i++) {
+            rows.add(new Object[] { "row " + i, i });
+        }
+        int next = from + PAGE_SIZE;
+        return new PagedTableModel.Page(rows, next < ROWS ? Integer.toString(next) : null);
+    }
+
+    @Test
+    public void loadsPagesAsRowsArePaintedAndAppendsThemInOneEvent() throws Exception {
+        PagedTableModel model = onEdt(() -> {
+            PagedTableModel m = new PagedTableModel(new String[] { "Name", "Index" }, this::fetch, 3);
+            m.addTableModelListener(events::add);
+            return m;
+        });
+        assertEquals(1, (int) onEdt(model::getRowCount));
+        assertEquals(PagedTableModel.LOADING, onEdt(() -> model.getValueAt(0, 0)));
+
+        awaitRowCount(model, PAGE_SIZE + 1);
+        TableModelEvent insert = events.get(events.size() - 1);
+        assertEquals(TableModelEvent.INSERT, insert.getType());
+        assertEquals(1, insert.getFirstRow());
+        assertEquals(PAGE_SIZE, insert.getLastRow());
+        assertEquals(1, fetches.get());
+        assertEquals("row 0", onEdt(() -> model.getValueAt(0, 0)));
+
+        // Scroll to the end, painting the last row each time
+        int count;
+        while ((count = onEdt(model::getRowCount)) < ROWS || !onEdt(() -> model.isRowLoaded(ROWS - 1))) {
+            int last = count - 1;
+            onEdt(() -> model.getValueAt(last, 0));
+            awaitLoaded(model, last);
+        }
+        assertEquals(ROWS, (int) onEdt(model::getRowCount));
+        assertEquals("row 94", onEdt(() -> model.getValueAt(ROWS - 1, 0)));
+        assertEquals(ROWS / PAGE_SIZE + 1, fetches.get());
+        assertTrue(onEdt(model::getLoadedPageCount) <= 3);
+    }
+
+    @Test
+    public void dropsPagesOutsideTheWindowAndFetchesThemAgain() throws Exception {
+        PagedTableModel model = onEdt(() -> new PagedTableModel(new String[] { "Name" }, this::fetch, 2));
+        for (int page = 0; page * PAGE_SIZE < ROWS; page++) {
+            int row = page * PAGE_SIZE;
+            onEdt(() -> model.getValueAt(row, 0));
+            awaitLoaded(model, row);
+        }
+        assertEquals(2, (int) onEdt(model::getLoadedPageCount));
+        assertFalse(onEdt(() -> model.isRowLoaded(0)));
+
+        assertEquals(PagedTableModel.LOADING, onEdt(() -> model.getValueAt(3, 0)));
+        awaitLoaded(model, 3);
+        assertEquals("row 3", onEdt(() -> model.getValueAt(3, 0)));
+        assertEquals(ROWS, (int) onEdt(model::getRowCount));
+    }
+
+    private static void awaitRowCount(PagedTableModel model, int rows) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (onEdt(model::getRowCount) < rows) {
+            assertTrue("timed out waiting for " + rows + " rows", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitLoaded(PagedTableModel model, int row) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!onEdt(() -> model.isRowLoaded(row))) {
+            assertTrue("timed out waiting for row " + row, System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static <T> T onEdt(Callable<T> action) throws Exception {
+        AtomicReference<T> result = new AtomicReference<>();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                result.set(action.call());
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return result.get();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.fms.bench;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of benchmarks.jar. Takes the usual JMH command line, but unless
+ * a result format is given, writes JSON to
+ * {@code jmh-results/results-<timestamp>.json} so every run leaves a file
+ * that {@link ResultComparator} can diff against the previous one.
+ *
+ * Examples:
+ * <pre>
+ *   java -jar target/benchmarks.jar                      (everything)
+ *   java -jar target/benchmarks.jar RowMapping -p rows=1000
+ *   java -jar target/benchmarks.jar -l                   (list benchmarks)
+ * </pre>
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams() || cli.shouldListProfilers()
+                || cli.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue()) {
+            File dir = new File("jmh-results");
+            if (!dir.isDirectory() && !dir.mkdirs()) {
+                throw new IllegalStateException("Could not create " + dir.getAbsolutePath());
+            }
+            String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            File file = new File(dir, "results-" + stamp + ".json");
+            options.resultFormat(ResultFormatType.JSON).result(file.getPath());
+            System.out.println("Results will be written to " + file.getAbsolutePath());
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.fms.bench;
+
+import org.example.fms.core.calendar.BsCalendar;
+import org.example.fms.core.calendar.BsDate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weekday of the first day of a BS month, as the dashboard calendar computes
+ * it on every repaint, and AD to BS conversion. Both are table lookups, so
+ * the cost should not depend on the year.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BsCalendarBenchmark {
+
+    @Param({ "2001", "2085" })
+    public int year;
+
+    private LocalDate adDate;
+
+    @Setup
+    public void setUp() {
+        adDate = BsCalendar.toAd(year, 11, 15);
+    }
+
+    @Benchmark
+    public int startWeekday() {
+        return BsCalendar.startWeekday(year, 11);
+    }
+
+    @Benchmark
+    public BsDate fromAd() {
+        return BsCalendar.fromAd(adDate);
+    }
+}
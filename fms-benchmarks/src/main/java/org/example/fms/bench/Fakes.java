@@ -0,0 +1,62 @@
+package org.example.fms.bench;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal stand-ins for container and driver objects, built as dynamic
+ * proxies. Every variant of a benchmark goes through the same proxies, so
+ * their cost cancels out in comparisons.
+ */
+final class Fakes {
+
+    private Fakes() {
+    }
+
+    /**
+     * A response whose writer discards output and which carries the given
+     * X-Request-Id header, as RequestContextFilter would have set it.
+     */
+    static HttpServletResponse response(String requestId) {
+        PrintWriter writer = new PrintWriter(Writer.nullWriter());
+        return (HttpServletResponse) Proxy.newProxyInstance(Fakes.class.getClassLoader(),
+                new Class<?>[] { HttpServletResponse.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getWriter":
+                            return writer;
+                        case "getHeader":
+                            return requestId;
+                        case "isCommitted":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    /**
+     * A forward-only result set over in-memory rows, read by column label.
+     */
+    static ResultSet resultSet(List<Map<String, String>> rows) {
+        int[] cursor = { -1 };
+        return (ResultSet) Proxy.newProxyInstance(Fakes.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++cursor[0] < rows.size();
+                        case "getString":
+                            return rows.get(cursor[0]).get((String) args[0]);
+                        case "wasNull":
+                            return false;
+                        default:
+                            return null;
+                    }
+                });
+    }
+}
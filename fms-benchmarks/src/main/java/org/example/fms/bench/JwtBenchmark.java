@@ -0,0 +1,46 @@
+package org.example.fms.bench;
+
+import io.jsonwebtoken.Claims;
+import org.example.fms.core.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue on login and the full signature check AuthFilter falls back to
+ * when a token is not in its verified-claims cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        token = JwtUtil.generateToken("bench-user-0001", "faculty");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return JwtUtil.generateToken("bench-user-0001", "faculty");
+    }
+
+    @Benchmark
+    public Claims validateTokenAndGetClaims() {
+        return JwtUtil.validateTokenAndGetClaims(token);
+    }
+}
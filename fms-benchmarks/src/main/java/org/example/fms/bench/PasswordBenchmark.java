@@ -0,0 +1,47 @@
+package org.example.fms.bench;
+
+import org.example.fms.core.security.PasswordUtil;
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one login password check at several BCrypt work factors. Each step
+ * up doubles the time; 12 is what the application hashes with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private static final String PASSWORD = "student123";
+
+    @Param({ "4", "8", "10", "12" })
+    public int workFactor;
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(workFactor));
+    }
+
+    @Benchmark
+    public boolean checkPassword() {
+        return PasswordUtil.checkPassword(PASSWORD, hash);
+    }
+}
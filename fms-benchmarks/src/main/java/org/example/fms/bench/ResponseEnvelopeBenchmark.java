@@ -0,0 +1,61 @@
+package org.example.fms.bench;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.example.fms.core.util.ResponseUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseUtil.sendResponse: building the success/data/error/meta envelope and
+ * serializing it, for a single object and for a list of records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEnvelopeBenchmark {
+
+    @Param({ "1", "100" })
+    public int records;
+
+    private HttpServletResponse response;
+    private Object data;
+
+    @Setup
+    public void setUp() {
+        response = Fakes.response("0f8fad5b-d9cb-469f-a165-70867728950e");
+        List<Map<String, Object>> list = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            Map<String, Object> record = new LinkedHashMap<>();
+            record.put("id", "user-" + i);
+            record.put("email", "student" + i + "@faculty.edu");
+            record.put("role", "student");
+            record.put("semester", i % 8 + 1);
+            list.add(record);
+        }
+        data = records == 1 ? list.get(0) : list;
+    }
+
+    @Benchmark
+    public void sendOk() throws IOException {
+        ResponseUtil.sendOk(response, data);
+    }
+}
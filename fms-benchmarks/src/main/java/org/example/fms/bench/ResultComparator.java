@@ -0,0 +1,100 @@
+package org.example.fms.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares two JMH JSON result files benchmark by benchmark and exits with
+ * status 1 if any got slower than the threshold allows.
+ *
+ * <pre>
+ *   java -cp target/benchmarks.jar org.example.fms.bench.ResultComparator \
+ *       jmh-results/baseline.json jmh-results/results-20240101-120000.json [thresholdPercent]
+ * </pre>
+ *
+ * Benchmarks are matched by name and parameters. A change only counts as a
+ * regression when it exceeds both the threshold and the combined error
+ * margins of the two runs, so noise on short runs is not reported.
+ */
+public class ResultComparator {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private static final class Score {
+        final double value;
+        final double error;
+        final String unit;
+        final boolean higherIsBetter;
+
+        Score(double value, double error, String unit, boolean higherIsBetter) {
+            this.value = value;
+            this.error = error;
+            this.unit = unit;
+            this.higherIsBetter = higherIsBetter;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultComparator <baseline.json> <candidate.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> candidate = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Candidate", "Change");
+        for (Map.Entry<String, Score> entry : candidate.entrySet()) {
+            Score after = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s  %s%n", entry.getKey(), "-", after.value, "new",
+                        after.unit);
+                continue;
+            }
+            double changePercent = (after.value - before.value) / before.value * 100.0;
+            double worsePercent = after.higherIsBetter ? -changePercent : changePercent;
+            boolean beyondNoise = Math.abs(after.value - before.value) > before.error + after.error;
+            String verdict = "";
+            if (worsePercent > threshold && beyondNoise) {
+                verdict = "  REGRESSION";
+                regressions++;
+            } else if (worsePercent < -threshold && beyondNoise) {
+                verdict = "  improved";
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%  %s%s%n", entry.getKey(), before.value, after.value,
+                    changePercent, after.unit, verdict);
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed by more than " + threshold + "%.");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> param = fields.next();
+                key.append(' ').append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").asDouble(0);
+            String mode = run.path("mode").asText();
+            scores.put(key.toString().replace("org.example.fms.", ""),
+                    new Score(metric.path("score").asDouble(), Double.isNaN(error) ? 0 : error,
+                            metric.path("scoreUnit").asText(), mode.equals("thrpt")));
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.fms.bench;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.fms.core.api.handler.list.UsersHandler;
+import org.example.fms.core.util.JsonStreamWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning a page of "users" rows into the JSON the dashboard returns: the
+ * streaming path DashboardDataServlet uses now (UsersHandler writing straight
+ * to a generator) against the tree-building approach it replaced (an
+ * ObjectNode per row, serialized at the end).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+
+    @Param({ "50", "1000" })
+    public int rows;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final UsersHandler handler = new UsersHandler();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private List<Map<String, String>> data;
+
+    @Setup
+    public void setUp() {
+        data = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Map<String, String> row = new LinkedHashMap<>();
+            row.put("id", String.format("%08x-6a1e-4c3b-9f2d-%012d", i, i));
+            row.put("email", "student" + i + "@faculty.edu");
+            row.put("role", i % 10 == 0 ? "faculty" : "student");
+            row.put("created", "2024-0" + (i % 9 + 1) + "-1" + (i % 10));
+            data.add(row);
+        }
+    }
+
+    @Benchmark
+    public int streaming() throws IOException, SQLException {
+        out.reset();
+        ResultSet rs = Fakes.resultSet(data);
+        try (JsonGenerator gen = JsonStreamWriter.createGenerator(out)) {
+            JsonStreamWriter.writeRows(gen, rs, Integer.MAX_VALUE, handler);
+        }
+        return out.size();
+    }
+
+    @Benchmark
+    public int tree() throws IOException, SQLException {
+        out.reset();
+        ResultSet rs = Fakes.resultSet(data);
+        ArrayNode items = mapper.createArrayNode();
+        while (rs.next()) {
+            ObjectNode item = items.addObject();
+            item.put("id", rs.getString("id").substring(0, 8) + "...");
+            item.put("email", rs.getString("email"));
+            item.put("role", rs.getString("role").toUpperCase());
+            item.put("created_at", rs.getString("created"));
+        }
+        mapper.writeValue(out, items);
+        return out.size();
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.fms.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Client-side outcome of every request to one endpoint: latency as the virtual
+ * user saw it, and how many failed. Recorded from all virtual users at once.
+ *
+ * Every latency is kept rather than bucketed, so percentiles are exact; a run
+ * produces at most a few million samples, and appending one costs far less
+ * than the HTTP round trip it measures.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private long[] samples = new long[1024];
+    private int count;
+    private long clientErrors;
+    private long serverErrors;
+    private long ioErrors;
+    private long bytes;
+    private long[] sorted;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param status the HTTP status, or 0 if no response arrived
+     */
+    synchronized void record(long nanos, int status, long responseBytes) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        sorted = null;
+        bytes += responseBytes;
+        if (status == 0) {
+            ioErrors++;
+        } else if (status >= 500) {
+            serverErrors++;
+        } else if (status >= 400) {
+            clientErrors++;
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized long getErrors() {
+        return clientErrors + serverErrors + ioErrors;
+    }
+
+    synchronized long getClientErrors() {
+        return clientErrors;
+    }
+
+    synchronized long getServerErrors() {
+        return serverErrors;
+    }
+
+    synchronized long getIoErrors() {
+        return ioErrors;
+    }
+
+    synchronized long getBytes() {
+        return bytes;
+    }
+
+    synchronized double getMeanMillis() {
+        if (count == 0) {
+            return 0;
+        }
+        long sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum += samples[i];
+        }
+        return sum / (double) count / 1_000_000.0;
+    }
+
+    /**
+     * The latency below which the given percentage (0-100) of requests
+     * completed, by the nearest-rank method.
+     */
+    synchronized double getPercentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (sorted == null) {
+            sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.min(count, Math.max(rank, 1)) - 1] / 1_000_000.0;
+    }
+
+    double getMaxMillis() {
+        return getPercentileMillis(100);
+    }
+}
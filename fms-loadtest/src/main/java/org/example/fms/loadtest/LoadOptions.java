@@ -0,0 +1,171 @@
+package org.example.fms.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Command line of loadtest.jar. Every option is {@code --name=value}; anything
+ * not given keeps the default shown by {@code --help}.
+ */
+final class LoadOptions {
+
+    static final String USAGE = String.join("\n",
+            "Usage: java -jar loadtest.jar [--name=value ...]",
+            "",
+            "Load:",
+            "  --users=50              concurrent virtual users",
+            "  --duration=60           measured seconds",
+            "  --warmup=10             seconds run before measuring starts",
+            "  --think=100             mean pause between a user's requests, ms (0 = back to back)",
+            "  --faculty-share=0.1     fraction of users logging in as faculty; the rest are students",
+            "  --mix=login:5,list:80,attendance:5,submission:10",
+            "                          relative weight of each operation; faculty never submit and",
+            "                          students never mark attendance, so each draws from its own share",
+            "",
+            "Population:",
+            "  --programs=2            programs, each with 8 semesters",
+            "  --students=25           students per program semester",
+            "  --subjects=4            subjects per semester",
+            "  --faculty=20            faculty members; subjects are shared out among them",
+            "  --assignments=2         assignments per subject",
+            "  --seed=42               random seed for the population and the users' choices",
+            "",
+            "Server:",
+            "  --port=18080            HTTP port of the embedded server",
+            "  --profile=benchmark     configuration profile (fms-<profile>.properties)",
+            "  --report=FILE           also write the results as JSON");
+
+    int users = 50;
+    int durationSeconds = 60;
+    int warmupSeconds = 10;
+    int thinkMillis = 100;
+    double facultyShare = 0.1;
+    final Map<Operation, Integer> mix = new LinkedHashMap<>();
+
+    int programs = 2;
+    int studentsPerSemester = 25;
+    int subjectsPerSemester = 4;
+    int faculty = 20;
+    int assignmentsPerSubject = 2;
+    long seed = 42;
+
+    int port = 18080;
+    String profile = "benchmark";
+    String report;
+
+    LoadOptions() {
+        parseMix("login:5,list:80,attendance:5,submission:10");
+    }
+
+    /**
+     * @return the options, or null if help was asked for
+     * @throws IllegalArgumentException naming the first bad option
+     */
+    static LoadOptions parse(String[] args) {
+        LoadOptions options = new LoadOptions();
+        for (String arg : args) {
+            if (arg.equals("--help") || arg.equals("-h")) {
+                return null;
+            }
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            options.set(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        options.validate();
+        return options;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "users": users = intValue(name, value); break;
+            case "duration": durationSeconds = intValue(name, value); break;
+            case "warmup": warmupSeconds = intValue(name, value); break;
+            case "think": thinkMillis = intValue(name, value); break;
+            case "faculty-share": facultyShare = doubleValue(name, value); break;
+            case "mix": mix.clear(); parseMix(value); break;
+            case "programs": programs = intValue(name, value); break;
+            case "students": studentsPerSemester = intValue(name, value); break;
+            case "subjects": subjectsPerSemester = intValue(name, value); break;
+            case "faculty": faculty = intValue(name, value); break;
+            case "assignments": assignmentsPerSubject = intValue(name, value); break;
+            case "seed": seed = longValue(name, value); break;
+            case "port": port = intValue(name, value); break;
+            case "profile": profile = value; break;
+            case "report": report = value; break;
+            default: throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+
+    private void parseMix(String value) {
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("--mix entries look like list:80, got '" + part + "'");
+            }
+            Operation operation;
+            try {
+                operation = Operation.valueOf(pair[0].trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("--mix: unknown operation '" + pair[0].trim() + "'");
+            }
+            mix.put(operation, intValue("mix", pair[1].trim()));
+        }
+    }
+
+    private void validate() {
+        require(users > 0, "--users must be at least 1");
+        require(durationSeconds > 0, "--duration must be at least 1");
+        require(warmupSeconds >= 0, "--warmup must not be negative");
+        require(thinkMillis >= 0, "--think must not be negative");
+        require(facultyShare >= 0 && facultyShare <= 1, "--faculty-share must be between 0 and 1");
+        require(programs > 0 && studentsPerSemester > 0 && subjectsPerSemester > 0 && faculty > 0,
+                "--programs, --students, --subjects and --faculty must be at least 1");
+        require(assignmentsPerSubject >= 0, "--assignments must not be negative");
+        require(port > 0 && port <= 65535, "--port must be between 1 and 65535");
+        int total = 0;
+        for (int weight : mix.values()) {
+            require(weight >= 0, "--mix weights must not be negative");
+            total += weight;
+        }
+        require(total > 0, "--mix needs at least one positive weight");
+    }
+
+    private static void require(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    private static int intValue(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a whole number, got '" + value + "'");
+        }
+    }
+
+    private static long longValue(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a whole number, got '" + value + "'");
+        }
+    }
+
+    private static double doubleValue(String name, String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " must be a number, got '" + value + "'");
+        }
+    }
+
+    /**
+     * What a virtual user does in one step.
+     */
+    enum Operation {
+        LOGIN, LIST, ATTENDANCE, SUBMISSION
+    }
+}
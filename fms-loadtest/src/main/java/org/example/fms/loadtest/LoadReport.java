@@ -0,0 +1,121 @@
+package org.example.fms.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of one run, per endpoint. Requests are only counted between
+ * {@link #startMeasuring()} and {@link #stopMeasuring()}, so warm-up traffic
+ * (JIT compilation, cold caches, first logins) stays out of the numbers.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = { 50, 90, 95, 99, 99.9 };
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean measuring;
+    private long startNanos;
+    private long endNanos;
+
+    void startMeasuring() {
+        startNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    void stopMeasuring() {
+        measuring = false;
+        endNanos = System.nanoTime();
+    }
+
+    /**
+     * @param status the HTTP status, or 0 if the request failed without a
+     *               response
+     */
+    void record(String endpoint, long nanos, int status, long bytes) {
+        if (measuring) {
+            endpoints.computeIfAbsent(endpoint, EndpointStats::new).record(nanos, status, bytes);
+        }
+    }
+
+    double getSeconds() {
+        return (endNanos - startNanos) / 1_000_000_000.0;
+    }
+
+    void print(PrintStream out) {
+        double seconds = getSeconds();
+        out.printf("%-28s %9s %9s %7s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s", "err%",
+                "mean ms", "p50", "p90", "p99", "p99.9", "max");
+        long total = 0;
+        long errors = 0;
+        for (EndpointStats stats : sorted()) {
+            total += stats.getCount();
+            errors += stats.getErrors();
+            out.printf("%-28s %9d %9.1f %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", stats.getName(),
+                    stats.getCount(), stats.getCount() / seconds, errorPercent(stats.getErrors(), stats.getCount()),
+                    stats.getMeanMillis(), stats.getPercentileMillis(50), stats.getPercentileMillis(90),
+                    stats.getPercentileMillis(99), stats.getPercentileMillis(99.9), stats.getMaxMillis());
+        }
+        out.printf("%-28s %9d %9.1f %7.2f%n", "total", total, total / seconds, errorPercent(errors, total));
+        for (EndpointStats stats : sorted()) {
+            if (stats.getErrors() > 0) {
+                out.printf("  %s: %d 4xx, %d 5xx, %d without a response%n", stats.getName(),
+                        stats.getClientErrors(), stats.getServerErrors(), stats.getIoErrors());
+            }
+        }
+    }
+
+    /**
+     * Writes the run settings and per-endpoint results as JSON, for comparing
+     * runs.
+     */
+    void writeJson(Path file, Map<String, Object> settings) throws IOException {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("settings", settings);
+        root.put("seconds", getSeconds());
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (EndpointStats stats : sorted()) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", stats.getName());
+            result.put("requests", stats.getCount());
+            result.put("throughput", stats.getCount() / getSeconds());
+            result.put("clientErrors", stats.getClientErrors());
+            result.put("serverErrors", stats.getServerErrors());
+            result.put("ioErrors", stats.getIoErrors());
+            result.put("bytes", stats.getBytes());
+            result.put("meanMillis", stats.getMeanMillis());
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (double p : PERCENTILES) {
+                percentiles.put("p" + (p == Math.rint(p) ? Long.toString((long) p) : Double.toString(p)),
+                        stats.getPercentileMillis(p));
+            }
+            percentiles.put("max", stats.getMaxMillis());
+            result.put("latencyMillis", percentiles);
+            results.add(result);
+        }
+        root.put("endpoints", results);
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), root);
+    }
+
+    private List<EndpointStats> sorted() {
+        return new ArrayList<>(new TreeMap<>(endpoints).values());
+    }
+
+    private static double errorPercent(long errors, long count) {
+        return count == 0 ? 0 : 100.0 * errors / count;
+    }
+}
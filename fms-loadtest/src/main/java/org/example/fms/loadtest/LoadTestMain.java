@@ -0,0 +1,184 @@
+package org.example.fms.loadtest;
+
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.example.fms.FmsApplication;
+import org.example.fms.core.audit.AuditLogger;
+import org.example.fms.core.config.FmsConfig;
+import org.example.fms.core.database.DatabaseConnectionManager;
+import org.example.fms.core.database.DatabaseSeeder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of loadtest.jar: measures what the server can sustain without a
+ * MySQL installation.
+ *
+ * Runs the real servlets and filters in embedded Tomcat, built exactly as
+ * {@link FmsApplication} builds them, against an in-memory H2 database in
+ * MySQL mode. The schema comes from the regular migrations and a synthetic
+ * population is seeded into it. Virtual users then log in and drive the mix of
+ * operations over HTTP; after a warm-up, throughput, errors and latency
+ * percentiles are collected per endpoint.
+ *
+ * H2 is not MySQL: absolute numbers show the cost of the server's own code
+ * (BCrypt, JSON, the pool, Tomcat) with a fast database behind it, and are
+ * most useful for comparing builds and settings with each other.
+ *
+ * Examples:
+ * <pre>
+ *   java -jar fms-loadtest/target/loadtest.jar --users=100 --duration=120
+ *   java -jar fms-loadtest/target/loadtest.jar --mix=login:100 --think=0
+ *   java -Dfms.pool.maxSize=40 -jar fms-loadtest/target/loadtest.jar --report=runs/pool40.json
+ * </pre>
+ * Any server setting can be overridden with -Dfms.&lt;key&gt;, as for the
+ * application; the database settings are always the in-memory ones.
+ */
+public class LoadTestMain {
+
+    private static final String H2_URL = "jdbc:h2:mem:fms_loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "DB_CLOSE_DELAY=-1";
+
+    private static volatile boolean running = true;
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println();
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options == null) {
+            System.out.println(LoadOptions.USAGE);
+            return;
+        }
+
+        // Must be in place before anything reads the configuration
+        Path workDir = Files.createTempDirectory("fms-loadtest");
+        System.setProperty("fms.profile", options.profile);
+        System.setProperty("fms.db.url", H2_URL);
+        System.setProperty("fms.db.user", "sa");
+        System.setProperty("fms.db.password", "");
+        System.setProperty("fms.server.port", Integer.toString(options.port));
+        System.getProperties().putIfAbsent("fms.audit.walDir", workDir.resolve("audit-wal").toString());
+        System.getProperties().putIfAbsent("fms.accessLog.file", workDir.resolve("access.log").toString());
+
+        FmsConfig config = FmsConfig.get();
+        System.out.println("Configuration profile: " + config.getProfile());
+        for (String line : config.describe()) {
+            System.out.println("  " + line);
+        }
+        System.out.println("Logs and audit journal: " + workDir);
+
+        Population population = new Population(options);
+        long start = System.nanoTime();
+        try (Connection conn = DatabaseConnectionManager.getConnection()) {
+            DatabaseSeeder.initSchema(conn);
+            population.seed(conn);
+        }
+        System.out.printf("Seeded %d students and %d faculty in %d ms%n", population.getStudentEmails().size(),
+                population.getFacultyEmails().size(), (System.nanoTime() - start) / 1_000_000);
+
+        Tomcat tomcat = FmsApplication.createServer(config);
+        tomcat.start();
+        try {
+            LoadReport report = run(options, population, "http://localhost:" + options.port);
+            System.out.println();
+            report.print(System.out);
+            System.out.println();
+            System.out.println("Server pool: " + DatabaseConnectionManager.getPoolMetrics());
+            if (options.report != null) {
+                Path file = Paths.get(options.report);
+                report.writeJson(file, settings(options, config));
+                System.out.println("Results written to " + file.toAbsolutePath());
+            }
+        } finally {
+            shutdown(tomcat);
+        }
+        System.exit(0);
+    }
+
+    private static LoadReport run(LoadOptions options, Population population, String baseUrl)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadReport report = new LoadReport();
+
+        int facultyUsers = (int) Math.round(options.users * options.facultyShare);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < options.users; i++) {
+            boolean faculty = i < facultyUsers;
+            List<String> accounts = faculty ? population.getFacultyEmails() : population.getStudentEmails();
+            String email = accounts.get((faculty ? i : i - facultyUsers) % accounts.size());
+            VirtualUser user = new VirtualUser(client, baseUrl, email, faculty, options.mix, options.thinkMillis,
+                    options.seed + i, report, () -> running);
+            Thread thread = new Thread(user, "fms-load-vu-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+
+        System.out.printf("Starting %d virtual users (%d faculty, %d students): %d s warm-up, %d s measured%n",
+                options.users, facultyUsers, options.users - facultyUsers, options.warmupSeconds,
+                options.durationSeconds);
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(options.warmupSeconds * 1000L);
+        report.startMeasuring();
+        Thread.sleep(options.durationSeconds * 1000L);
+        report.stopMeasuring();
+
+        running = false;
+        for (Thread thread : threads) {
+            thread.join(35_000);
+        }
+        return report;
+    }
+
+    private static Map<String, Object> settings(LoadOptions options, FmsConfig config) {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("users", options.users);
+        settings.put("durationSeconds", options.durationSeconds);
+        settings.put("warmupSeconds", options.warmupSeconds);
+        settings.put("thinkMillis", options.thinkMillis);
+        settings.put("facultyShare", options.facultyShare);
+        settings.put("mix", options.mix.toString());
+        settings.put("students", options.programs * 8 * options.studentsPerSemester);
+        settings.put("faculty", options.faculty);
+        settings.put("seed", options.seed);
+        settings.put("profile", config.getProfile());
+        settings.put("serverThreads", config.getServerThreads().toString());
+        settings.put("java", System.getProperty("java.version"));
+        settings.put("cpus", Runtime.getRuntime().availableProcessors());
+        return settings;
+    }
+
+    private static void shutdown(Tomcat tomcat) {
+        try {
+            tomcat.stop();
+            tomcat.destroy();
+        } catch (LifecycleException e) {
+            System.err.println("Could not stop the embedded server cleanly");
+            e.printStackTrace();
+        }
+        AuditLogger.shutdown();
+        DatabaseConnectionManager.shutdown();
+    }
+}
@@ -0,0 +1,295 @@
+package org.example.fms.loadtest;
+
+import org.example.fms.core.security.PasswordUtil;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic college for the load test: programs with 8 semesters, subjects per
+ * semester, faculty teaching them, students enrolled in every semester and
+ * open assignments. Everything derives from the seed, so two runs with the
+ * same options work on the same data.
+ *
+ * All accounts share one password, hashed once with the production work
+ * factor so logins cost what they cost in production.
+ */
+final class Population {
+
+    static final String PASSWORD = "load123";
+
+    private static final int SEMESTERS = 8;
+    private static final int BATCH_SIZE = 500;
+    private static final String DEPARTMENT_ID = "lt-dept-1";
+    private static final String[] FIRST_NAMES = { "Ram", "Sita", "Hari", "Gita", "Shyam", "Rita", "Aayush",
+            "Anjali", "Bikash", "Binita", "Sandeep", "Manisha", "Kiran", "Samir", "Pooja" };
+    private static final String[] LAST_NAMES = { "Sharma", "Thapa", "Mahat", "Gurung", "Rai", "Karki", "Adhikari",
+            "Poudel", "Pandey", "Basnet", "Lama", "Sherpa", "Tamang", "Magar", "Ghale" };
+
+    private final LoadOptions options;
+    private final Random random;
+    private final List<String> studentEmails = new ArrayList<>();
+    private final List<String> facultyEmails = new ArrayList<>();
+
+    Population(LoadOptions options) {
+        this.options = options;
+        this.random = new Random(options.seed);
+    }
+
+    List<String> getStudentEmails() {
+        return studentEmails;
+    }
+
+    List<String> getFacultyEmails() {
+        return facultyEmails;
+    }
+
+    /**
+     * Inserts the population into an empty, migrated schema in one transaction.
+     * Each table is written completely before the tables that reference it.
+     */
+    void seed(Connection conn) throws SQLException {
+        String hash = PasswordUtil.hashPassword(PASSWORD);
+        int studentCount = options.programs * SEMESTERS * options.studentsPerSemester;
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO departments (id, name) VALUES (?, ?)")) {
+                stmt.setString(1, DEPARTMENT_ID);
+                stmt.setString(2, "Load Test Department");
+                stmt.executeUpdate();
+            }
+
+            try (PreparedStatement users = conn.prepareStatement(
+                    "INSERT INTO users (id, email, password_hash) VALUES (?, ?, ?)");
+                    PreparedStatement roles = conn.prepareStatement(
+                            "INSERT INTO user_roles (id, user_id, role) VALUES (?, ?, ?)")) {
+                Batch userBatch = new Batch(users);
+                Batch roleBatch = new Batch(roles);
+                for (int i = 1; i <= options.faculty; i++) {
+                    String email = String.format("faculty%05d@load.test", i);
+                    addUser(userBatch, roleBatch, facultyUserId(i), email, hash, "faculty");
+                    facultyEmails.add(email);
+                }
+                for (int i = 1; i <= studentCount; i++) {
+                    String email = String.format("student%06d@load.test", i);
+                    addUser(userBatch, roleBatch, studentUserId(i), email, hash, "student");
+                    studentEmails.add(email);
+                }
+                userBatch.flush();
+                roleBatch.flush();
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO staff (id, staff_id, user_id, "
+                    + "full_name_en, designation, staff_type, department_id, employment_type, date_of_joining) "
+                    + "VALUES (?, ?, ?, ?, 'Lecturer', 'teaching', ?, 'permanent', ?)")) {
+                Batch batch = new Batch(stmt);
+                for (int i = 1; i <= options.faculty; i++) {
+                    stmt.setString(1, staffId(i));
+                    stmt.setString(2, String.format("LT-FAC-%05d", i));
+                    stmt.setString(3, facultyUserId(i));
+                    stmt.setString(4, name());
+                    stmt.setString(5, DEPARTMENT_ID);
+                    stmt.setDate(6, Date.valueOf(LocalDate.of(2015, 1, 1).plusDays(random.nextInt(3000))));
+                    batch.add();
+                }
+                batch.flush();
+            }
+
+            try (PreparedStatement programs = conn.prepareStatement("INSERT INTO programs (id, name, code, "
+                    + "department_id, duration_years) VALUES (?, ?, ?, ?, 4.0)");
+                    PreparedStatement semesters = conn.prepareStatement(
+                            "INSERT INTO semesters (id, program_id, semester_number, name) VALUES (?, ?, ?, ?)");
+                    PreparedStatement subjects = conn.prepareStatement("INSERT INTO subjects (id, code, name, "
+                            + "credits, program_id, semester_id) VALUES (?, ?, ?, 3, ?, ?)")) {
+                Batch subjectBatch = new Batch(subjects);
+                for (int p = 1; p <= options.programs; p++) {
+                    programs.setString(1, programId(p));
+                    programs.setString(2, "Load Test Program " + p);
+                    programs.setString(3, "LT" + p);
+                    programs.setString(4, DEPARTMENT_ID);
+                    programs.executeUpdate();
+                    for (int sem = 1; sem <= SEMESTERS; sem++) {
+                        semesters.setString(1, semesterId(p, sem));
+                        semesters.setString(2, programId(p));
+                        semesters.setInt(3, sem);
+                        semesters.setString(4, "Semester " + sem);
+                        semesters.executeUpdate();
+                        for (int s = 1; s <= options.subjectsPerSemester; s++) {
+                            subjects.setString(1, subjectId(p, sem, s));
+                            subjects.setString(2, "LT" + p + "-" + sem + String.format("%02d", s));
+                            subjects.setString(3, "Subject " + p + "." + sem + "." + s);
+                            subjects.setString(4, programId(p));
+                            subjects.setString(5, semesterId(p, sem));
+                            subjectBatch.add();
+                        }
+                    }
+                }
+                subjectBatch.flush();
+            }
+
+            // Subjects are shared out round-robin; the teacher also sets the assignments
+            try (PreparedStatement teaching = conn.prepareStatement("INSERT INTO course_assignments (id, "
+                    + "staff_id, subject_id, academic_year, semester_id, assigned_date) "
+                    + "VALUES (?, ?, ?, '2081', ?, ?)");
+                    PreparedStatement assignments = conn.prepareStatement("INSERT INTO assignments (id, "
+                            + "subject_id, title, description, deadline, created_by) VALUES (?, ?, ?, ?, ?, ?)")) {
+                Batch teachingBatch = new Batch(teaching);
+                Batch assignmentBatch = new Batch(assignments);
+                int subjectCount = 0;
+                for (int p = 1; p <= options.programs; p++) {
+                    for (int sem = 1; sem <= SEMESTERS; sem++) {
+                        for (int s = 1; s <= options.subjectsPerSemester; s++) {
+                            String subjectId = subjectId(p, sem, s);
+                            int teacher = 1 + subjectCount++ % options.faculty;
+                            teaching.setString(1, subjectId + "-ca");
+                            teaching.setString(2, staffId(teacher));
+                            teaching.setString(3, subjectId);
+                            teaching.setString(4, semesterId(p, sem));
+                            teaching.setDate(5, Date.valueOf(LocalDate.of(2024, 1, 1)));
+                            teachingBatch.add();
+                            for (int a = 1; a <= options.assignmentsPerSubject; a++) {
+                                assignments.setString(1, subjectId + "-asg-" + a);
+                                assignments.setString(2, subjectId);
+                                assignments.setString(3, "Assignment " + a);
+                                assignments.setString(4, "Synthetic assignment for load testing");
+                                assignments.setTimestamp(5, Timestamp.valueOf(
+                                        LocalDateTime.now().plusDays(1 + random.nextInt(60))));
+                                assignments.setString(6, facultyUserId(teacher));
+                                assignmentBatch.add();
+                            }
+                        }
+                    }
+                }
+                teachingBatch.flush();
+                assignmentBatch.flush();
+            }
+
+            // Students, spread evenly over every program semester
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO students (id, student_id, user_id, "
+                    + "full_name_en, date_of_birth, gender, nationality, address, phone, guardian_name, "
+                    + "guardian_phone, guardian_relationship, program_id, current_semester) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, 'Nepali', 'Kathmandu', ?, ?, ?, 'Father', ?, ?)")) {
+                Batch batch = new Batch(stmt);
+                int n = 0;
+                for (int p = 1; p <= options.programs; p++) {
+                    for (int sem = 1; sem <= SEMESTERS; sem++) {
+                        for (int i = 1; i <= options.studentsPerSemester; i++) {
+                            n++;
+                            stmt.setString(1, String.format("lt-stu-%06d", n));
+                            stmt.setString(2, String.format("LT-STU-%06d", n));
+                            stmt.setString(3, studentUserId(n));
+                            stmt.setString(4, name());
+                            stmt.setDate(5, Date.valueOf(LocalDate.of(2000, 1, 1).plusDays(random.nextInt(2500))));
+                            stmt.setString(6, random.nextBoolean() ? "Male" : "Female");
+                            stmt.setString(7, phone());
+                            stmt.setString(8, name());
+                            stmt.setString(9, phone());
+                            stmt.setString(10, programId(p));
+                            stmt.setInt(11, sem);
+                            batch.add();
+                        }
+                    }
+                }
+                batch.flush();
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement("INSERT INTO notices (id, title, content, "
+                    + "target_audience, published_by) VALUES (?, ?, ?, 'all', ?)")) {
+                Batch batch = new Batch(stmt);
+                for (int i = 1; i <= 20; i++) {
+                    stmt.setString(1, "lt-notice-" + i);
+                    stmt.setString(2, "Notice " + i);
+                    stmt.setString(3, "Synthetic notice for load testing.");
+                    stmt.setString(4, facultyUserId(1 + i % options.faculty));
+                    batch.add();
+                }
+                batch.flush();
+            }
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static String facultyUserId(int i) {
+        return String.format("lt-fac-user-%05d", i);
+    }
+
+    private static String staffId(int i) {
+        return String.format("lt-staff-%05d", i);
+    }
+
+    private static String studentUserId(int i) {
+        return String.format("lt-stu-user-%06d", i);
+    }
+
+    private static String programId(int p) {
+        return "lt-prog-" + p;
+    }
+
+    private static String semesterId(int p, int sem) {
+        return programId(p) + "-sem-" + sem;
+    }
+
+    private static String subjectId(int p, int sem, int s) {
+        return semesterId(p, sem) + "-sub-" + s;
+    }
+
+    private void addUser(Batch users, Batch roles, String userId, String email, String hash, String role)
+            throws SQLException {
+        users.statement.setString(1, userId);
+        users.statement.setString(2, email);
+        users.statement.setString(3, hash);
+        users.add();
+        roles.statement.setString(1, userId + "-role");
+        roles.statement.setString(2, userId);
+        roles.statement.setString(3, role);
+        roles.add();
+    }
+
+    private String name() {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    private String phone() {
+        return "98" + (10_000_000 + random.nextInt(90_000_000));
+    }
+
+    /**
+     * A prepared statement whose rows are sent in batches of {@link #BATCH_SIZE}.
+     */
+    private static final class Batch {
+        final PreparedStatement statement;
+        private int pending;
+
+        Batch(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        void add() throws SQLException {
+            statement.addBatch();
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+    }
+}
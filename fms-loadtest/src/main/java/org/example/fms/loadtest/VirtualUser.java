@@ -0,0 +1,274 @@
+package org.example.fms.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.example.fms.loadtest.LoadOptions.Operation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * One simulated desktop client: logs in, then keeps drawing operations from
+ * the mix until the run ends, pausing between them like a person would.
+ *
+ * Requests look like the Swing client's: a Bearer token, gzip accepted and
+ * the same dashboard list and create calls. Faculty find their classes and
+ * rosters through the API before marking attendance; students look up their
+ * assignments before submitting one.
+ */
+final class VirtualUser implements Runnable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final long MAX_RETRY_AFTER_SECONDS = 10;
+    private static final String[] STUDENT_LISTS = { "notices", "subjects", "library", "my_subjects",
+            "my_assignments", "my_attendance", "my_results" };
+    private static final String[] FACULTY_LISTS = { "notices", "subjects", "faculty_classes",
+            "faculty_assignments", "students", "staff", "leaves" };
+    private static final String[] ATTENDANCE_STATUSES = { "present", "present", "present", "present", "absent",
+            "late" };
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final String email;
+    private final boolean faculty;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int thinkMillis;
+    private final Random random;
+    private final LoadReport report;
+    private final BooleanSupplier running;
+
+    private String token;
+    private List<String> subjectIds;
+
+    VirtualUser(HttpClient client, String baseUrl, String email, boolean faculty, Map<Operation, Integer> mix,
+            int thinkMillis, long seed, LoadReport report, BooleanSupplier running) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.email = email;
+        this.faculty = faculty;
+        this.thinkMillis = thinkMillis;
+        this.random = new Random(seed);
+        this.report = report;
+        this.running = running;
+
+        // Each persona only draws the operations it can perform
+        List<Operation> allowed = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            Operation operation = entry.getKey();
+            if (entry.getValue() > 0 && (operation != Operation.ATTENDANCE || faculty)
+                    && (operation != Operation.SUBMISSION || !faculty)) {
+                total += entry.getValue();
+                allowed.add(operation);
+                weights.add(total);
+            }
+        }
+        if (allowed.isEmpty()) {
+            allowed.add(Operation.LIST);
+            weights.add(1);
+        }
+        this.operations = allowed.toArray(new Operation[0]);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running.getAsBoolean()) {
+                if (token == null) {
+                    login();
+                } else {
+                    perform(next());
+                }
+                think();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            System.err.println("Virtual user " + email + " stopped: " + e);
+            e.printStackTrace();
+        }
+    }
+
+    private void perform(Operation operation) throws InterruptedException {
+        switch (operation) {
+            case LOGIN:
+                login();
+                break;
+            case LIST:
+                String[] lists = faculty ? FACULTY_LISTS : STUDENT_LISTS;
+                list(lists[random.nextInt(lists.length)], null);
+                break;
+            case ATTENDANCE:
+                markAttendance();
+                break;
+            case SUBMISSION:
+                submitAssignment();
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private Operation next() {
+        int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void login() throws InterruptedException {
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("email", email);
+        body.put("password", Population.PASSWORD);
+        HttpResponse<byte[]> response = send("POST login", post("/api/v1/auth/login", body));
+        JsonNode json = response != null && response.statusCode() == 200 ? parse(response) : null;
+        token = json != null ? json.path("data").path("token").asText(null) : null;
+        if (response != null && response.statusCode() == 503) {
+            // The BCrypt queue is full; back off for as long as the server asks
+            long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            Thread.sleep(Math.min(seconds, MAX_RETRY_AFTER_SECONDS) * 1000);
+        }
+    }
+
+    /**
+     * Fetches the first page of a dashboard list.
+     *
+     * @return the items, or null if the request failed
+     */
+    private JsonNode list(String type, String extraQuery) throws InterruptedException {
+        String path = "/api/v1/dashboard/data?type=" + type + (extraQuery != null ? "&" + extraQuery : "");
+        HttpResponse<byte[]> response = send("GET " + type, authorized(path).GET());
+        if (response == null) {
+            return null;
+        }
+        if (response.statusCode() == 401) {
+            token = null; // Expired; log in again on the next step
+        }
+        JsonNode json = response.statusCode() == 200 ? parse(response) : null;
+        return json != null ? json.path("items") : null;
+    }
+
+    private void markAttendance() throws InterruptedException {
+        if (subjectIds == null) {
+            JsonNode classes = list("faculty_classes", null);
+            if (classes == null) {
+                return;
+            }
+            subjectIds = new ArrayList<>();
+            for (JsonNode item : classes) {
+                subjectIds.add(item.path("subject_id").asText());
+            }
+        }
+        if (subjectIds.isEmpty()) {
+            return;
+        }
+        String subjectId = subjectIds.get(random.nextInt(subjectIds.size()));
+        JsonNode roster = list("class_students", "subject_id=" + URLEncoder.encode(subjectId, StandardCharsets.UTF_8));
+        if (roster == null || roster.isEmpty()) {
+            return;
+        }
+
+        // Re-marking a recent day exercises the update path as well as inserts
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("date", LocalDate.now().minusDays(random.nextInt(30)).toString());
+        ArrayNode attendances = body.putArray("attendances");
+        for (JsonNode student : roster) {
+            ObjectNode mark = attendances.addObject();
+            mark.put("student_id", student.path("id").asText());
+            mark.put("status", ATTENDANCE_STATUSES[random.nextInt(ATTENDANCE_STATUSES.length)]);
+        }
+        send("POST mark_attendance", withToken(post("/api/v1/dashboard/data?type=mark_attendance", body)));
+    }
+
+    private void submitAssignment() throws InterruptedException {
+        JsonNode assignments = list("my_assignments", null);
+        if (assignments == null || assignments.isEmpty()) {
+            return;
+        }
+        JsonNode assignment = assignments.get(random.nextInt(assignments.size()));
+        ObjectNode body = MAPPER.createObjectNode();
+        body.put("assignment_id", assignment.path("id").asText());
+        body.put("content", "Submitted by the load test at " + System.currentTimeMillis());
+        send("POST submissions", withToken(post("/api/v1/dashboard/data?type=submissions", body)));
+    }
+
+    private HttpRequest.Builder post(String path, JsonNode body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return withToken(HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT));
+    }
+
+    private HttpRequest.Builder withToken(HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + token).header("Accept-Encoding", "gzip");
+    }
+
+    /**
+     * Sends a request and records its latency under the endpoint name.
+     *
+     * @return the response, or null if none arrived
+     */
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            report.record(endpoint, System.nanoTime() - start, response.statusCode(), response.body().length);
+            return response;
+        } catch (IOException e) {
+            report.record(endpoint, System.nanoTime() - start, 0, 0);
+            return null;
+        }
+    }
+
+    private static JsonNode parse(HttpResponse<byte[]> response) {
+        try (InputStream in = decoded(response)) {
+            return MAPPER.readTree(in);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static InputStream decoded(HttpResponse<byte[]> response) throws IOException {
+        InputStream in = new ByteArrayInputStream(response.body());
+        boolean gzip = response.headers().firstValue("Content-Encoding").map("gzip"::equalsIgnoreCase)
+                .orElse(false);
+        return gzip ? new GZIPInputStream(in) : in;
+    }
+
+    /**
+     * Waits a random time averaging the configured think time.
+     */
+    private void think() throws InterruptedException {
+        if (thinkMillis > 0) {
+            Thread.sleep(random.nextInt(2 * thinkMillis + 1));
+        }
+    }
+}